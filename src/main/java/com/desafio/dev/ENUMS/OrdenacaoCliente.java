@@ -0,0 +1,19 @@
+package com.desafio.dev.ENUMS;
+
+/**
+ * Enum que representa as ordenações disponíveis na listagem paginada de clientes.
+ *
+ * Cada ordenação é atendida por uma consulta keyset (cursor) própria:
+ * - ID: ordena pelo identificador do cliente (chave primária)
+ * - NOME: ordena pelo nome e, em caso de empate, pelo identificador
+ *   (índice composto idx_cliente_nome_id)
+ *
+ * @see com.desafio.dev.model.Cliente
+ */
+public enum OrdenacaoCliente {
+    /** Ordenação pelo identificador do cliente */
+    ID,
+
+    /** Ordenação pelo nome do cliente, desempatada pelo identificador */
+    NOME
+}
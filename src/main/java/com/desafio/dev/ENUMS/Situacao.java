@@ -1,5 +1,7 @@
 package com.desafio.dev.ENUMS;
 
+import java.util.List;
+
 /**
  * Enum que representa os possíveis estados de uma conta no sistema.
  *
@@ -18,5 +20,20 @@ public enum Situacao {
     PAGA,
     
     /** Representa uma conta que foi cancelada */
-    CANCELADA
+    CANCELADA;
+
+    /**
+     * Retorna as situações a partir das quais uma conta pode passar para esta situação.
+     * Uma conta PENDENTE pode ser paga ou cancelada, uma conta PAGA pode ser cancelada
+     * e uma conta CANCELADA não muda mais de situação; nenhuma conta volta a ser PENDENTE.
+     *
+     * @return situações de origem permitidas (vazia se a situação não puder ser destino de uma transição)
+     */
+    public List<Situacao> origensPermitidas() {
+        return switch (this) {
+            case PENDENTE -> List.of();
+            case PAGA -> List.of(PENDENTE);
+            case CANCELADA -> List.of(PENDENTE, PAGA);
+        };
+    }
 }
@@ -0,0 +1,25 @@
+package com.desafio.dev.ENUMS;
+
+/**
+ * Enum que representa o resultado do processamento de cada item de uma operação em lote.
+ *
+ * - CRIADO: o item foi validado e persistido com sucesso
+ * - DUPLICADO: o item conflita com um registro já existente ou com outro item do lote
+ * - INVALIDO: o item não atende às validações da entidade
+ * - NAO_ENCONTRADO: o registro ao qual o item se refere (ex.: o cliente da conta) não existe
+ *
+ * @see com.desafio.dev.dtos.batch.BatchItemResultDTO
+ */
+public enum StatusItemLote {
+    /** Item persistido com sucesso */
+    CRIADO,
+
+    /** Item já existente no banco de dados ou repetido no próprio lote */
+    DUPLICADO,
+
+    /** Item que não atende às validações da entidade */
+    INVALIDO,
+
+    /** Item que se refere a um registro inexistente */
+    NAO_ENCONTRADO
+}
@@ -0,0 +1,25 @@
+package com.desafio.dev.ENUMS;
+
+/**
+ * Enum que representa o tipo de um evento de conta registrado na outbox.
+ *
+ * - CRIADA: a conta foi criada
+ * - ATUALIZADA: os dados da conta (referência, valor ou situação) foram alterados
+ * - SITUACAO_ALTERADA: somente a situação da conta foi alterada (ex.: paga ou cancelada)
+ * - REMOVIDA: a conta foi removida junto com o seu cliente
+ *
+ * @see com.desafio.dev.model.OutboxEvento
+ */
+public enum TipoEventoConta {
+    /** Conta criada */
+    CRIADA,
+
+    /** Dados da conta alterados */
+    ATUALIZADA,
+
+    /** Situação da conta alterada */
+    SITUACAO_ALTERADA,
+
+    /** Conta removida junto com o cliente */
+    REMOVIDA
+}
@@ -0,0 +1,17 @@
+package com.desafio.dev.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Habilita a execução de métodos anotados com {@code @Async}, como a remoção de clientes
+ * em segundo plano. As tarefas são executadas no executor padrão configurado pelo
+ * Spring Boot (propriedades {@code spring.task.execution.*}).
+ *
+ * Os proxies são criados por subclasse, pois os controladores injetam as implementações
+ * dos serviços (ex.: ClienteServiceImpl) e não as interfaces.
+ */
+@Configuration
+@EnableAsync(proxyTargetClass = true)
+public class AsyncConfig {
+}
@@ -0,0 +1,28 @@
+package com.desafio.dev.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache de leitura de clientes.
+ *
+ * O provedor e os limites dos caches são definidos em application.properties
+ * (Caffeine, com limite de tamanho e expiração). Para executar a aplicação sem
+ * cache basta ativar o perfil {@code sem-cache}, que utiliza {@code spring.cache.type=none}.
+ * As estatísticas de acertos, falhas e remoções são publicadas pelo Actuator
+ * nas métricas {@code cache.gets}, {@code cache.evictions} e {@code cache.size}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache de clientes por ID, contendo os DTOs de resposta.
+     */
+    public static final String CLIENTES = "clientes";
+
+    /**
+     * Cache do ID do cliente a partir do CPF.
+     */
+    public static final String CLIENTES_POR_CPF = "clientesPorCpf";
+}
@@ -0,0 +1,117 @@
+package com.desafio.dev.config;
+
+import com.desafio.dev.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração das réplicas de leitura, habilitada com {@code app.datasource.replicas.habilitado=true}.
+ *
+ * O banco primário continua configurado por {@code spring.datasource.*}; as réplicas são
+ * informadas em {@code app.datasource.replicas.urls} (separadas por vírgula) e utilizam as
+ * mesmas credenciais, exceto se {@code app.datasource.replicas.username/password} forem
+ * informados. O DataSource da aplicação passa a ser um {@link LazyConnectionDataSourceProxy}
+ * sobre o {@link ReadWriteRoutingDataSource}: as transações somente leitura utilizam as
+ * réplicas e as demais (incluindo o Flyway e os acessos sem transação) o primário.
+ *
+ * Métricas publicadas: {@code datasource.replicas.disponiveis} e {@code datasource.leituras.fallback}
+ * (leituras enviadas ao primário sem réplica disponível), além das métricas {@code hikaricp.*}
+ * de cada pool ({@code pool=primario}, {@code replica-1}, ...).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.habilitado", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * Pool de conexões do banco primário, com as propriedades {@code spring.datasource.hikari.*}.
+     *
+     * @param properties propriedades {@code spring.datasource.*}
+     * @return pool do primário
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource primario = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primario.setPoolName("primario");
+        return primario;
+    }
+
+    /**
+     * Roteamento entre o primário e os pools das réplicas.
+     *
+     * @param primarioDataSource pool do primário
+     * @param properties propriedades {@code spring.datasource.*}
+     * @param urls URLs JDBC das réplicas
+     * @param username usuário das réplicas (padrão: o do primário)
+     * @param password senha das réplicas (padrão: a do primário)
+     * @param tamanhoPool quantidade máxima de conexões de cada réplica
+     * @param timeoutConexao tempo máximo de espera por uma conexão de réplica
+     * @param fallbackPrimario indica se as leituras vão para o primário sem réplica disponível
+     * @param meterRegistry registro onde são publicadas as métricas
+     * @return DataSource de roteamento
+     */
+    @Bean
+    public ReadWriteRoutingDataSource roteamentoDataSource(
+            HikariDataSource primarioDataSource, DataSourceProperties properties,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.username:}") String username,
+            @Value("${app.datasource.replicas.password:}") String password,
+            @Value("${app.datasource.replicas.tamanho-pool:10}") int tamanhoPool,
+            @Value("${app.datasource.replicas.timeout-conexao:2s}") Duration timeoutConexao,
+            @Value("${app.datasource.replicas.fallback-primario:true}") boolean fallbackPrimario,
+            MeterRegistry meterRegistry) {
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+                    .url(url.strip())
+                    .username(username.isEmpty() ? properties.determineUsername() : username)
+                    .password(password.isEmpty() ? properties.determinePassword() : password)
+                    .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(tamanhoPool);
+            replica.setConnectionTimeout(timeoutConexao.toMillis());
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReadWriteRoutingDataSource.Replica(replica.getPoolName(), replica));
+        }
+        ReadWriteRoutingDataSource roteamento = new ReadWriteRoutingDataSource(primarioDataSource, replicas,
+                fallbackPrimario, (int) Math.max(1, timeoutConexao.toSeconds()));
+        Gauge.builder("datasource.replicas.disponiveis", roteamento, ReadWriteRoutingDataSource::getReplicasDisponiveis)
+                .description("Réplicas de leitura disponíveis na última verificação")
+                .register(meterRegistry);
+        FunctionCounter.builder("datasource.leituras.fallback", roteamento, ReadWriteRoutingDataSource::getLeiturasNoPrimario)
+                .description("Conexões de leitura enviadas ao primário por falta de réplicas disponíveis")
+                .register(meterRegistry);
+        return roteamento;
+    }
+
+    /**
+     * DataSource utilizado pela aplicação, que obtém a conexão real somente no primeiro comando,
+     * quando a transação já foi marcada como somente leitura ou não.
+     *
+     * @param roteamentoDataSource DataSource de roteamento
+     * @return DataSource principal da aplicação
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource roteamentoDataSource) {
+        return new LazyConnectionDataSourceProxy(roteamentoDataSource);
+    }
+}
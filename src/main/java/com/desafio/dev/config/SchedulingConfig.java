@@ -0,0 +1,43 @@
+package com.desafio.dev.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Habilita a execução dos jobs agendados com {@code @Scheduled} (pacote jobs) e declara
+ * os executores utilizados por eles.
+ *
+ * Como os executores declarados aqui fariam o Spring Boot deixar de criar o executor padrão,
+ * a propriedade {@code spring.task.execution.mode=force} mantém o {@code applicationTaskExecutor}
+ * para os métodos {@code @Async}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Nome do executor das faixas da reconciliação dos saldos dos clientes.
+     */
+    public static final String SALDO_RECONCILIACAO_EXECUTOR = "saldoReconciliacaoExecutor";
+
+    /**
+     * Executor que reconcilia as faixas de clientes em paralelo. As threads são encerradas
+     * quando ociosas, já que a reconciliação é executada poucas vezes ao dia.
+     *
+     * @param paralelismo quantidade de faixas reconciliadas ao mesmo tempo
+     * @return executor gerenciado pelo Spring (encerrado junto com a aplicação)
+     */
+    @Bean(SALDO_RECONCILIACAO_EXECUTOR)
+    public ThreadPoolTaskExecutor saldoReconciliacaoExecutor(
+            @Value("${app.saldo.reconciliacao.paralelismo:4}") int paralelismo) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(paralelismo);
+        executor.setMaxPoolSize(paralelismo);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("saldo-reconciliacao-");
+        return executor;
+    }
+}
@@ -1,22 +1,41 @@
 package com.desafio.dev.controller;
 
+import com.desafio.dev.ENUMS.OrdenacaoCliente;
+import com.desafio.dev.dtos.batch.BatchItemResultDTO;
+import com.desafio.dev.dtos.cliente.ClientePageResponseDTO;
 import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
 import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.exceptions.ClienteVersionMismatchException;
+import com.desafio.dev.exceptions.InvalidBatchLineException;
+import com.desafio.dev.idempotency.Idempotente;
 import com.desafio.dev.service.implentacion.ClienteServiceImpl;
 
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Consumer;
 
 /**
  * Controlador responsável por gerenciar as operações relacionadas a clientes.
@@ -36,6 +55,12 @@ public class ClienteController {
     @Autowired
     private ClienteServiceImpl clienteService;
 
+    /**
+     * Mapeador utilizado para ler os clientes e escrever os resultados da importação em lote.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Cria um novo cliente no sistema.
      * 
@@ -52,35 +77,268 @@ public class ClienteController {
                 content = @Content(schema = @Schema(implementation = ClienteResponseDTO.class)))}
     
     )
+    @Idempotente
     @PostMapping
     public ResponseEntity<ClienteResponseDTO> createCliente(@Valid @RequestBody ClienteRequestDTO clienteRequestDTO) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(clienteService.save(clienteRequestDTO));
+        ClienteResponseDTO cliente = clienteService.save(clienteRequestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(etag(cliente)).body(cliente);
+    }
+
+    /**
+     * Cria clientes em lote a partir de um array JSON.
+     * Os itens são lidos sob demanda e o resultado de cada um é escrito na resposta
+     * à medida que os blocos são gravados.
+     * 
+     * @param body corpo da requisição
+     * @param response resposta na qual o resultado de cada item é escrito
+     * @throws IOException se ocorrer um erro ao ler a requisição ou escrever a resposta
+     */
+    @Operation(
+        summary = "Criar clientes em lote",
+        description = "Registra vários clientes em uma única requisição (array JSON ou NDJSON), retornando o resultado de cada item",
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = ClienteRequestDTO.class)))),
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Lote processado",
+                content = @Content(schema = @Schema(implementation = BatchItemResultDTO[].class)))}
+    
+    )
+    @Idempotente
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void createClientes(InputStream body, HttpServletResponse response) throws IOException {
+        importar(body, response);
+    }
+
+    /**
+     * Cria clientes em lote a partir de um corpo NDJSON (um cliente por linha).
+     * As linhas são lidas sob demanda e o resultado de cada item é escrito na resposta
+     * à medida que os blocos são gravados.
+     * 
+     * @param body corpo da requisição
+     * @param response resposta na qual o resultado de cada item é escrito
+     * @throws IOException se ocorrer um erro ao ler a requisição ou escrever a resposta
+     */
+    @Idempotente
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createClientesNdjson(InputStream body, HttpServletResponse response) throws IOException {
+        importar(body, response);
+    }
+
+    /**
+     * Importa os clientes do corpo da requisição, sem carregar em memória nem os itens
+     * nem os resultados. O leitor do Jackson percorre tanto os elementos de um array JSON
+     * quanto os valores de um NDJSON, e os resultados são escritos como um array JSON.
+     *
+     * @param body corpo da requisição
+     * @param response resposta na qual o resultado de cada item é escrito
+     * @throws IOException se ocorrer um erro ao ler a requisição ou escrever a resposta
+     */
+    private void importar(InputStream body, HttpServletResponse response) throws IOException {
+        try (MappingIterator<ClienteRequestDTO> clientes = objectMapper.readerFor(ClienteRequestDTO.class).readValues(body)) {
+            ResultadosLote resultados = new ResultadosLote(response);
+            clienteService.saveAll(itens(clientes), resultados);
+            resultados.concluir();
+        }
+    }
+
+    /**
+     * Escreve os resultados da importação em lote na resposta, como um array JSON.
+     * A resposta só é iniciada no primeiro resultado, para que um lote cujo primeiro item
+     * é inválido ainda possa ser respondido com 400.
+     */
+    private class ResultadosLote implements Consumer<BatchItemResultDTO> {
+
+        private final HttpServletResponse response;
+
+        private SequenceWriter saida;
+
+        ResultadosLote(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void accept(BatchItemResultDTO resultado) {
+            try {
+                iniciar().write(resultado);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void concluir() throws IOException {
+            iniciar().close();
+        }
+
+        private SequenceWriter iniciar() throws IOException {
+            if (saida == null) {
+                response.setStatus(HttpStatus.OK.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                saida = objectMapper.writerFor(BatchItemResultDTO.class).writeValuesAsArray(response.getOutputStream());
+            }
+            return saida;
+        }
     }
 
     /**
-     * Retorna a lista de todos os clientes cadastrados no sistema.
+     * Adapta o iterador do Jackson para que um item inválido interrompa a leitura
+     * com o número da linha, em vez de um erro genérico de leitura.
+     *
+     * @param clientes iterador sobre os itens do corpo
+     * @return iterador que lança {@link InvalidBatchLineException} ao encontrar um item inválido
+     */
+    private static Iterator<ClienteRequestDTO> itens(MappingIterator<ClienteRequestDTO> clientes) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return clientes.hasNextValue();
+                } catch (IOException e) {
+                    throw linhaInvalida(clientes, e);
+                }
+            }
+
+            @Override
+            public ClienteRequestDTO next() {
+                try {
+                    return clientes.nextValue();
+                } catch (IOException e) {
+                    throw linhaInvalida(clientes, e);
+                }
+            }
+        };
+    }
+
+    private static RuntimeException linhaInvalida(MappingIterator<ClienteRequestDTO> clientes, IOException e) {
+        if (!(e instanceof JsonProcessingException json)) {
+            return new UncheckedIOException(e);
+        }
+        JsonLocation local = json.getLocation() != null ? json.getLocation() : clientes.getCurrentLocation();
+        return new InvalidBatchLineException(local.getLineNr());
+    }
+
+    /**
+     * Retorna uma página de clientes cadastrados no sistema.
      * 
-     * @return ResponseEntity contendo a lista de clientes
+     * @param after cursor retornado na página anterior (omitido na primeira página)
+     * @param size quantidade de clientes por página
+     * @param sort ordenação desejada (ID ou NOME)
+     * @return ResponseEntity contendo a página de clientes e o cursor da próxima página
      */
     @Operation(
-        summary = "Listar todos os clientes",
-        description = "Recupera todos os clientes cadastrados",
+        summary = "Listar clientes",
+        description = "Recupera os clientes cadastrados em páginas, utilizando paginação por cursor",
+        parameters = {
+            @Parameter(name = "after", description = "Cursor retornado no campo 'next' da página anterior"),
+            @Parameter(name = "size", description = "Quantidade de clientes por página (máximo 500)", example = "50"),
+            @Parameter(name = "sort", description = "Ordenação da listagem (ID ou NOME)", example = "ID")},
         responses = {
             @ApiResponse(
                 responseCode = "200",
-                description = "Lista de clientes recuperada com sucesso",
-                content = @Content(schema = @Schema(implementation = ClienteResponseDTO[].class)))}
+                description = "Página de clientes recuperada com sucesso",
+                content = @Content(schema = @Schema(implementation = ClientePageResponseDTO.class)))}
     
     )
     @GetMapping
-    public ResponseEntity<List<ClienteResponseDTO>> findAllClientes() {
-        return ResponseEntity.status(HttpStatus.OK).body(clienteService.findAll());
+    public ResponseEntity<ClientePageResponseDTO> findAllClientes(@RequestParam(required = false) String after,
+                                                                  @RequestParam(required = false) Integer size,
+                                                                  @RequestParam(defaultValue = "ID") OrdenacaoCliente sort) {
+        return ResponseEntity.status(HttpStatus.OK).body(clienteService.findAll(after, size, sort));
+    }
+
+    /**
+     * Busca clientes por parte do nome, e-mail ou telefone.
+     * 
+     * @param q termo buscado (mínimo de 3 caracteres)
+     * @param after cursor retornado na página anterior (omitido na primeira página)
+     * @param size quantidade de clientes por página
+     * @return ResponseEntity contendo a página de clientes encontrados e o cursor da próxima página
+     */
+    @Operation(
+        summary = "Buscar clientes",
+        description = "Busca clientes cujo nome, e-mail ou telefone contenham o termo informado, sem diferenciar maiúsculas de minúsculas",
+        parameters = {
+            @Parameter(name = "q", description = "Termo buscado (mínimo de 3 caracteres)", example = "silva"),
+            @Parameter(name = "after", description = "Cursor retornado no campo 'next' da página anterior"),
+            @Parameter(name = "size", description = "Quantidade de clientes por página (máximo 500)", example = "50")},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Busca realizada com sucesso",
+                content = @Content(schema = @Schema(implementation = ClientePageResponseDTO.class)))}
+    
+    )
+    @GetMapping("/search")
+    public ResponseEntity<ClientePageResponseDTO> searchClientes(@RequestParam String q,
+                                                                 @RequestParam(required = false) String after,
+                                                                 @RequestParam(required = false) Integer size) {
+        return ResponseEntity.status(HttpStatus.OK).body(clienteService.search(q, after, size));
+    }
+
+    /**
+     * Busca um cliente pelo ID.
+     * A resposta contém o ETag com a versão do cliente; se o cabeçalho If-None-Match
+     * corresponder à versão atual, é retornado 304 sem corpo.
+     * 
+     * @param id ID do cliente
+     * @return ResponseEntity contendo os dados do cliente
+     */
+    @Operation(
+        summary = "Buscar cliente por ID",
+        description = "Recupera os dados de um cliente a partir do seu ID",
+        parameters = {
+            @Parameter(name = "id", description = "ID do cliente", example = "123")},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Cliente encontrado",
+                content = @Content(schema = @Schema(implementation = ClienteResponseDTO.class))),
+            @ApiResponse(
+                responseCode = "304",
+                description = "Cliente não modificado desde a versão informada no If-None-Match")}
+    
+    )
+    @GetMapping("/{id}")
+    public ResponseEntity<ClienteResponseDTO> findCliente(@PathVariable Long id) {
+        ClienteResponseDTO cliente = clienteService.findById(id);
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag(cliente)).body(cliente);
+    }
+
+    /**
+     * Busca um cliente pelo CPF.
+     * 
+     * @param cpf CPF do cliente no formato xxx.xxx.xxx-xx
+     * @return ResponseEntity contendo os dados do cliente
+     */
+    @Operation(
+        summary = "Buscar cliente por CPF",
+        description = "Recupera os dados de um cliente a partir do seu CPF",
+        parameters = {
+            @Parameter(name = "cpf", description = "CPF do cliente", example = "123.456.789-00")},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Cliente encontrado",
+                content = @Content(schema = @Schema(implementation = ClienteResponseDTO.class))),
+            @ApiResponse(
+                responseCode = "304",
+                description = "Cliente não modificado desde a versão informada no If-None-Match")}
+    
+    )
+    @GetMapping("/cpf/{cpf}")
+    public ResponseEntity<ClienteResponseDTO> findClienteByCpf(@PathVariable String cpf) {
+        ClienteResponseDTO cliente = clienteService.findByCpf(cpf);
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag(cliente)).body(cliente);
     }
 
     /**
      * Atualiza os dados de um cliente existente.
+     * Se o cabeçalho If-Match for informado, o cliente só é atualizado se ainda estiver
+     * na versão indicada; caso contrário é retornado 412.
      * 
      * @param id ID do cliente a ser atualizado
+     * @param ifMatch ETag da versão do cliente conhecida pelo chamador (opcional)
      * @param clienteRequestDTO DTO contendo os novos dados do cliente
      * @return ResponseEntity contendo os dados atualizados do cliente
      */
@@ -88,42 +346,91 @@ public class ClienteController {
         summary = "Atualizar cliente",
         description = "Atualiza os dados de um cliente existente",
         parameters = {
-            @Parameter(name = "id", description = "ID do cliente a ser atualizado", example = "123")},
+            @Parameter(name = "id", description = "ID do cliente a ser atualizado", example = "123"),
+            @Parameter(name = "If-Match", description = "ETag da versão do cliente a ser atualizada", example = "\"0\"")},
         responses = {
             @ApiResponse(
                 responseCode = "200",
                 description = "Cliente atualizado com sucesso",
-                content = @Content(schema = @Schema(implementation = ClienteResponseDTO.class)))}
+                content = @Content(schema = @Schema(implementation = ClienteResponseDTO.class))),
+            @ApiResponse(
+                responseCode = "412",
+                description = "O cliente foi alterado por outra requisição")}
     
 
     )
     @PutMapping("/{id}")
-    public ResponseEntity<ClienteResponseDTO> updateCliente(@PathVariable Long id, @Valid @RequestBody ClienteRequestDTO clienteRequestDTO) {
-        return ResponseEntity.status(HttpStatus.OK).body(clienteService.update(id, clienteRequestDTO));
+    public ResponseEntity<ClienteResponseDTO> updateCliente(@PathVariable Long id,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                            @Valid @RequestBody ClienteRequestDTO clienteRequestDTO) {
+        ClienteResponseDTO cliente = clienteService.update(id, parseVersao(ifMatch), clienteRequestDTO);
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag(cliente)).body(cliente);
     }
 
     /**
-     * Remove um cliente do sistema.
+     * Remove um cliente do sistema juntamente com suas contas.
      * 
      * @param id ID do cliente a ser excluído
+     * @param async se verdadeiro, a remoção é feita em segundo plano e a resposta é retornada imediatamente
      * @return ResponseEntity com mensagem de confirmação
      */
     @Operation(
         summary = "Excluir cliente",
-        description = "Remove um cliente do sistema",
+        description = "Remove um cliente e suas contas do sistema",
         parameters = {
-            @Parameter(name = "id", description = "ID do cliente a ser excluído", example = "123")},
+            @Parameter(name = "id", description = "ID do cliente a ser excluído", example = "123"),
+            @Parameter(name = "async", description = "Remove em segundo plano (indicado para clientes com muitas contas)", example = "false")},
         responses = {
             @ApiResponse(
                 responseCode = "200",
                 description = "Cliente excluído com sucesso",
+                content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(
+                responseCode = "202",
+                description = "Remoção do cliente iniciada em segundo plano",
                 content = @Content(schema = @Schema(implementation = String.class)))}
     
 
     )
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deleteCliente(@PathVariable Long id) {
+    public ResponseEntity<String> deleteCliente(@PathVariable Long id, @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            clienteService.deleteAsync(id);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("Remoção do cliente iniciada");
+        }
         clienteService.delete(id);
         return ResponseEntity.status(HttpStatus.OK).body("Cliente deletado com sucesso!");
     }
+
+    /**
+     * Gera o ETag de um cliente a partir da sua versão.
+     *
+     * @param cliente dados do cliente
+     * @return valor do ETag (sem aspas)
+     */
+    private static String etag(ClienteResponseDTO cliente) {
+        return String.valueOf(cliente.versao());
+    }
+
+    /**
+     * Extrai a versão do cliente do cabeçalho If-Match.
+     *
+     * @param ifMatch valor do cabeçalho If-Match
+     * @return versão informada, ou nulo se o cabeçalho estiver ausente ou for "*"
+     * @throws ClienteVersionMismatchException se o valor não corresponder a uma versão válida
+     */
+    private static Long parseVersao(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.strip();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        try {
+            return Long.valueOf(valor.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new ClienteVersionMismatchException();
+        }
+    }
 }
@@ -1,8 +1,20 @@
 package com.desafio.dev.controller;
 
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.batch.BatchItemResultDTO;
+import com.desafio.dev.dtos.conta.ContaFiltroDTO;
+import com.desafio.dev.dtos.conta.ContaLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaPageResponseDTO;
 import com.desafio.dev.dtos.conta.ContaRequestDTO;
 import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.dtos.conta.ContaResumoDTO;
+import com.desafio.dev.dtos.conta.ContaSituacaoRequestDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteResponseDTO;
+import com.desafio.dev.dtos.saldo.SaldoClienteDTO;
+import com.desafio.dev.idempotency.Idempotente;
 import com.desafio.dev.service.implentacion.ContaServiceImpl;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,6 +28,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -36,6 +49,12 @@ public class ContaController {
     @Autowired
     private ContaServiceImpl contaService;
 
+    /**
+     * Serviço que fornece o saldo materializado das contas dos clientes.
+     */
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
     /**
      * Cria uma nova conta associada a um cliente específico.
      * 
@@ -52,31 +71,119 @@ public class ContaController {
                 description = "Conta criada com sucesso",
                 content = @Content(schema = @Schema(implementation = ContaResponseDTO.class)))}
     )
+    @Idempotente
     @PostMapping("/clientes/{idCliente}/contas")
     public ResponseEntity<ContaResponseDTO> save(@PathVariable Long idCliente, @Valid @RequestBody ContaRequestDTO contaRequestDTO) {
         return ResponseEntity.status(HttpStatus.CREATED).body(contaService.save(idCliente, contaRequestDTO));
     }
 
     /**
-     * Retorna a lista de todas as contas associadas a um cliente específico.
+     * Cria contas em lote, de um ou vários clientes.
+     * 
+     * @param contas lista com os dados das contas a serem criadas
+     * @return ResponseEntity contendo o resultado de cada item
+     */
+    @Operation(
+        summary = "Criar contas em lote",
+        description = "Registra várias contas, de um ou vários clientes, em uma única requisição, retornando o resultado de cada item",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Lote processado",
+                content = @Content(schema = @Schema(implementation = BatchItemResultDTO[].class)))}
+    )
+    @Idempotente
+    @PostMapping("/contas/batch")
+    public ResponseEntity<List<BatchItemResultDTO>> saveAll(@RequestBody List<ContaLoteRequestDTO> contas) {
+        return ResponseEntity.status(HttpStatus.OK).body(contaService.saveAll(contas));
+    }
+
+    /**
+     * Retorna uma página das contas associadas a um cliente específico, com filtros opcionais.
      * 
      * @param idCliente ID do cliente cujas contas serão listadas
-     * @return ResponseEntity contendo a lista de contas do cliente
+     * @param situacao situações das contas (sem valor, lista as contas não canceladas)
+     * @param de referência inicial (MM-AAAA), opcional
+     * @param ate referência final (MM-AAAA), opcional
+     * @param valorMinimo valor mínimo das contas, opcional
+     * @param valorMaximo valor máximo das contas, opcional
+     * @param after cursor retornado na página anterior (omitido na primeira página)
+     * @param size quantidade de contas por página
+     * @return ResponseEntity contendo a página de contas do cliente e o cursor da próxima página
      */
     @Operation(
         summary = "Listar contas por cliente",
-        description = "Recupera todas as contas associadas a um cliente",
+        description = "Recupera as contas associadas a um cliente em páginas ordenadas por referência, utilizando paginação por cursor",
         parameters = {
-            @Parameter(name = "idCliente", description = "ID do cliente para consulta", example = "456")},
+            @Parameter(name = "idCliente", description = "ID do cliente para consulta", example = "456"),
+            @Parameter(name = "situacao", description = "Situações das contas (padrão: PENDENTE e PAGA)", example = "PENDENTE"),
+            @Parameter(name = "de", description = "Referência inicial (MM-AAAA), inclusive", example = "01-2024"),
+            @Parameter(name = "ate", description = "Referência final (MM-AAAA), inclusive", example = "12-2024"),
+            @Parameter(name = "valorMinimo", description = "Valor mínimo das contas, inclusive", example = "100.00"),
+            @Parameter(name = "valorMaximo", description = "Valor máximo das contas, inclusive", example = "500.00"),
+            @Parameter(name = "after", description = "Cursor retornado no campo 'next' da página anterior"),
+            @Parameter(name = "size", description = "Quantidade de contas por página (máximo 500)", example = "50")},
         responses = {
             @ApiResponse(
                 responseCode = "200",
                 description = "Contas recuperadas com sucesso",
-                content = @Content(schema = @Schema(implementation = ContaResponseDTO[].class)))}
+                content = @Content(schema = @Schema(implementation = ContaPageResponseDTO.class)))}
     )
     @GetMapping("/clientes/{idCliente}/contas")
-    public ResponseEntity<List<ContaResponseDTO>> findAllByClienteId(@PathVariable Long idCliente) {
-        return ResponseEntity.status(HttpStatus.OK).body(contaService.findAllByClienteId(idCliente));
+    public ResponseEntity<ContaPageResponseDTO> findAllByClienteId(@PathVariable Long idCliente,
+                                                                   @RequestParam(required = false) List<Situacao> situacao,
+                                                                   @RequestParam(required = false) String de,
+                                                                   @RequestParam(required = false) String ate,
+                                                                   @RequestParam(required = false) BigDecimal valorMinimo,
+                                                                   @RequestParam(required = false) BigDecimal valorMaximo,
+                                                                   @RequestParam(required = false) String after,
+                                                                   @RequestParam(required = false) Integer size) {
+        ContaFiltroDTO filtro = new ContaFiltroDTO(situacao, de, ate, valorMinimo, valorMaximo);
+        return ResponseEntity.status(HttpStatus.OK).body(contaService.findAllByClienteId(idCliente, filtro, after, size));
+    }
+
+    /**
+     * Retorna o resumo das contas de um cliente: quantidade e valor total por situação e por referência.
+     * 
+     * @param idCliente ID do cliente
+     * @return ResponseEntity contendo o resumo das contas do cliente
+     */
+    @Operation(
+        summary = "Resumo das contas por cliente",
+        description = "Retorna a quantidade e o valor total das contas de um cliente por situação e por referência (mês)",
+        parameters = {
+            @Parameter(name = "idCliente", description = "ID do cliente para consulta", example = "456")},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Resumo calculado com sucesso",
+                content = @Content(schema = @Schema(implementation = ContaResumoDTO.class)))}
+    )
+    @GetMapping("/clientes/{idCliente}/contas/resumo")
+    public ResponseEntity<ContaResumoDTO> resumoByClienteId(@PathVariable Long idCliente) {
+        return ResponseEntity.status(HttpStatus.OK).body(contaService.resumoByClienteId(idCliente));
+    }
+
+    /**
+     * Retorna o saldo das contas de um cliente, mantido de forma incremental a cada alteração de conta.
+     * 
+     * @param idCliente ID do cliente
+     * @return ResponseEntity contendo o saldo do cliente
+     */
+    @Operation(
+        summary = "Saldo do cliente",
+        description = "Retorna a quantidade de contas por situação e os valores pendente e pago de um cliente",
+        parameters = {
+            @Parameter(name = "idCliente", description = "ID do cliente para consulta", example = "456")},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Saldo recuperado com sucesso",
+                content = @Content(schema = @Schema(implementation = SaldoClienteDTO.class)))}
+    )
+    @GetMapping("/clientes/{idCliente}/saldo")
+    public ResponseEntity<SaldoClienteDTO> saldoByClienteId(@PathVariable Long idCliente) {
+        return ResponseEntity.status(HttpStatus.OK).body(saldoClienteService.findByClienteId(idCliente));
     }
 
     /**
@@ -95,24 +202,82 @@ public class ContaController {
             @ApiResponse(
                 responseCode = "200",
                 description = "Conta atualizada com sucesso",
-                content = @Content(schema = @Schema(implementation = ContaResponseDTO.class)))}
+                content = @Content(schema = @Schema(implementation = ContaResponseDTO.class))),
+            @ApiResponse(
+                responseCode = "409",
+                description = "A situação atual da conta não permite a nova situação",
+                content = @Content(schema = @Schema(implementation = String.class)))}
     )
     @PutMapping("/contas/{id}")
     public ResponseEntity<ContaResponseDTO> update(@PathVariable Long id, @Valid @RequestBody ContaRequestDTO contaRequestDTO) {
         return ResponseEntity.status(HttpStatus.OK).body(contaService.update(id, contaRequestDTO));
     }
 
+    /**
+     * Altera a situação de uma conta, respeitando as transições permitidas a partir da situação atual.
+     * 
+     * @param id ID da conta
+     * @param contaSituacaoRequestDTO DTO contendo a nova situação
+     * @return ResponseEntity contendo os dados atualizados da conta
+     */
+    @Operation(
+        summary = "Alterar situação da conta",
+        description = "Marca uma conta PENDENTE como PAGA ou CANCELADA, ou uma conta PAGA como CANCELADA, em uma única operação atômica",
+        parameters = {
+            @Parameter(name = "id", description = "ID da conta", example = "789")},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Situação alterada com sucesso",
+                content = @Content(schema = @Schema(implementation = ContaResponseDTO.class))),
+            @ApiResponse(
+                responseCode = "409",
+                description = "A situação atual da conta não permite a transição",
+                content = @Content(schema = @Schema(implementation = String.class)))}
+    )
+    @PatchMapping("/contas/{id}/situacao")
+    public ResponseEntity<ContaResponseDTO> updateSituacao(@PathVariable Long id, @RequestBody ContaSituacaoRequestDTO contaSituacaoRequestDTO) {
+        return ResponseEntity.status(HttpStatus.OK).body(contaService.updateSituacao(id,
+                contaSituacaoRequestDTO.referencia(), contaSituacaoRequestDTO.situacao()));
+    }
+
+    /**
+     * Altera a situação de várias contas, selecionadas pelos IDs ou pelo cliente e período.
+     * 
+     * @param transicao nova situação e seleção das contas
+     * @return ResponseEntity contendo a quantidade de contas alteradas
+     */
+    @Operation(
+        summary = "Alterar situação de contas em lote",
+        description = "Marca como PAGA ou CANCELADA as contas informadas (ou as contas de um cliente no período), ignorando as que não podem mudar para a nova situação",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Contas alteradas",
+                content = @Content(schema = @Schema(implementation = ContaTransicaoLoteResponseDTO.class))),
+            @ApiResponse(
+                responseCode = "500",
+                description = "Alteração interrompida por um erro, com a quantidade de contas já alteradas",
+                content = @Content(schema = @Schema(implementation = ContaTransicaoLoteResponseDTO.class)))}
+    )
+    @PatchMapping("/contas/situacao")
+    public ResponseEntity<ContaTransicaoLoteResponseDTO> updateSituacaoAll(@RequestBody ContaTransicaoLoteRequestDTO transicao) {
+        return ResponseEntity.status(HttpStatus.OK).body(contaService.updateSituacaoAll(transicao));
+    }
+
     /**
      * Remove uma conta do sistema (marca como CANCELADA).
      * 
      * @param id ID da conta a ser excluída
+     * @param referencia referência atual da conta, opcional
      * @return ResponseEntity com mensagem de confirmação
      */
     @Operation(
         summary = "Excluir conta",
         description = "Remove uma conta do sistema",
         parameters = {
-            @Parameter(name = "id", description = "ID da conta a ser excluída", example = "789")},
+            @Parameter(name = "id", description = "ID da conta a ser excluída", example = "789"),
+            @Parameter(name = "referencia", description = "Referência atual da conta (MM-AAAA), opcional; restringe a busca à partição do mês da conta", example = "01-2025")},
         responses = {
             @ApiResponse(
                 responseCode = "200",
@@ -120,8 +285,8 @@ public class ContaController {
                 content = @Content(schema = @Schema(implementation = String.class)))}
     )
     @DeleteMapping("/contas/{id}")
-    public ResponseEntity<String> delete(@PathVariable Long id) {
-        contaService.delete(id);
+    public ResponseEntity<String> delete(@PathVariable Long id, @RequestParam(required = false) String referencia) {
+        contaService.delete(id, referencia);
         return ResponseEntity.status(HttpStatus.OK).body("Conta deletada com sucesso!");
     }
 }
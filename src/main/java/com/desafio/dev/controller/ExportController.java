@@ -0,0 +1,157 @@
+package com.desafio.dev.controller;
+
+import com.desafio.dev.service.implentacion.ExportServiceImpl;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Controlador responsável pela exportação completa da base de dados.
+ * 
+ * Esta classe fornece endpoints REST que transmitem todos os clientes e contas
+ * no formato NDJSON (um objeto JSON por linha) e o relatório de contas pendentes em CSV.
+ * A resposta é escrita à medida que os registros são lidos do banco, permitindo exportar
+ * tabelas de qualquer tamanho.
+ */
+@Tag(name = "Exportação", description = "Operações para exportação da base de dados")
+@RestController
+@RequestMapping("/export")
+public class ExportController {
+
+    /**
+     * Serviço que implementa a exportação dos dados.
+     */
+    @Autowired
+    private ExportServiceImpl exportService;
+
+    /**
+     * Tipo de conteúdo do relatório de contas pendentes.
+     */
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    /**
+     * Exporta todos os clientes cadastrados no formato NDJSON.
+     * 
+     * @return ResponseEntity contendo o corpo transmitido com os clientes
+     */
+    @Operation(
+        summary = "Exportar clientes",
+        description = "Transmite todos os clientes cadastrados no formato NDJSON",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Exportação iniciada com sucesso")}
+    )
+    @GetMapping(value = "/clientes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportClientes() {
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(exportService::exportClientes);
+    }
+
+    /**
+     * Exporta todas as contas cadastradas no formato NDJSON.
+     * 
+     * @return ResponseEntity contendo o corpo transmitido com as contas
+     */
+    @Operation(
+        summary = "Exportar contas",
+        description = "Transmite todas as contas cadastradas no formato NDJSON",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Exportação iniciada com sucesso")}
+    )
+    @GetMapping(value = "/contas", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportContas() {
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(exportService::exportContas);
+    }
+
+    /**
+     * Exporta o relatório das contas pendentes de todos os clientes no formato CSV
+     * (nome e CPF do cliente, referência e valor da conta).
+     *
+     * Se o cliente HTTP aceitar gzip (cabeçalho Accept-Encoding com gzip, ou *, e qualidade
+     * maior que zero), o relatório é comprimido à medida que é escrito e a resposta é enviada com Content-Encoding: gzip.
+     *
+     * @param acceptEncoding codificações aceitas pelo cliente HTTP
+     * @return ResponseEntity contendo o corpo transmitido com o relatório
+     */
+    @Operation(
+        summary = "Exportar contas pendentes",
+        description = "Transmite em CSV as contas pendentes de todos os clientes, com o nome e o CPF do cliente; comprimido em gzip quando aceito pelo cliente",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Exportação iniciada com sucesso")}
+    )
+    @GetMapping(value = "/contas/pendentes", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportContasPendentes(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.status(HttpStatus.OK).contentType(TEXT_CSV)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("contas-pendentes.csv").build().toString());
+        if (!aceitaGzip(acceptEncoding)) {
+            return resposta.body(exportService::exportContasPendentes);
+        }
+        return resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, 8192, true);
+            exportService.exportContasPendentes(gzip);
+            gzip.finish();
+        });
+    }
+
+    /**
+     * Verifica se o cabeçalho Accept-Encoding aceita gzip (RFC 9110, seção 12.5.3): as codificações
+     * são separadas por vírgula e podem trazer a qualidade (q) entre 0 e 1, sendo 1 quando omitida.
+     * A codificação gzip (ou x-gzip) é aceita com qualidade maior que zero; se ela não for listada,
+     * vale a qualidade do curinga (*), se houver.
+     *
+     * @param acceptEncoding valor do cabeçalho Accept-Encoding, ou nulo
+     * @return true se a resposta puder ser comprimida em gzip
+     */
+    private static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double qualidadeGzip = null;
+        Double qualidadeCuringa = null;
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim().toLowerCase(Locale.ROOT);
+            double qualidade = 1;
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim();
+                if (parametro.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        qualidade = Double.parseDouble(parametro.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        qualidade = 0;
+                    }
+                }
+            }
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                qualidadeGzip = qualidadeGzip == null ? qualidade : Math.max(qualidadeGzip, qualidade);
+            } else if (codificacao.equals("*")) {
+                qualidadeCuringa = qualidade;
+            }
+        }
+        Double qualidade = qualidadeGzip != null ? qualidadeGzip : qualidadeCuringa;
+        return qualidade != null && qualidade > 0;
+    }
+}
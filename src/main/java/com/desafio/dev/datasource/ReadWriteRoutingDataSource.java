@@ -0,0 +1,187 @@
+package com.desafio.dev.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource que envia as transações somente leitura ({@code @Transactional(readOnly = true)})
+ * às réplicas de leitura e todas as demais conexões ao banco primário.
+ *
+ * As réplicas são utilizadas alternadamente (round-robin), ignorando as marcadas como
+ * indisponíveis pela última verificação ({@link #verificarReplicas()}). Uma réplica que falhar
+ * ao fornecer uma conexão é marcada como indisponível imediatamente e a próxima é tentada.
+ * Sem nenhuma réplica disponível, as leituras são enviadas ao primário, se o fallback estiver
+ * habilitado; caso contrário, a conexão é recusada.
+ *
+ * A transação só é identificada como somente leitura depois que o gerenciador de transações
+ * solicita a conexão, portanto este DataSource deve ser utilizado através de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, que obtém a conexão
+ * real apenas no primeiro comando.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primario;
+
+    private final List<Replica> replicas;
+
+    private final boolean fallbackPrimario;
+
+    private final int timeoutVerificacao;
+
+    private final AtomicInteger proxima = new AtomicInteger();
+
+    private final AtomicLong leiturasNoPrimario = new AtomicLong();
+
+    /**
+     * @param primario banco primário, utilizado nas escritas
+     * @param replicas réplicas de leitura
+     * @param fallbackPrimario indica se as leituras são enviadas ao primário quando nenhuma réplica está disponível
+     * @param timeoutVerificacao tempo máximo, em segundos, da validação de cada réplica
+     */
+    public ReadWriteRoutingDataSource(DataSource primario, List<Replica> replicas, boolean fallbackPrimario,
+                                      int timeoutVerificacao) {
+        this.primario = primario;
+        this.replicas = List.copyOf(replicas);
+        this.fallbackPrimario = fallbackPrimario;
+        this.timeoutVerificacao = timeoutVerificacao;
+    }
+
+    /**
+     * @return conexão com uma réplica, se a transação atual for somente leitura; caso contrário, com o primário
+     * @throws SQLException se não for possível obter a conexão
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primario.getConnection();
+        }
+        SQLException ultimaFalha = null;
+        int inicio = Math.floorMod(proxima.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((inicio + i) % replicas.size());
+            if (!replica.isDisponivel()) {
+                continue;
+            }
+            try {
+                return replica.dataSource().getConnection();
+            } catch (SQLException e) {
+                log.warn("Réplica de leitura {} indisponível: {}", replica.nome(), e.getMessage());
+                replica.setDisponivel(false);
+                ultimaFalha = e;
+            }
+        }
+        if (!fallbackPrimario) {
+            throw new SQLTransientConnectionException("Nenhuma réplica de leitura disponível", ultimaFalha);
+        }
+        leiturasNoPrimario.incrementAndGet();
+        return primario.getConnection();
+    }
+
+    /**
+     * As credenciais são definidas na configuração de cada banco.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("Credenciais são definidas na configuração de cada banco");
+    }
+
+    /**
+     * Valida uma conexão de cada réplica e atualiza a sua disponibilidade.
+     *
+     * @return quantidade de réplicas disponíveis
+     */
+    public int verificarReplicas() {
+        for (Replica replica : replicas) {
+            boolean disponivel;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                disponivel = connection.isValid(timeoutVerificacao);
+            } catch (SQLException e) {
+                disponivel = false;
+            }
+            if (disponivel != replica.isDisponivel()) {
+                if (disponivel) {
+                    log.info("Réplica de leitura {} disponível novamente", replica.nome());
+                } else {
+                    log.warn("Réplica de leitura {} indisponível", replica.nome());
+                }
+                replica.setDisponivel(disponivel);
+            }
+        }
+        return getReplicasDisponiveis();
+    }
+
+    /**
+     * @return quantidade de réplicas marcadas como disponíveis
+     */
+    public int getReplicasDisponiveis() {
+        return (int) replicas.stream().filter(Replica::isDisponivel).count();
+    }
+
+    /**
+     * @return quantidade de conexões de leitura enviadas ao primário por falta de réplicas disponíveis
+     */
+    public long getLeiturasNoPrimario() {
+        return leiturasNoPrimario.get();
+    }
+
+    /**
+     * Fecha os pools das réplicas. O primário é fechado pelo seu próprio bean.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+
+    /**
+     * Réplica de leitura e a sua disponibilidade na última verificação.
+     */
+    public static class Replica {
+
+        private final String nome;
+
+        private final DataSource dataSource;
+
+        private volatile boolean disponivel = true;
+
+        /**
+         * @param nome nome da réplica, utilizado nos logs
+         * @param dataSource conexões com a réplica
+         */
+        public Replica(String nome, DataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+
+        public String nome() {
+            return nome;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isDisponivel() {
+            return disponivel;
+        }
+
+        void setDisponivel(boolean disponivel) {
+            this.disponivel = disponivel;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.desafio.dev.dtos.batch;
+
+import com.desafio.dev.ENUMS.StatusItemLote;
+
+/**
+ * Record que representa o resultado de um item processado em uma operação em lote.
+ *
+ * Os resultados são retornados na mesma ordem dos itens recebidos, identificados
+ * pela posição do item na requisição.
+ *
+ * @see com.desafio.dev.ENUMS.StatusItemLote
+ */
+public record BatchItemResultDTO(
+        /** Posição do item na requisição (iniciando em zero) */
+        int indice,
+
+        /** Resultado do processamento do item */
+        StatusItemLote status,
+
+        /** Identificador do registro criado ou nulo se o item não foi persistido */
+        Long id,
+
+        /** Motivo da rejeição do item ou nulo se o item foi persistido */
+        String mensagem
+) {}
@@ -0,0 +1,20 @@
+package com.desafio.dev.dtos.cliente;
+
+import java.util.List;
+
+/**
+ * Record que representa uma página da listagem de clientes.
+ *
+ * A paginação é feita por cursor (keyset): para obter a próxima página basta
+ * repetir a requisição informando o valor de {@code next} no parâmetro {@code after}.
+ * Quando {@code next} é nulo não existem mais clientes a serem listados.
+ *
+ * @see ClienteResponseDTO
+ */
+public record ClientePageResponseDTO(
+        /** Clientes da página atual */
+        List<ClienteResponseDTO> clientes,
+
+        /** Cursor da próxima página ou nulo se esta for a última */
+        String next
+) {}
@@ -23,5 +23,8 @@ public record ClienteResponseDTO(
         String telefone,
         
         /** Endereço de e-mail do cliente */
-        String email
+        String email,
+
+        /** Versão do cliente, incrementada a cada atualização (utilizada como ETag) */
+        Long versao
 ) {}
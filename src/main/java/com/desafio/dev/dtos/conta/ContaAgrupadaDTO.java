@@ -0,0 +1,23 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+
+/**
+ * Record que representa uma linha da consulta agrupada das contas de um cliente
+ * (quantidade e valor total por situação e referência), calculada pelo banco.
+ *
+ * @see com.desafio.dev.repository.ContaRepository#sumByClienteIdGroupBySituacaoAndReferencia(Long)
+ */
+public record ContaAgrupadaDTO(
+    /** Situação das contas do grupo */
+    Situacao situacao,
+
+    /** Referência das contas do grupo no formato MM-AAAA (mês-ano) */
+    String referencia,
+
+    /** Quantidade de contas do grupo */
+    Long quantidade,
+
+    /** Soma dos valores das contas do grupo, em centavos */
+    long valorCentavos
+) {}
@@ -0,0 +1,30 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+
+import java.math.BigDecimal;
+
+/**
+ * Record que representa uma conta na exportação completa da base.
+ *
+ * Diferente de {@link ContaResponseDTO}, inclui o identificador do cliente, já que
+ * a exportação não é feita a partir de um cliente específico.
+ *
+ * @see com.desafio.dev.model.Conta
+ */
+public record ContaExportDTO(
+    /** Identificador único da conta no banco de dados */
+    Long id,
+
+    /** Identificador do cliente ao qual a conta está associada */
+    Long idCliente,
+
+    /** Referência da conta no formato MM-AAAA (mês-ano) */
+    String referencia,
+
+    /** Valor monetário da conta */
+    BigDecimal valor,
+
+    /** Situação atual da conta (PENDENTE, PAGA ou CANCELADA) */
+    Situacao situacao
+) {}
@@ -0,0 +1,31 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Record que representa os filtros da listagem de contas de um cliente.
+ *
+ * Os filtros nulos não restringem a listagem; somente os informados
+ * são incluídos na consulta.
+ *
+ * @see com.desafio.dev.repository.ContaRepositoryCustom
+ */
+public record ContaFiltroDTO(
+    /** Situações das contas listadas */
+    List<Situacao> situacoes,
+
+    /** Referência inicial (MM-AAAA), inclusive */
+    String de,
+
+    /** Referência final (MM-AAAA), inclusive */
+    String ate,
+
+    /** Valor mínimo das contas, inclusive */
+    BigDecimal valorMinimo,
+
+    /** Valor máximo das contas, inclusive */
+    BigDecimal valorMaximo
+) {}
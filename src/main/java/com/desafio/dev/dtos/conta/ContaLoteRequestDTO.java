@@ -0,0 +1,28 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+
+import java.math.BigDecimal;
+
+/**
+ * Record que representa uma conta a ser criada em lote.
+ *
+ * Diferente do ContaRequestDTO, o cliente da conta é informado em cada item,
+ * permitindo que um mesmo lote crie contas de vários clientes.
+ *
+ * @see ContaRequestDTO
+ * @see com.desafio.dev.dtos.batch.BatchItemResultDTO
+ */
+public record ContaLoteRequestDTO(
+    /** Identificador do cliente ao qual a conta será associada */
+    Long idCliente,
+
+    /** Referência da conta no formato MM-AAAA (mês-ano) */
+    String referencia,
+
+    /** Valor monetário da conta utilizando BigDecimal para precisão */
+    BigDecimal valor,
+
+    /** Situação da conta (PENDENTE ou PAGA para novas contas) */
+    Situacao situacao
+) {}
@@ -0,0 +1,21 @@
+package com.desafio.dev.dtos.conta;
+
+import java.util.List;
+
+/**
+ * Record que representa uma página da listagem de contas de um cliente.
+ *
+ * A paginação é feita por cursor (keyset) sobre a referência e o ID das contas: para obter
+ * a próxima página basta repetir a requisição, com os mesmos filtros, informando o valor de
+ * {@code next} no parâmetro {@code after}. Quando {@code next} é nulo não existem mais contas
+ * a serem listadas.
+ *
+ * @see ContaResponseDTO
+ */
+public record ContaPageResponseDTO(
+        /** Contas da página atual, ordenadas por referência e ID */
+        List<ContaResponseDTO> contas,
+
+        /** Cursor da próxima página ou nulo se esta for a última */
+        String next
+) {}
@@ -0,0 +1,21 @@
+package com.desafio.dev.dtos.conta;
+
+/**
+ * Record que representa uma linha do relatório de contas pendentes: a conta e os dados
+ * do cliente devedor, projetados diretamente pela consulta com junção entre conta e cliente.
+ *
+ * @see com.desafio.dev.repository.ContaRepository#streamRelatorioBySituacao(com.desafio.dev.ENUMS.Situacao)
+ */
+public record ContaPendenteRelatorioDTO(
+    /** Nome do cliente */
+    String nome,
+
+    /** CPF do cliente no formato xxx.xxx.xxx-xx */
+    String cpf,
+
+    /** Referência da conta no formato MM-AAAA (mês-ano) */
+    String referencia,
+
+    /** Valor da conta, em centavos */
+    long valorCentavos
+) {}
@@ -0,0 +1,32 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.serializer.CentavosSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Record que representa o resumo das contas de um cliente: quantidade e valor total
+ * geral, por situação e por referência (mês).
+ */
+public record ContaResumoDTO(
+    /** Identificador do cliente */
+    Long idCliente,
+
+    /** Quantidade total de contas do cliente */
+    long quantidade,
+
+    /** Soma dos valores de todas as contas do cliente, em centavos (serializada como decimal em reais) */
+    @JsonSerialize(using = CentavosSerializer.class)
+    @Schema(type = "number", example = "10.50")
+    long valor,
+
+    /** Totais por situação */
+    Map<Situacao, ContaTotalDTO> porSituacao,
+
+    /** Totais por referência, em ordem cronológica */
+    List<ContaResumoReferenciaDTO> porReferencia
+) {}
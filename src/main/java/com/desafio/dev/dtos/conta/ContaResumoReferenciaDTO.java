@@ -0,0 +1,29 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.serializer.CentavosSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Record que representa os totais das contas de um cliente em uma referência (mês).
+ *
+ * @see ContaResumoDTO
+ */
+public record ContaResumoReferenciaDTO(
+    /** Referência no formato MM-AAAA (mês-ano) */
+    String referencia,
+
+    /** Quantidade de contas da referência */
+    long quantidade,
+
+    /** Soma dos valores das contas da referência, em centavos (serializada como decimal em reais) */
+    @JsonSerialize(using = CentavosSerializer.class)
+    @Schema(type = "number", example = "10.50")
+    long valor,
+
+    /** Totais da referência por situação */
+    Map<Situacao, ContaTotalDTO> porSituacao
+) {}
@@ -0,0 +1,16 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+
+/**
+ * Record que representa a alteração da situação de uma conta.
+ *
+ * @see com.desafio.dev.ENUMS.Situacao#origensPermitidas()
+ */
+public record ContaSituacaoRequestDTO(
+    /** Nova situação da conta (PAGA ou CANCELADA) */
+    Situacao situacao,
+
+    /** Referência atual da conta (MM-AAAA), opcional; restringe a busca à partição do mês da conta */
+    String referencia
+) {}
@@ -0,0 +1,23 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+
+/**
+ * Record que representa a quantidade e o valor total das contas de um cliente em uma situação,
+ * calculados pelo banco. Utilizado na reconciliação dos saldos dos clientes.
+ *
+ * @see com.desafio.dev.repository.ContaRepository#sumByClienteIdBetweenGroupByClienteAndSituacao(Long, Long)
+ */
+public record ContaTotalClienteDTO(
+    /** Identificador do cliente */
+    Long idCliente,
+
+    /** Situação das contas do grupo */
+    Situacao situacao,
+
+    /** Quantidade de contas do grupo */
+    Long quantidade,
+
+    /** Soma dos valores das contas do grupo, em centavos */
+    long valorCentavos
+) {}
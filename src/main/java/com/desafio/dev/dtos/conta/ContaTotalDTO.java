@@ -0,0 +1,20 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.dtos.serializer.CentavosSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Record que representa a quantidade e o valor total de um grupo de contas.
+ *
+ * @see ContaResumoDTO
+ */
+public record ContaTotalDTO(
+    /** Quantidade de contas do grupo */
+    long quantidade,
+
+    /** Soma dos valores das contas do grupo, em centavos (serializada como decimal em reais) */
+    @JsonSerialize(using = CentavosSerializer.class)
+    @Schema(type = "number", example = "10.50")
+    long valor
+) {}
@@ -0,0 +1,31 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+
+import java.util.List;
+
+/**
+ * Record que representa uma alteração de situação de várias contas em lote.
+ *
+ * As contas são selecionadas pelos seus IDs ou, se os IDs não forem informados,
+ * pelo cliente e opcionalmente pelo período de referência. Somente as contas cuja
+ * situação atual permite a transição são alteradas.
+ *
+ * @see com.desafio.dev.ENUMS.Situacao#origensPermitidas()
+ */
+public record ContaTransicaoLoteRequestDTO(
+    /** Nova situação das contas (PAGA ou CANCELADA) */
+    Situacao situacao,
+
+    /** IDs das contas a serem alteradas */
+    List<Long> ids,
+
+    /** ID do cliente cujas contas serão alteradas, utilizado quando os IDs não são informados */
+    Long idCliente,
+
+    /** Referência inicial (MM-AAAA) das contas do cliente, opcional */
+    String de,
+
+    /** Referência final (MM-AAAA) das contas do cliente, opcional */
+    String ate
+) {}
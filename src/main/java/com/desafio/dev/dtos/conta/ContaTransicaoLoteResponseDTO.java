@@ -0,0 +1,19 @@
+package com.desafio.dev.dtos.conta;
+
+import com.desafio.dev.ENUMS.Situacao;
+
+/**
+ * Record que representa o resultado de uma alteração de situação de contas em lote.
+ *
+ * @see ContaTransicaoLoteRequestDTO
+ */
+public record ContaTransicaoLoteResponseDTO(
+    /** Nova situação das contas */
+    Situacao situacao,
+
+    /** Quantidade de contas que efetivamente mudaram de situação */
+    long transicionadas,
+
+    /** Indica se todas as contas selecionadas foram processadas ou se a alteração foi interrompida por um erro */
+    boolean concluida
+) {}
@@ -0,0 +1,41 @@
+package com.desafio.dev.dtos.outbox;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.ENUMS.TipoEventoConta;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Record que representa um evento de conta entregue aos sistemas externos pela outbox.
+ *
+ * @see com.desafio.dev.outbox.ContaEventoSink
+ */
+public record ContaEventoDTO(
+    /** Identificador do evento, crescente na ordem de gravação */
+    Long id,
+
+    /** Tipo do evento */
+    TipoEventoConta tipo,
+
+    /** Identificador da conta */
+    Long idConta,
+
+    /** Identificador do cliente da conta */
+    Long idCliente,
+
+    /** Referência da conta no formato MM-AAAA (mês-ano) */
+    String referencia,
+
+    /** Valor da conta */
+    BigDecimal valor,
+
+    /** Situação da conta após a alteração */
+    Situacao situacao,
+
+    /** Situação da conta antes da alteração (nula na criação) */
+    Situacao situacaoAnterior,
+
+    /** Momento em que o evento foi gravado */
+    Instant criadoEm
+) {}
@@ -0,0 +1,28 @@
+package com.desafio.dev.dtos.saldo;
+
+import java.math.BigDecimal;
+
+/**
+ * Record que representa a resposta da API com o saldo das contas de um cliente.
+ *
+ * @see com.desafio.dev.model.SaldoCliente
+ */
+public record SaldoClienteDTO(
+    /** Identificador do cliente */
+    Long idCliente,
+
+    /** Quantidade de contas pendentes */
+    long quantidadePendente,
+
+    /** Quantidade de contas pagas */
+    long quantidadePaga,
+
+    /** Quantidade de contas canceladas */
+    long quantidadeCancelada,
+
+    /** Soma dos valores das contas pendentes (saldo em aberto) */
+    BigDecimal valorPendente,
+
+    /** Soma dos valores das contas pagas */
+    BigDecimal valorPago
+) {}
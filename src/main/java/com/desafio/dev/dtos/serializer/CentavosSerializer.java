@@ -0,0 +1,75 @@
+package com.desafio.dev.dtos.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializador Jackson que escreve uma quantidade de centavos como o número decimal em reais,
+ * com duas casas decimais (ex.: 1050 é escrito como 10.50).
+ *
+ * Os dígitos são escritos diretamente em um buffer reaproveitado por thread e enviados ao
+ * gerador como número, sem criar um {@link java.math.BigDecimal} nem uma String por valor.
+ * O JSON produzido é o mesmo de um {@link java.math.BigDecimal} com escala 2.
+ *
+ * @see com.desafio.dev.model.converter.CentavosConverter
+ */
+public class CentavosSerializer extends StdSerializer<Long> {
+
+    /**
+     * Tamanho máximo de um valor formatado: sinal, 17 dígitos inteiros, ponto e 2 decimais.
+     */
+    public static final int TAMANHO_MAXIMO = 21;
+
+    /**
+     * Buffer de formatação de cada thread.
+     */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[TAMANHO_MAXIMO]);
+
+    public CentavosSerializer() {
+        super(Long.class);
+    }
+
+    /**
+     * Escreve a quantidade de centavos como número decimal.
+     *
+     * @param centavos quantidade de centavos
+     * @param gen gerador do JSON
+     * @param provider provedor dos serializadores
+     * @throws IOException se houver erro ao escrever o valor
+     */
+    @Override
+    public void serialize(Long centavos, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = BUFFER.get();
+        int inicio = formatar(centavos, buffer);
+        gen.writeNumber(buffer, inicio, buffer.length - inicio);
+    }
+
+    /**
+     * Formata uma quantidade de centavos no final do buffer informado.
+     *
+     * @param centavos quantidade de centavos
+     * @param destino buffer com pelo menos {@value #TAMANHO_MAXIMO} posições
+     * @return posição do primeiro caractere escrito; o valor ocupa até o final do buffer
+     */
+    public static int formatar(long centavos, char[] destino) {
+        // trabalha com o valor negativo para que Long.MIN_VALUE também possa ser formatado
+        long restante = centavos < 0 ? centavos : -centavos;
+        int posicao = destino.length;
+        for (int i = 0; i < 2; i++) {
+            destino[--posicao] = (char) ('0' - restante % 10);
+            restante /= 10;
+        }
+        destino[--posicao] = '.';
+        do {
+            destino[--posicao] = (char) ('0' - restante % 10);
+            restante /= 10;
+        } while (restante != 0);
+        if (centavos < 0) {
+            destino[--posicao] = '-';
+        }
+        return posicao;
+    }
+}
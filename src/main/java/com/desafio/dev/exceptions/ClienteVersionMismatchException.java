@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class ClienteVersionMismatchException extends RuntimeException {
+    public ClienteVersionMismatchException() {
+        super("O cliente foi alterado por outra requisição");
+    }
+}
@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class ContaLoteTooLargeException extends RuntimeException {
+    public ContaLoteTooLargeException(int limite) {
+        super("O lote deve conter no máximo " + limite + " contas");
+    }
+}
@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class ContaWriteQueueFullException extends RuntimeException {
+    public ContaWriteQueueFullException() {
+        super("A fila de gravação de contas está cheia, tente novamente");
+    }
+}
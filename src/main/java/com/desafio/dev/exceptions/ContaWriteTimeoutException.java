@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class ContaWriteTimeoutException extends RuntimeException {
+    public ContaWriteTimeoutException() {
+        super("A gravação da conta não foi confirmada dentro do tempo de espera; a conta pode ter sido criada");
+    }
+}
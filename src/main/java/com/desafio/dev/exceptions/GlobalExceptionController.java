@@ -1,11 +1,15 @@
 package com.desafio.dev.exceptions;
 
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteResponseDTO;
 import com.desafio.dev.dtos.error.ErrorMessageDTO;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -26,6 +30,8 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionController {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionController.class);
+
     /**
      * Fonte de mensagens para internacionalização.
      * Utilizado para obter mensagens de erro localizadas.
@@ -132,6 +138,118 @@ public class GlobalExceptionController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
 
+    /**
+     * Trata exceções de versão do cliente divergente.
+     * Este método é chamado quando a versão informada no cabeçalho If-Match não é a versão atual do cliente.
+     *
+     * @param e A exceção de versão divergente
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(ClienteVersionMismatchException.class)
+    public ResponseEntity<String> handleClienteVersionMismatchException(ClienteVersionMismatchException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de cursor de paginação inválido.
+     * Este método é chamado quando o cursor informado em uma listagem paginada não pode ser interpretado.
+     *
+     * @param e A exceção de cursor inválido
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de termo de busca inválido.
+     * Este método é chamado quando o termo informado na busca de clientes é curto demais.
+     *
+     * @param e A exceção de termo de busca inválido
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(InvalidSearchTermException.class)
+    public ResponseEntity<String> handleInvalidSearchTermException(InvalidSearchTermException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de referência inválida na consulta de contas por período.
+     * Este método é chamado quando os parâmetros de/ate não estão no formato MM-AAAA.
+     *
+     * @param e A exceção de referência inválida
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(InvalidReferenciaException.class)
+    public ResponseEntity<String> handleInvalidReferenciaException(InvalidReferenciaException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de situação não permitida como destino de uma alteração de situação.
+     * Este método é chamado quando se tenta alterar contas para a situação PENDENTE.
+     *
+     * @param e A exceção de situação de destino não permitida
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(SituacaoTransicaoNotAvailableException.class)
+    public ResponseEntity<String> handleSituacaoTransicaoNotAvailableException(SituacaoTransicaoNotAvailableException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de criação de contas em lote com itens demais.
+     * Este método é chamado quando o lote excede a quantidade máxima de contas por requisição.
+     *
+     * @param e A exceção de lote grande demais
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(ContaLoteTooLargeException.class)
+    public ResponseEntity<String> handleContaLoteTooLargeException(ContaLoteTooLargeException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    /**
+     * Trata alterações de situação em lote interrompidas por um erro.
+     * Este método é chamado quando um dos blocos da alteração falha; os blocos anteriores já foram
+     * gravados, então a resposta informa quantas contas foram alteradas até a interrupção.
+     *
+     * @param e A exceção com o resultado parcial da alteração
+     * @return ResponseEntity com o resultado parcial da alteração
+     */
+    @ExceptionHandler(TransicaoLoteInterrompidaException.class)
+    public ResponseEntity<ContaTransicaoLoteResponseDTO> handleTransicaoLoteInterrompidaException(TransicaoLoteInterrompidaException e) {
+        log.error(e.getMessage(), e.getCause());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getParcial());
+    }
+
+    /**
+     * Trata exceções de alteração de situação em lote sem seleção de contas.
+     * Este método é chamado quando nem os IDs das contas nem o cliente são informados.
+     *
+     * @param e A exceção de alteração em lote inválida
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(InvalidTransicaoLoteException.class)
+    public ResponseEntity<String> handleInvalidTransicaoLoteException(InvalidTransicaoLoteException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de transição de situação não permitida pela situação atual da conta.
+     * Este método é chamado quando a conta já está em uma situação a partir da qual a
+     * transição não é permitida (ex.: pagar uma conta cancelada) ou quando a conta é alterada
+     * por outras requisições em todas as tentativas (SituacaoConcorrenteException).
+     *
+     * @param e A exceção de conflito de situação
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(SituacaoConflictException.class)
+    public ResponseEntity<String> handleSituacaoConflictException(SituacaoConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
     /**
      * Trata exceções de tentativa de criar conta com situação cancelada.
      * Este método é chamado quando se tenta criar uma nova conta com status CANCELADA.
@@ -183,4 +301,83 @@ public class GlobalExceptionController {
         }
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
+
+    /**
+     * Trata erros de leitura dos lotes de clientes.
+     * Este método é chamado quando o primeiro item de uma importação em lote não é um JSON válido.
+     * Uma linha inválida após o primeiro item não passa por aqui: a resposta já está sendo enviada,
+     * e a interrupção é informada como o último item do resultado.
+     *
+     * @param ex A exceção com a linha inválida
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(InvalidBatchLineException.class)
+    public ResponseEntity<String> handleBatchParseErrors(InvalidBatchLineException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    /**
+     * Trata exceções de chave de idempotência inválida.
+     * Este método é chamado quando o cabeçalho Idempotency-Key está vazio ou é longo demais.
+     *
+     * @param e A exceção de chave de idempotência inválida
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<String> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de chave de idempotência em uso.
+     * Este método é chamado quando uma requisição é repetida enquanto a original ainda está em andamento.
+     *
+     * @param e A exceção de chave de idempotência em uso
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<String> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de chave de idempotência reaproveitada.
+     * Este método é chamado quando a chave de uma requisição anterior é enviada com outro corpo.
+     *
+     * @param e A exceção de chave de idempotência reaproveitada
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<String> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+    }
+
+    /**
+     * Trata exceções de fila de gravação de contas cheia.
+     * Este método é chamado quando a gravação agrupada não aceita novas contas dentro do tempo de espera,
+     * indicando ao cliente quando tentar novamente.
+     *
+     * @param e A exceção de fila de gravação cheia
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(ContaWriteQueueFullException.class)
+    public ResponseEntity<String> handleContaWriteQueueFullException(ContaWriteQueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+
+    /**
+     * Manipula exceções do tipo ContaWriteTimeoutException.
+     * Este método é chamado quando o grupo da conta já estava sendo gravado, mas o commit não terminou
+     * dentro do tempo de espera. Como a conta pode ter sido criada, a resposta não indica quando
+     * tentar novamente: a repetição deve utilizar a mesma chave de idempotência.
+     *
+     * @param e A exceção de tempo de gravação esgotado
+     * @return ResponseEntity com a mensagem de erro
+     */
+    @ExceptionHandler(ContaWriteTimeoutException.class)
+    public ResponseEntity<String> handleContaWriteTimeoutException(ContaWriteTimeoutException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
 }
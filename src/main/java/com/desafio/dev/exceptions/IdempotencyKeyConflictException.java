@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException() {
+        super("Já existe uma requisição em andamento com esta chave de idempotência");
+    }
+}
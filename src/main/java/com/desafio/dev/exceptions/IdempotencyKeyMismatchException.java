@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException() {
+        super("A chave de idempotência já foi utilizada em uma requisição com outro conteúdo");
+    }
+}
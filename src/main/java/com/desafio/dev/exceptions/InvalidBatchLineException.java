@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class InvalidBatchLineException extends RuntimeException {
+    public InvalidBatchLineException(int linha) {
+        super("A linha " + linha + " do lote não é um JSON válido; os itens seguintes não foram processados");
+    }
+}
@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("Cursor de paginação inválido");
+    }
+}
@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+    public InvalidIdempotencyKeyException() {
+        super("A chave de idempotência deve ter entre 1 e 255 caracteres");
+    }
+}
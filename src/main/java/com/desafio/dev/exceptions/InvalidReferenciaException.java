@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class InvalidReferenciaException extends RuntimeException {
+    public InvalidReferenciaException() {
+        super("A referência deve estar no formato MM-AAAA válido");
+    }
+}
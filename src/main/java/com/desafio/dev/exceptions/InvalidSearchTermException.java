@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class InvalidSearchTermException extends RuntimeException {
+    public InvalidSearchTermException() {
+        super("O termo de busca deve ter pelo menos 3 caracteres");
+    }
+}
@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class InvalidTransicaoLoteException extends RuntimeException {
+    public InvalidTransicaoLoteException() {
+        super("Informe os IDs das contas ou o ID do cliente cujas contas serão alteradas");
+    }
+}
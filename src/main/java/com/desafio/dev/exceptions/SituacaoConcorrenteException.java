@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class SituacaoConcorrenteException extends SituacaoConflictException {
+    public SituacaoConcorrenteException() {
+        super("A conta foi alterada por outras requisições ao mesmo tempo, tente novamente");
+    }
+}
@@ -0,0 +1,11 @@
+package com.desafio.dev.exceptions;
+
+public class SituacaoConflictException extends RuntimeException {
+    public SituacaoConflictException(String atual, String nova) {
+        super("A conta está com a situação: " + atual + " e não pode passar para a situação: " + nova);
+    }
+
+    protected SituacaoConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.desafio.dev.exceptions;
+
+public class SituacaoTransicaoNotAvailableException extends RuntimeException {
+    public SituacaoTransicaoNotAvailableException(String message) {
+        super("A situação: " + message + " não está disponível como destino de uma transição");
+    }
+}
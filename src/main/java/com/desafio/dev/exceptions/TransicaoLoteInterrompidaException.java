@@ -0,0 +1,17 @@
+package com.desafio.dev.exceptions;
+
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteResponseDTO;
+
+public class TransicaoLoteInterrompidaException extends RuntimeException {
+    private final ContaTransicaoLoteResponseDTO parcial;
+
+    public TransicaoLoteInterrompidaException(ContaTransicaoLoteResponseDTO parcial, Throwable causa) {
+        super("A alteração em lote foi interrompida após " + parcial.transicionadas()
+                + " contas alteradas; a requisição pode ser repetida", causa);
+        this.parcial = parcial;
+    }
+
+    public ContaTransicaoLoteResponseDTO getParcial() {
+        return parcial;
+    }
+}
@@ -0,0 +1,404 @@
+package com.desafio.dev.groupcommit;
+
+import com.desafio.dev.dtos.conta.ContaRequestDTO;
+import com.desafio.dev.exceptions.ClienteNotFoundException;
+import com.desafio.dev.exceptions.ContaWriteQueueFullException;
+import com.desafio.dev.exceptions.ContaWriteTimeoutException;
+import com.desafio.dev.model.Conta;
+import com.desafio.dev.repository.ClienteRepository;
+import com.desafio.dev.repository.ContaRepository;
+import com.desafio.dev.service.implentacion.OutboxServiceImpl;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Gravação agrupada (group commit) das contas criadas individualmente.
+ *
+ * Com {@code app.conta.group-commit.habilitado=true}, cada criação de conta é colocada em uma
+ * fila limitada e a requisição aguarda a confirmação. Um pequeno número de threads escritoras
+ * retira da fila as contas recebidas ao mesmo tempo e grava cada grupo em uma única transação:
+ * um INSERT em lote JDBC (reescrito em um INSERT de várias linhas pelo driver do PostgreSQL com
+ * {@code reWriteBatchedInserts}), uma atualização do saldo por cliente e um INSERT ... SELECT
+ * dos eventos na outbox. Cada requisição é respondida quando o commit do seu grupo termina,
+ * portanto milhares de criações por segundo pagam dezenas de commits em vez de milhares.
+ *
+ * Um grupo é gravado quando atinge {@code tamanho-lote} contas ou quando a primeira conta do
+ * grupo aguardou {@code espera-maxima}. Se a fila estiver cheia por mais de {@code espera-fila},
+ * a criação é recusada com {@link ContaWriteQueueFullException} (503), limitando a memória e
+ * o tempo de resposta sob sobrecarga. A requisição aguarda o commit por no máximo
+ * {@code espera-gravacao}: se a conta ainda estiver na fila, ela é retirada e a criação é recusada
+ * como com a fila cheia; se o seu grupo já estiver sendo gravado, a resposta é
+ * {@link ContaWriteTimeoutException} (503), pois a conta ainda pode ser criada. Se a transação de
+ * um grupo falhar (ex.: um cliente removido após a verificação), as contas do grupo são gravadas
+ * novamente uma a uma, para que somente a conta com erro seja recusada.
+ *
+ * As threads escritoras são threads daemon, que não impedem o encerramento da JVM; no
+ * encerramento da aplicação elas gravam as contas já aceitas antes de terminar.
+ *
+ * Métricas publicadas: {@code conta.group-commit.fila} (contas aguardando), {@code conta.group-commit.lote.tamanho},
+ * {@code conta.group-commit.lote.duracao} e {@code conta.group-commit.rejeitadas}.
+ */
+@Component
+public class ContaGroupCommitWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ContaGroupCommitWriter.class);
+
+    /**
+     * Tempo máximo de espera das threads escritoras sem contas na fila, antes de verificar o encerramento.
+     */
+    private static final long ESPERA_OCIOSA_MS = 100;
+
+    /**
+     * Tempo máximo aguardado no encerramento para que as contas da fila sejam gravadas.
+     */
+    private static final long ESPERA_ENCERRAMENTO_MS = 10_000;
+
+    /**
+     * Repositório utilizado para inserir as contas de cada grupo.
+     */
+    @Autowired
+    private ContaRepository contaRepository;
+
+    /**
+     * Repositório utilizado para associar as contas aos clientes sem carregá-los.
+     */
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    /**
+     * Serviço que atualiza os saldos dos clientes das contas gravadas.
+     */
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    /**
+     * Outbox onde são registrados os eventos de criação das contas gravadas.
+     */
+    @Autowired
+    private OutboxServiceImpl outboxService;
+
+    /**
+     * Template utilizado para gravar cada grupo em sua própria transação.
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Registro de métricas onde são publicados o tamanho da fila e dos grupos.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Indica se a criação de contas utiliza a gravação agrupada.
+     */
+    @Value("${app.conta.group-commit.habilitado:false}")
+    private boolean habilitado;
+
+    /**
+     * Quantidade máxima de contas aguardando gravação.
+     */
+    @Value("${app.conta.group-commit.tamanho-fila:10000}")
+    private int tamanhoFila;
+
+    /**
+     * Quantidade máxima de contas gravadas em cada transação.
+     */
+    @Value("${app.conta.group-commit.tamanho-lote:200}")
+    private int tamanhoLote;
+
+    /**
+     * Tempo máximo que a primeira conta de um grupo aguarda outras contas antes da gravação.
+     */
+    @Value("${app.conta.group-commit.espera-maxima:5ms}")
+    private Duration esperaMaxima;
+
+    /**
+     * Tempo máximo que uma requisição aguarda espaço na fila antes de ser recusada.
+     */
+    @Value("${app.conta.group-commit.espera-fila:100ms}")
+    private Duration esperaFila;
+
+    /**
+     * Tempo máximo que uma requisição aguarda o commit do grupo da sua conta.
+     */
+    @Value("${app.conta.group-commit.espera-gravacao:5s}")
+    private Duration esperaGravacao;
+
+    /**
+     * Quantidade de threads escritoras.
+     */
+    @Value("${app.conta.group-commit.escritores:2}")
+    private int escritores;
+
+    private BlockingQueue<Pedido> fila;
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean encerrando;
+
+    private DistributionSummary tamanhoLotes;
+    private Timer duracaoLotes;
+    private Counter rejeitadas;
+
+    /**
+     * Cria a fila, registra as métricas e inicia as threads escritoras, se a gravação agrupada estiver habilitada.
+     */
+    @PostConstruct
+    void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+        fila = new ArrayBlockingQueue<>(tamanhoFila);
+        Gauge.builder("conta.group-commit.fila", fila, BlockingQueue::size)
+                .description("Contas aguardando a gravação agrupada")
+                .register(meterRegistry);
+        tamanhoLotes = DistributionSummary.builder("conta.group-commit.lote.tamanho")
+                .description("Contas gravadas em cada transação da gravação agrupada")
+                .register(meterRegistry);
+        duracaoLotes = Timer.builder("conta.group-commit.lote.duracao")
+                .description("Duração da gravação de cada grupo de contas")
+                .register(meterRegistry);
+        rejeitadas = Counter.builder("conta.group-commit.rejeitadas")
+                .description("Criações de contas recusadas com a fila de gravação cheia")
+                .register(meterRegistry);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("conta-group-commit-");
+        threadFactory.setDaemon(true);
+        for (int i = 0; i < escritores; i++) {
+            Thread thread = threadFactory.newThread(this::escrever);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    /**
+     * Encerra as threads escritoras depois que as contas já aceitas forem gravadas.
+     */
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        encerrando = true;
+        long limite = System.currentTimeMillis() + ESPERA_ENCERRAMENTO_MS;
+        for (Thread thread : threads) {
+            thread.join(Math.max(1, limite - System.currentTimeMillis()));
+        }
+        if (fila != null) {
+            Pedido pedido;
+            while ((pedido = fila.poll()) != null) {
+                pedido.resultado().completeExceptionally(new ContaWriteQueueFullException());
+            }
+        }
+    }
+
+    /**
+     * @return true se a criação de contas utiliza a gravação agrupada
+     */
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    /**
+     * Coloca a conta na fila de gravação e aguarda o commit do seu grupo.
+     *
+     * @param idCliente ID do cliente (já verificado)
+     * @param dados dados da conta (já validados)
+     * @return conta gravada, com o ID gerado
+     * @throws ContaWriteQueueFullException se a fila continuar cheia após o tempo de espera, ou se a
+     * conta continuar na fila após o tempo de espera da gravação
+     * @throws ContaWriteTimeoutException se o grupo da conta não terminar de ser gravado dentro do tempo de espera
+     * @throws ClienteNotFoundException se o cliente for removido antes da gravação
+     */
+    public Conta gravar(Long idCliente, ContaRequestDTO dados) {
+        Pedido pedido = new Pedido(idCliente, dados, new CompletableFuture<>());
+        boolean aceito;
+        try {
+            aceito = !encerrando && fila.offer(pedido, esperaFila.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            aceito = false;
+        }
+        if (!aceito) {
+            rejeitadas.increment();
+            throw new ContaWriteQueueFullException();
+        }
+        try {
+            return pedido.resultado().get(esperaGravacao.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException("Erro ao gravar a conta", e.getCause());
+        } catch (TimeoutException e) {
+            throw desistir(pedido);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw desistir(pedido);
+        }
+    }
+
+    /**
+     * Retira da fila uma conta cuja requisição deixou de aguardar a gravação.
+     *
+     * @param pedido conta aguardando gravação
+     * @return exceção a ser lançada: fila cheia se a conta ainda não tinha sido retirada da fila
+     * (e não será gravada) ou tempo esgotado se o seu grupo já estava sendo gravado
+     */
+    private RuntimeException desistir(Pedido pedido) {
+        if (fila.remove(pedido)) {
+            rejeitadas.increment();
+            return new ContaWriteQueueFullException();
+        }
+        return new ContaWriteTimeoutException();
+    }
+
+    /**
+     * Laço das threads escritoras: forma um grupo com as contas da fila e o grava, até o encerramento.
+     * Qualquer erro na gravação de um grupo é repassado às requisições do grupo, que nunca ficam
+     * sem resposta, e a thread continua gravando os grupos seguintes.
+     */
+    private void escrever() {
+        List<Pedido> lote = new ArrayList<>(tamanhoLote);
+        while (!encerrando || !fila.isEmpty()) {
+            boolean interrompida = false;
+            try {
+                coletar(lote);
+            } catch (InterruptedException e) {
+                interrompida = true;
+            }
+            if (!lote.isEmpty()) {
+                try {
+                    gravarLote(lote);
+                } catch (Throwable e) {
+                    log.error("Erro inesperado ao gravar um grupo de {} contas", lote.size(), e);
+                    for (Pedido pedido : lote) {
+                        pedido.resultado().completeExceptionally(e);
+                    }
+                } finally {
+                    lote.clear();
+                }
+            }
+            if (interrompida) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Aguarda a primeira conta e acrescenta ao grupo as contas que chegarem até o tamanho
+     * máximo ou até o fim da espera máxima, o que ocorrer primeiro.
+     *
+     * @param lote lista onde as contas do grupo são acrescentadas
+     * @throws InterruptedException se a thread for interrompida durante a espera
+     */
+    private void coletar(List<Pedido> lote) throws InterruptedException {
+        Pedido primeiro = fila.poll(ESPERA_OCIOSA_MS, TimeUnit.MILLISECONDS);
+        if (primeiro == null) {
+            return;
+        }
+        lote.add(primeiro);
+        long limite = System.nanoTime() + esperaMaxima.toNanos();
+        while (lote.size() < tamanhoLote) {
+            if (fila.drainTo(lote, tamanhoLote - lote.size()) > 0) {
+                continue;
+            }
+            long restante = limite - System.nanoTime();
+            if (restante <= 0) {
+                return;
+            }
+            Pedido proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            lote.add(proximo);
+        }
+    }
+
+    /**
+     * Grava um grupo em uma única transação e responde as requisições após o commit. Se a
+     * transação falhar, cada conta é gravada em sua própria transação.
+     *
+     * @param lote contas do grupo
+     */
+    private void gravarLote(List<Pedido> lote) {
+        Timer.Sample inicio = Timer.start(meterRegistry);
+        try {
+            List<Conta> contas = transactionTemplate.execute(status -> inserir(lote));
+            for (int i = 0; i < lote.size(); i++) {
+                lote.get(i).resultado().complete(contas.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Erro ao gravar um grupo de {} contas; as contas serão gravadas uma a uma", lote.size(), e);
+            for (Pedido pedido : lote) {
+                try {
+                    pedido.resultado().complete(transactionTemplate.execute(status -> inserir(List.of(pedido))).get(0));
+                } catch (DataIntegrityViolationException ex) {
+                    pedido.resultado().completeExceptionally(clienteRepository.existsById(pedido.idCliente())
+                            ? ex
+                            // Cliente removido após a verificação
+                            : new ClienteNotFoundException());
+                } catch (RuntimeException ex) {
+                    pedido.resultado().completeExceptionally(ex);
+                }
+            }
+        }
+        inicio.stop(duracaoLotes);
+        tamanhoLotes.record(lote.size());
+    }
+
+    /**
+     * Insere as contas do grupo, atualiza os saldos dos seus clientes e registra os eventos
+     * de criação na outbox, na transação atual.
+     *
+     * @param lote contas do grupo
+     * @return contas inseridas, na ordem do grupo
+     */
+    private List<Conta> inserir(List<Pedido> lote) {
+        List<Conta> contas = new ArrayList<>(lote.size());
+        for (Pedido pedido : lote) {
+            Conta conta = new Conta();
+            conta.setCliente(clienteRepository.getReferenceById(pedido.idCliente()));
+            conta.setReferencia(pedido.dados().referencia());
+            conta.setValor(pedido.dados().valor());
+            conta.setSituacao(pedido.dados().situacao());
+            contas.add(conta);
+        }
+        contaRepository.saveAll(contas);
+        contaRepository.flush();
+        saldoClienteService.registrarInclusoes(contas);
+        outboxService.registrarCriacoes(contas);
+        return contas;
+    }
+
+    /**
+     * Conta aguardando gravação e a resposta da requisição que a criou.
+     *
+     * @param idCliente ID do cliente
+     * @param dados dados da conta
+     * @param resultado conta gravada, concluída após o commit do grupo
+     */
+    private record Pedido(Long idCliente, ContaRequestDTO dados, CompletableFuture<Conta> resultado) {
+    }
+}
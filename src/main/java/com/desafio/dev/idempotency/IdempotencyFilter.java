@@ -0,0 +1,431 @@
+package com.desafio.dev.idempotency;
+
+import com.desafio.dev.exceptions.IdempotencyKeyConflictException;
+import com.desafio.dev.exceptions.IdempotencyKeyMismatchException;
+import com.desafio.dev.exceptions.InvalidIdempotencyKeyException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Filtro que implementa o cabeçalho {@code Idempotency-Key} nos endpoints marcados com {@link Idempotente}.
+ *
+ * A primeira requisição com uma chave reserva a chave, é executada normalmente e tem a sua
+ * resposta gravada no {@link IdempotencyStore}. As repetições com a mesma chave (e o mesmo
+ * método e caminho) recebem a resposta gravada, com o cabeçalho {@code Idempotent-Replayed: true},
+ * sem executar a criação novamente. Uma repetição enquanto a original ainda está em andamento
+ * recebe 409, e o reaproveitamento da chave com outro corpo recebe 422.
+ *
+ * Respostas com erro do servidor (5xx) não são gravadas: a chave é liberada para que a
+ * requisição possa ser repetida. O corpo da requisição é resumido (SHA-256) à medida que é
+ * lido pelo controlador, sem ser mantido em memória. O corpo da resposta é enviado ao cliente
+ * à medida que é escrito e copiado para gravação somente até
+ * {@link IdempotencyStore#getCorpoMaximoGravado()}; respostas maiores (ex.: importações em lote
+ * grandes) são gravadas sem o corpo, e a repetição recebe somente o status e os cabeçalhos.
+ * Requisições sem o cabeçalho não são afetadas.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    /**
+     * Cabeçalho com a chave de idempotência informada pelo cliente.
+     */
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    /**
+     * Cabeçalho incluído nas respostas repetidas a partir da resposta gravada.
+     */
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    /**
+     * Tamanho máximo da chave informada.
+     */
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    /**
+     * Armazenamento das chaves e das respostas gravadas.
+     */
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    /**
+     * Mapeamento utilizado para identificar o endpoint da requisição.
+     */
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    /**
+     * Resolvedor que trata as exceções do filtro pelo {@link com.desafio.dev.exceptions.GlobalExceptionController}.
+     */
+    @Autowired
+    @Qualifier("handlerExceptionResolver")
+    private HandlerExceptionResolver exceptionResolver;
+
+    /**
+     * Somente requisições POST com o cabeçalho {@value #IDEMPOTENCY_KEY} são filtradas.
+     *
+     * @param request requisição recebida
+     * @return true se a requisição não deve passar pelo filtro
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null;
+    }
+
+    /**
+     * Executa a requisição original e grava a sua resposta, ou repete a resposta já gravada para a chave.
+     *
+     * @param request requisição recebida
+     * @param response resposta enviada ao cliente
+     * @param chain restante da cadeia de filtros
+     * @throws ServletException se ocorrer um erro ao processar a requisição
+     * @throws IOException se ocorrer um erro ao ler a requisição ou escrever a resposta
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HandlerMethod handler = endpointIdempotente(request);
+        if (handler == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String valor = request.getHeader(IDEMPOTENCY_KEY);
+        if (valor.isBlank() || valor.length() > TAMANHO_MAXIMO_CHAVE) {
+            exceptionResolver.resolveException(request, response, handler, new InvalidIdempotencyKeyException());
+            return;
+        }
+
+        String chave = request.getMethod() + " " + request.getRequestURI() + " " + valor;
+        RequisicaoResumida requisicao = new RequisicaoResumida(request);
+        RespostaIdempotente gravada = idempotencyStore.reservar(chave);
+        if (gravada != null) {
+            repetir(requisicao, response, handler, gravada);
+            return;
+        }
+
+        RespostaCopiada resposta = new RespostaCopiada(response, idempotencyStore.getCorpoMaximoGravado());
+        boolean concluida = false;
+        try {
+            chain.doFilter(requisicao, resposta);
+            if (resposta.getStatus() < 500) {
+                idempotencyStore.concluir(chave, new RespostaIdempotente(requisicao.impressao(), resposta.getStatus(),
+                        resposta.getContentType(), resposta.getHeader(HttpHeaders.ETAG),
+                        resposta.getHeader(HttpHeaders.LOCATION), resposta.corpo()));
+                concluida = true;
+            }
+        } finally {
+            if (!concluida) {
+                idempotencyStore.liberar(chave);
+            }
+        }
+    }
+
+    /**
+     * Responde uma repetição com a resposta gravada, ou com erro se a requisição original
+     * ainda não terminou ou se o corpo não é o mesmo da original.
+     *
+     * @param requisicao requisição repetida
+     * @param response resposta enviada ao cliente
+     * @param handler endpoint da requisição
+     * @param gravada resposta gravada para a chave
+     * @throws IOException se ocorrer um erro ao ler a requisição ou escrever a resposta
+     */
+    private void repetir(RequisicaoResumida requisicao, HttpServletResponse response, HandlerMethod handler,
+                         RespostaIdempotente gravada) throws IOException {
+        if (!gravada.concluida()) {
+            exceptionResolver.resolveException(requisicao, response, handler, new IdempotencyKeyConflictException());
+            return;
+        }
+        if (!requisicao.impressao().equals(gravada.impressao())) {
+            exceptionResolver.resolveException(requisicao, response, handler, new IdempotencyKeyMismatchException());
+            return;
+        }
+        response.setStatus(gravada.status());
+        if (gravada.contentType() != null) {
+            response.setContentType(gravada.contentType());
+        }
+        if (gravada.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, gravada.etag());
+        }
+        if (gravada.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, gravada.location());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        if (gravada.corpo() == null) {
+            // corpo grande demais para ser gravado
+            response.setContentLength(0);
+            return;
+        }
+        response.setContentLength(gravada.corpo().length);
+        response.getOutputStream().write(gravada.corpo());
+    }
+
+    /**
+     * @param request requisição recebida
+     * @return endpoint da requisição, se estiver marcado com {@link Idempotente}; caso contrário, nulo
+     * @throws ServletException se ocorrer um erro ao identificar o endpoint
+     */
+    private HandlerMethod endpointIdempotente(HttpServletRequest request) throws ServletException {
+        boolean caminhoAnalisado = ServletRequestPathUtils.hasParsedRequestPath(request);
+        if (!caminhoAnalisado) {
+            ServletRequestPathUtils.parseAndCache(request);
+        }
+        try {
+            HandlerExecutionChain execucao = handlerMapping.getHandler(request);
+            if (execucao != null && execucao.getHandler() instanceof HandlerMethod handler
+                    && handler.hasMethodAnnotation(Idempotente.class)) {
+                return handler;
+            }
+            return null;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        } finally {
+            if (!caminhoAnalisado) {
+                ServletRequestPathUtils.clearParsedRequestPath(request);
+            }
+        }
+    }
+
+    /**
+     * Requisição cujo corpo é resumido (SHA-256) à medida que é lido, para identificar
+     * repetições com a mesma chave e outro conteúdo.
+     */
+    private static class RequisicaoResumida extends HttpServletRequestWrapper {
+
+        private final MessageDigest digest;
+
+        private ServletInputStream corpo;
+
+        private BufferedReader leitor;
+
+        RequisicaoResumida(HttpServletRequest request) {
+            super(request);
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (corpo == null) {
+                corpo = new CorpoResumido(super.getInputStream(), digest);
+            }
+            return corpo;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (leitor == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+                leitor = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return leitor;
+        }
+
+        /**
+         * Lê o restante do corpo, se o controlador não o leu até o final, e conclui o resumo.
+         *
+         * @return hash SHA-256 do corpo, em Base64
+         * @throws IOException se ocorrer um erro ao ler o corpo
+         */
+        String impressao() throws IOException {
+            getInputStream().transferTo(OutputStream.nullOutputStream());
+            return Base64.getEncoder().encodeToString(digest.digest());
+        }
+    }
+
+    /**
+     * Corpo da requisição que atualiza o resumo a cada leitura. Fechar o corpo não fecha a
+     * requisição original, para que o restante possa ser lido ao concluir o resumo.
+     */
+    private static class CorpoResumido extends ServletInputStream {
+
+        private final ServletInputStream original;
+
+        private final DigestInputStream resumo;
+
+        CorpoResumido(ServletInputStream original, MessageDigest digest) {
+            this.original = original;
+            this.resumo = new DigestInputStream(original, digest);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return resumo.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return resumo.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return original.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return original.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            original.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Resposta cujo corpo é enviado ao cliente à medida que é escrito e, ao mesmo tempo, copiado
+     * para gravação até o limite informado. Ao ultrapassar o limite a cópia é descartada, de modo
+     * que uma resposta grande não é mantida inteira em memória.
+     */
+    private static class RespostaCopiada extends HttpServletResponseWrapper {
+
+        private final long limite;
+
+        private ByteArrayOutputStream copia = new ByteArrayOutputStream();
+
+        private ServletOutputStream corpo;
+
+        private PrintWriter escritor;
+
+        RespostaCopiada(HttpServletResponse response, long limite) {
+            super(response);
+            this.limite = limite;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (corpo == null) {
+                corpo = new CorpoCopiado(super.getOutputStream(), this);
+            }
+            return corpo;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (escritor == null) {
+                escritor = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return escritor;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (escritor != null) {
+                escritor.flush();
+            }
+            super.flushBuffer();
+        }
+
+        /**
+         * Copia os bytes escritos, enquanto o total não ultrapassar o limite.
+         *
+         * @param b bytes escritos
+         * @param off posição do primeiro byte escrito
+         * @param len quantidade de bytes escritos
+         */
+        void copiar(byte[] b, int off, int len) {
+            if (copia == null) {
+                return;
+            }
+            if (copia.size() + (long) len > limite) {
+                copia = null;
+                return;
+            }
+            copia.write(b, off, len);
+        }
+
+        /**
+         * @return corpo escrito pelo controlador, ou nulo se ultrapassou o limite
+         */
+        byte[] corpo() {
+            if (escritor != null) {
+                escritor.flush();
+            }
+            return copia == null ? null : copia.toByteArray();
+        }
+    }
+
+    /**
+     * Corpo da resposta que escreve na resposta original e copia os bytes escritos.
+     */
+    private static class CorpoCopiado extends ServletOutputStream {
+
+        private final ServletOutputStream original;
+
+        private final RespostaCopiada resposta;
+
+        CorpoCopiado(ServletOutputStream original, RespostaCopiada resposta) {
+            this.original = original;
+            this.resposta = resposta;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            original.write(b);
+            resposta.copiar(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            original.write(b, off, len);
+            resposta.copiar(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            original.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return original.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            original.setWriteListener(writeListener);
+        }
+    }
+}
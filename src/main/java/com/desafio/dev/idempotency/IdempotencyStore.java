@@ -0,0 +1,320 @@
+package com.desafio.dev.idempotency;
+
+import com.desafio.dev.model.Idempotencia;
+import com.desafio.dev.repository.IdempotenciaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazenamento das chaves de idempotência e das respostas gravadas para elas.
+ *
+ * As respostas gravadas ficam em um cache Caffeine limitado pelo tamanho aproximado, em bytes,
+ * das chaves e dos corpos ({@code app.idempotencia.memoria-maxima}) e com expiração após o tempo
+ * de retenção ({@code app.idempotencia.ttl}). Respostas com corpo maior que
+ * {@code app.idempotencia.corpo-maximo} não têm o corpo mantido em memória: com o banco, a
+ * repetição lê a resposta da tabela; sem o banco, a repetição recebe somente o status e os
+ * cabeçalhos gravados.
+ *
+ * As reservas das requisições em andamento ficam fora do cache, em um conjunto concorrente sem
+ * limite de tamanho (limitado, na prática, pelas requisições simultâneas), para que a remoção de
+ * entradas pelo limite de memória nunca libere uma chave em andamento e a repetição execute a
+ * criação novamente. A reserva de uma chave é uma inclusão O(1) nesse conjunto, que bloqueia
+ * apenas a posição da chave, portanto requisições com chaves diferentes não disputam nenhum bloqueio.
+ *
+ * Com {@code app.idempotencia.banco=true} as chaves também são gravadas na tabela idempotencia,
+ * para que as repetições sejam reconhecidas por outras instâncias da aplicação e após reinícios;
+ * o cache continua respondendo as repetições já conhecidas sem acessar o banco. Cada reserva
+ * registra a instância que a fez e o momento da reserva: uma reserva em andamento há mais de
+ * {@code app.idempotencia.reserva-maxima} (por exemplo, de uma instância encerrada durante a
+ * requisição) é assumida pela próxima repetição, em vez de recusá-la com 409 até a limpeza das
+ * chaves expiradas. Sem o banco, cada instância reconhece apenas as repetições recebidas por ela mesma.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    /**
+     * Tamanho aproximado, em bytes, de uma entrada do cache além da chave e do corpo
+     * (objetos da entrada, da resposta e dos cabeçalhos gravados).
+     */
+    private static final int TAMANHO_ENTRADA = 256;
+
+    /**
+     * Repositório da tabela de chaves, utilizado quando o banco está habilitado.
+     */
+    @Autowired
+    private IdempotenciaRepository idempotenciaRepository;
+
+    /**
+     * Gerenciador de transações utilizado nos acessos à tabela de chaves.
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Registro de métricas onde são publicadas as estatísticas do cache.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Tempo de retenção das chaves e das respostas gravadas.
+     */
+    @Value("${app.idempotencia.ttl:24h}")
+    private Duration ttl;
+
+    /**
+     * Tamanho máximo aproximado das chaves e respostas mantidas em memória.
+     */
+    @Value("${app.idempotencia.memoria-maxima:64MB}")
+    private DataSize memoriaMaxima;
+
+    /**
+     * Tamanho máximo do corpo de uma resposta mantida em memória.
+     */
+    @Value("${app.idempotencia.corpo-maximo:256KB}")
+    private DataSize corpoMaximo;
+
+    /**
+     * Tamanho máximo do corpo de uma resposta gravada no banco.
+     */
+    @Value("${app.idempotencia.corpo-maximo-banco:8MB}")
+    private DataSize corpoMaximoBanco;
+
+    /**
+     * Tempo após o qual uma reserva em andamento no banco é considerada abandonada.
+     * Deve ser maior que a duração da requisição idempotente mais longa.
+     */
+    @Value("${app.idempotencia.reserva-maxima:5m}")
+    private Duration reservaMaxima;
+
+    /**
+     * Indica se as chaves também são gravadas no banco.
+     */
+    @Value("${app.idempotencia.banco:false}")
+    private boolean banco;
+
+    /**
+     * Identificação desta instância da aplicação, gravada nas reservas feitas no banco.
+     */
+    private final String instancia = ManagementFactory.getRuntimeMXBean().getName() + "/"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    private Cache<String, RespostaIdempotente> respostas;
+
+    /**
+     * Chaves reservadas por requisições em andamento nesta instância.
+     */
+    private final Set<String> emAndamento = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Cria o cache das chaves e registra as suas métricas ({@code cache.*} com {@code cache=idempotencia}).
+     */
+    @PostConstruct
+    void criarCache() {
+        respostas = Caffeine.newBuilder()
+                .maximumWeight(memoriaMaxima.toBytes())
+                .weigher((String chave, RespostaIdempotente resposta) -> TAMANHO_ENTRADA + chave.length()
+                        + (resposta.corpo() == null ? 0 : resposta.corpo().length))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, respostas, "idempotencia");
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Reserva uma chave para a requisição atual, caso ainda não tenha sido utilizada.
+     *
+     * @param chave chave da requisição
+     * @return nulo se a chave foi reservada para a requisição atual; caso contrário, a resposta
+     * gravada para a chave ou {@link RespostaIdempotente#EM_ANDAMENTO} se a requisição original
+     * ainda não terminou
+     */
+    public RespostaIdempotente reservar(String chave) {
+        RespostaIdempotente gravada = respostas.getIfPresent(chave);
+        if (gravada != null) {
+            return gravada;
+        }
+        if (!emAndamento.add(chave)) {
+            return RespostaIdempotente.EM_ANDAMENTO;
+        }
+        // a requisição original pode ter terminado entre a consulta ao cache e a reserva
+        gravada = respostas.getIfPresent(chave);
+        if (gravada != null) {
+            emAndamento.remove(chave);
+            return gravada;
+        }
+        if (!banco) {
+            return null;
+        }
+        try {
+            if (reservarNoBanco(chave)) {
+                return null;
+            }
+            gravada = transactionTemplate.execute(status -> idempotenciaRepository.findById(chave)
+                    .map(IdempotencyStore::paraResposta)
+                    .orElse(RespostaIdempotente.EM_ANDAMENTO));
+            if (gravada.concluida()) {
+                guardar(chave, gravada);
+            }
+            // concluída ou reservada por outra instância: a chave não fica reservada nesta instância
+            emAndamento.remove(chave);
+            return gravada;
+        } catch (RuntimeException e) {
+            emAndamento.remove(chave);
+            throw e;
+        }
+    }
+
+    /**
+     * Grava a resposta da requisição original, que passa a ser repetida para a chave.
+     *
+     * @param chave chave da requisição
+     * @param resposta resposta da requisição original
+     */
+    public void concluir(String chave, RespostaIdempotente resposta) {
+        if (banco) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> idempotenciaRepository.findById(chave)
+                        .filter(linha -> instancia.equals(linha.getInstancia()))
+                        .ifPresent(linha -> {
+                            linha.setImpressao(resposta.impressao());
+                            linha.setStatus(resposta.status());
+                            linha.setContentType(resposta.contentType());
+                            linha.setEtag(resposta.etag());
+                            linha.setLocation(resposta.location());
+                            linha.setCorpo(resposta.corpo());
+                        }));
+            } catch (RuntimeException e) {
+                log.warn("Não foi possível gravar no banco a resposta da chave de idempotência {}", chave, e);
+            }
+        }
+        // a resposta é guardada antes de a reserva ser retirada, para que nenhuma repetição
+        // encontre a chave livre e sem resposta
+        guardar(chave, resposta);
+        emAndamento.remove(chave);
+    }
+
+    /**
+     * Libera uma chave reservada cuja requisição falhou, para que possa ser executada novamente.
+     *
+     * @param chave chave da requisição
+     */
+    public void liberar(String chave) {
+        respostas.invalidate(chave);
+        emAndamento.remove(chave);
+        if (!banco) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotenciaRepository.liberar(chave, instancia));
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível liberar no banco a chave de idempotência {}", chave, e);
+        }
+    }
+
+    /**
+     * Tamanho máximo do corpo de resposta que o filtro deve copiar para gravação. Com o banco,
+     * as respostas são gravadas na tabela até {@code app.idempotencia.corpo-maximo-banco};
+     * sem o banco, somente os corpos mantidos em memória são copiados. Respostas maiores são
+     * gravadas sem o corpo.
+     *
+     * @return tamanho máximo, em bytes
+     */
+    public long getCorpoMaximoGravado() {
+        return banco ? Math.max(corpoMaximo.toBytes(), corpoMaximoBanco.toBytes()) : corpoMaximo.toBytes();
+    }
+
+    /**
+     * Remove do banco as chaves mais antigas que o tempo de retenção.
+     * As chaves em memória expiram pelo próprio cache.
+     *
+     * @return quantidade de chaves removidas
+     */
+    public int removerExpiradas() {
+        if (!banco) {
+            return 0;
+        }
+        Instant limite = Instant.now().minus(ttl);
+        return transactionTemplate.execute(status -> idempotenciaRepository.deleteAllByCriadaEmBefore(limite));
+    }
+
+    /**
+     * Mantém em memória a resposta gravada para a chave. Se o corpo for maior que
+     * {@code app.idempotencia.corpo-maximo}, a chave é retirada da memória quando o banco está
+     * habilitado (a repetição lê a resposta completa da tabela) ou mantida sem o corpo.
+     *
+     * @param chave chave da requisição
+     * @param resposta resposta da requisição original
+     */
+    private void guardar(String chave, RespostaIdempotente resposta) {
+        if (resposta.corpo() == null || resposta.corpo().length <= corpoMaximo.toBytes()) {
+            respostas.put(chave, resposta);
+        } else if (banco) {
+            respostas.invalidate(chave);
+        } else {
+            respostas.put(chave, new RespostaIdempotente(resposta.impressao(), resposta.status(), null,
+                    resposta.etag(), resposta.location(), null));
+        }
+    }
+
+    /**
+     * Reserva a chave na tabela. Se outra instância reservar a mesma chave ao mesmo tempo,
+     * a chave primária impede a segunda reserva. Se a chave já estiver reservada há mais de
+     * {@code app.idempotencia.reserva-maxima} sem resposta, a reserva é assumida por esta instância.
+     *
+     * @param chave chave da requisição
+     * @return true se a chave foi reservada para a requisição atual
+     */
+    private boolean reservarNoBanco(String chave) {
+        Instant agora = Instant.now();
+        try {
+            if (transactionTemplate.execute(status -> idempotenciaRepository.reservar(chave, instancia, agora)) == 1) {
+                return true;
+            }
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+        boolean assumida = transactionTemplate.execute(status -> idempotenciaRepository.assumirReservaExpirada(
+                chave, instancia, agora, agora.minus(reservaMaxima))) == 1;
+        if (assumida) {
+            log.warn("Reserva abandonada da chave de idempotência {} assumida por esta instância", chave);
+        }
+        return assumida;
+    }
+
+    /**
+     * @param linha chave gravada no banco
+     * @return resposta gravada, ou {@link RespostaIdempotente#EM_ANDAMENTO} se a requisição não terminou
+     */
+    private static RespostaIdempotente paraResposta(Idempotencia linha) {
+        if (linha.getStatus() == 0) {
+            return RespostaIdempotente.EM_ANDAMENTO;
+        }
+        return new RespostaIdempotente(linha.getImpressao(), linha.getStatus(), linha.getContentType(),
+                linha.getEtag(), linha.getLocation(), linha.getCorpo());
+    }
+}
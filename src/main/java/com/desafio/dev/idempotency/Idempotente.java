@@ -0,0 +1,19 @@
+package com.desafio.dev.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um endpoint de criação que aceita o cabeçalho {@code Idempotency-Key}.
+ *
+ * Requisições repetidas com a mesma chave recebem a resposta gravada da requisição original,
+ * sem executar a criação novamente (ver {@link IdempotencyFilter}).
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotente {
+}
@@ -0,0 +1,38 @@
+package com.desafio.dev.idempotency;
+
+/**
+ * Record que representa a resposta gravada para uma chave de idempotência, ou a reserva
+ * da chave enquanto a requisição original está em andamento ({@link #EM_ANDAMENTO}).
+ */
+public record RespostaIdempotente(
+    /** Hash SHA-256 do corpo da requisição original, em Base64 */
+    String impressao,
+
+    /** Status HTTP da resposta, ou 0 enquanto a requisição está em andamento */
+    int status,
+
+    /** Cabeçalho Content-Type da resposta */
+    String contentType,
+
+    /** Cabeçalho ETag da resposta */
+    String etag,
+
+    /** Cabeçalho Location da resposta */
+    String location,
+
+    /** Corpo da resposta, ou nulo se o corpo for grande demais para ser gravado ou mantido em memória */
+    byte[] corpo
+) {
+
+    /**
+     * Reserva de uma chave cuja requisição original ainda não terminou.
+     */
+    public static final RespostaIdempotente EM_ANDAMENTO = new RespostaIdempotente(null, 0, null, null, null, null);
+
+    /**
+     * @return true se a requisição original terminou e a resposta pode ser repetida
+     */
+    public boolean concluida() {
+        return status != 0;
+    }
+}
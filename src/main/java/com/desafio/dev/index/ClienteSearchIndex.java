@@ -0,0 +1,315 @@
+package com.desafio.dev.index;
+
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.repository.ClienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice em memória de trigramas do nome, e-mail e telefone dos clientes, utilizado na busca
+ * parcial quando a aplicação não está conectada ao PostgreSQL (ex.: H2 em desenvolvimento).
+ *
+ * No PostgreSQL a busca é feita pelo banco, utilizando os índices GIN da extensão pg_trgm,
+ * e este índice permanece desativado.
+ *
+ * Cada trigrama aponta para o conjunto ordenado dos IDs dos clientes que o contêm. Uma busca
+ * percorre, a partir do cursor, o menor conjunto entre os trigramas do termo, mantendo apenas
+ * os IDs presentes em todos os demais conjuntos, e confirma cada candidato comparando o termo
+ * com os campos do cliente. O índice é mantido pelos serviços a cada criação, atualização
+ * e exclusão de clientes.
+ */
+@Component
+public class ClienteSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteSearchIndex.class);
+
+    /**
+     * Tamanho dos n-gramas indexados. Termos menores não podem ser buscados pelo índice.
+     */
+    public static final int TAMANHO_NGRAMA = 3;
+
+    /**
+     * Repositório utilizado para carregar os clientes cadastrados.
+     */
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    /**
+     * Gerenciador de transações utilizado para ler os clientes em uma transação somente leitura.
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Fonte de dados utilizada para identificar o banco em uso.
+     */
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Controla o acesso concorrente ao índice.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Clientes indexados, por ID.
+     */
+    private final Map<Long, ClienteResponseDTO> clientes = new HashMap<>();
+
+    /**
+     * IDs dos clientes que contêm cada trigrama, em ordem crescente.
+     */
+    private final Map<String, NavigableSet<Long>> ngramas = new HashMap<>();
+
+    /**
+     * Indica se o índice foi carregado e está sendo utilizado nas buscas.
+     */
+    private volatile boolean ativo;
+
+    /**
+     * Indica se o índice está sendo (re)carregado. As alterações feitas durante a carga aguardam
+     * o fim da leitura e são aplicadas em seguida, já que a leitura pode não incluí-las.
+     */
+    private volatile boolean carregando;
+
+    /**
+     * Carrega o índice ao iniciar a aplicação, caso o banco em uso não seja o PostgreSQL.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarAoIniciar() {
+        String banco;
+        try {
+            banco = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Não foi possível identificar o banco de dados; índice de busca em memória desativado", e);
+            return;
+        }
+        if (!"PostgreSQL".equalsIgnoreCase(banco)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recarrega o índice a partir de todos os clientes cadastrados no banco.
+     * As buscas e alterações ficam bloqueadas durante a recarga; as alterações feitas nesse
+     * intervalo são aplicadas assim que a recarga termina.
+     */
+    public void rebuild() {
+        long inicio = System.nanoTime();
+        carregando = true;
+        lock.writeLock().lock();
+        try {
+            clientes.clear();
+            ngramas.clear();
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ClienteResponseDTO> todos = clienteRepository.streamAll()) {
+                    todos.forEach(this::indexar);
+                }
+            });
+            ativo = true;
+        } finally {
+            carregando = false;
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de busca em memória carregado com {} clientes em {} ms", clientes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+    }
+
+    /**
+     * @return true se o índice está carregado e deve ser utilizado nas buscas
+     */
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    /**
+     * Busca clientes cujo nome, e-mail ou telefone contenham o termo informado,
+     * sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param termo termo buscado, com pelo menos {@value #TAMANHO_NGRAMA} caracteres
+     * @param after ID do último cliente da página anterior (0 na primeira página)
+     * @param limite quantidade máxima de clientes retornados
+     * @return clientes encontrados, em ordem crescente de ID
+     */
+    public List<ClienteResponseDTO> search(String termo, long after, int limite) {
+        String normalizado = normalizar(termo);
+        List<ClienteResponseDTO> resultado = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<NavigableSet<Long>> conjuntos = new ArrayList<>();
+            for (String ngrama : ngramasDe(normalizado)) {
+                NavigableSet<Long> ids = ngramas.get(ngrama);
+                if (ids == null) {
+                    return resultado;
+                }
+                conjuntos.add(ids);
+            }
+            conjuntos.sort(Comparator.comparingInt(Set::size));
+
+            for (Long id : conjuntos.get(0).tailSet(after, false)) {
+                if (contidoEmTodos(id, conjuntos) && contem(clientes.get(id), normalizado)) {
+                    resultado.add(clientes.get(id));
+                    if (resultado.size() == limite) {
+                        break;
+                    }
+                }
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adiciona ou atualiza um cliente no índice.
+     * Durante uma recarga, aguarda o seu término para aplicar a alteração.
+     *
+     * @param cliente dados atuais do cliente
+     */
+    public void add(ClienteResponseDTO cliente) {
+        if (!ativo && !carregando) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            desindexar(cliente.id());
+            indexar(cliente);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um cliente do índice.
+     * Durante uma recarga, aguarda o seu término para aplicar a alteração.
+     *
+     * @param id ID do cliente
+     */
+    public void remove(Long id) {
+        if (!ativo && !carregando) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            desindexar(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inclui o cliente e seus trigramas no índice (deve ser chamado com o bloqueio de escrita).
+     *
+     * @param cliente dados do cliente
+     */
+    private void indexar(ClienteResponseDTO cliente) {
+        clientes.put(cliente.id(), cliente);
+        for (String ngrama : ngramasDe(cliente)) {
+            ngramas.computeIfAbsent(ngrama, chave -> new TreeSet<>()).add(cliente.id());
+        }
+    }
+
+    /**
+     * Remove o cliente e seus trigramas do índice (deve ser chamado com o bloqueio de escrita).
+     *
+     * @param id ID do cliente
+     */
+    private void desindexar(Long id) {
+        ClienteResponseDTO anterior = clientes.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        for (String ngrama : ngramasDe(anterior)) {
+            NavigableSet<Long> ids = ngramas.get(ngrama);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                ngramas.remove(ngrama);
+            }
+        }
+    }
+
+    /**
+     * @param id ID candidato, obtido do primeiro conjunto
+     * @param conjuntos conjuntos de IDs dos trigramas do termo
+     * @return true se o ID estiver em todos os demais conjuntos
+     */
+    private static boolean contidoEmTodos(Long id, List<NavigableSet<Long>> conjuntos) {
+        for (int i = 1; i < conjuntos.size(); i++) {
+            if (!conjuntos.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Confirma um candidato, já que conter todos os trigramas não garante conter o termo.
+     *
+     * @param cliente cliente candidato
+     * @param termo termo normalizado
+     * @return true se o nome, o e-mail ou o telefone contiverem o termo
+     */
+    private static boolean contem(ClienteResponseDTO cliente, String termo) {
+        return normalizar(cliente.nome()).contains(termo)
+                || normalizar(cliente.email()).contains(termo)
+                || normalizar(cliente.telefone()).contains(termo);
+    }
+
+    /**
+     * @param cliente dados do cliente
+     * @return trigramas do nome, do e-mail e do telefone
+     */
+    private static Set<String> ngramasDe(ClienteResponseDTO cliente) {
+        Set<String> resultado = ngramasDe(normalizar(cliente.nome()));
+        resultado.addAll(ngramasDe(normalizar(cliente.email())));
+        resultado.addAll(ngramasDe(normalizar(cliente.telefone())));
+        return resultado;
+    }
+
+    /**
+     * @param texto texto normalizado
+     * @return trigramas distintos do texto
+     */
+    private static Set<String> ngramasDe(String texto) {
+        Set<String> resultado = new HashSet<>();
+        for (int i = 0; i + TAMANHO_NGRAMA <= texto.length(); i++) {
+            resultado.add(texto.substring(i, i + TAMANHO_NGRAMA));
+        }
+        return resultado;
+    }
+
+    /**
+     * @param texto texto original (pode ser nulo)
+     * @return texto em minúsculas, ou vazio se for nulo
+     */
+    private static String normalizar(String texto) {
+        return texto == null ? "" : texto.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,282 @@
+package com.desafio.dev.index;
+
+import com.desafio.dev.model.converter.CpfConverter;
+import com.desafio.dev.repository.ClienteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice em memória dos CPFs cadastrados, utilizado para evitar consultas ao banco
+ * na verificação de CPF duplicado.
+ *
+ * Cada CPF é compactado nos seus 11 dígitos em um {@code long} (o mesmo valor armazenado
+ * na coluna cpf, ver {@link CpfConverter}) e mantido em um {@link LongHashSet}. Quando
+ * o índice responde que um CPF não está presente, a consulta ao banco é dispensada;
+ * quando responde que pode estar presente, a verificação segue para o
+ * {@link ClienteRepository}. Enquanto o índice não é carregado (ou quando está
+ * desabilitado), todas as verificações seguem para o banco.
+ *
+ * O índice é carregado ao iniciar a aplicação e mantido pelos serviços a cada criação,
+ * atualização e exclusão de clientes. Alterações feitas por outras instâncias da aplicação
+ * não são refletidas até a próxima recarga, por isso a restrição de unicidade do banco
+ * continua sendo a garantia final contra CPFs duplicados.
+ */
+@Component
+public class CpfIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CpfIndex.class);
+
+    /**
+     * Repositório utilizado para carregar os CPFs cadastrados.
+     */
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    /**
+     * Gerenciador de transações utilizado para ler os CPFs em uma transação somente leitura.
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Registro de métricas onde são publicados o tamanho, a taxa de falsos positivos
+     * e o tempo de recarga do índice.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Indica se o índice deve ser utilizado. Quando desabilitado, todas as verificações seguem para o banco.
+     */
+    @Value("${app.cpf-index.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Controla o acesso concorrente ao conjunto de CPFs.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Conjunto de CPFs compactados ou nulo enquanto o índice não foi carregado.
+     */
+    private LongHashSet cpfs;
+
+    /**
+     * Alterações recebidas durante uma recarga, aplicadas ao novo conjunto antes de substituí-lo.
+     * Nulo quando não há recarga em andamento.
+     */
+    private List<long[]> alteracoesDuranteRecarga;
+
+    /**
+     * Duração da última recarga, em milissegundos.
+     */
+    private volatile long duracaoUltimaRecarga;
+
+    private Counter possiveisPresentes;
+    private Counter ausentes;
+    private Counter falsosPositivos;
+
+    /**
+     * Registra as métricas do índice.
+     */
+    @PostConstruct
+    void registrarMetricas() {
+        Gauge.builder("cpf.index.size", this, CpfIndex::size)
+                .description("Quantidade de CPFs no índice em memória")
+                .register(meterRegistry);
+        Gauge.builder("cpf.index.false.positive.rate", this, CpfIndex::taxaFalsosPositivos)
+                .description("Fração das respostas 'pode estar presente' não confirmadas pelo banco")
+                .register(meterRegistry);
+        TimeGauge.builder("cpf.index.rebuild.time", this, TimeUnit.MILLISECONDS, index -> index.duracaoUltimaRecarga)
+                .description("Duração da última recarga do índice")
+                .register(meterRegistry);
+        possiveisPresentes = Counter.builder("cpf.index.lookups").tag("resultado", "possivel").register(meterRegistry);
+        ausentes = Counter.builder("cpf.index.lookups").tag("resultado", "ausente").register(meterRegistry);
+        falsosPositivos = Counter.builder("cpf.index.false.positives").register(meterRegistry);
+    }
+
+    /**
+     * Carrega o índice assim que a aplicação estiver pronta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarAoIniciar() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recarrega o índice a partir de todos os CPFs cadastrados no banco.
+     *
+     * Os CPFs são lidos em um novo conjunto sem bloquear as verificações, que continuam
+     * utilizando o conjunto anterior. Alterações feitas durante a leitura são registradas
+     * e aplicadas ao novo conjunto antes da substituição.
+     */
+    public synchronized void rebuild() {
+        long inicio = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            alteracoesDuranteRecarga = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LongHashSet novo;
+        try {
+            novo = new LongHashSet((int) clienteRepository.count());
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Long> todos = clienteRepository.streamAllCpfs()) {
+                    todos.forEach(novo::add);
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteRecarga = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (long[] alteracao : alteracoesDuranteRecarga) {
+                if (alteracao[1] == 1) {
+                    novo.add(alteracao[0]);
+                } else {
+                    novo.remove(alteracao[0]);
+                }
+            }
+            alteracoesDuranteRecarga = null;
+            cpfs = novo;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        duracaoUltimaRecarga = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        log.info("Índice de CPFs carregado com {} CPFs em {} ms", novo.size(), duracaoUltimaRecarga);
+    }
+
+    /**
+     * Verifica se um CPF pode estar cadastrado.
+     *
+     * @param cpf CPF no formato xxx.xxx.xxx-xx
+     * @return false somente quando o CPF certamente não está no índice; true quando pode estar
+     *         cadastrado ou quando o índice não está disponível
+     */
+    public boolean mightContain(String cpf) {
+        long valor = CpfConverter.compactar(cpf);
+        if (!enabled || valor < 0) {
+            return true;
+        }
+        lock.readLock().lock();
+        try {
+            if (cpfs == null) {
+                return true;
+            }
+            boolean presente = cpfs.contains(valor);
+            (presente ? possiveisPresentes : ausentes).increment();
+            return presente;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registra CPFs indicados como possivelmente presentes que não foram encontrados no banco.
+     *
+     * @param quantidade quantidade de falsos positivos
+     */
+    public void registrarFalsosPositivos(int quantidade) {
+        falsosPositivos.increment(quantidade);
+    }
+
+    /**
+     * Adiciona um CPF recém cadastrado ao índice.
+     *
+     * @param cpf CPF no formato xxx.xxx.xxx-xx
+     */
+    public void add(String cpf) {
+        alterar(cpf, true);
+    }
+
+    /**
+     * Remove do índice um CPF que deixou de estar cadastrado.
+     *
+     * @param cpf CPF no formato xxx.xxx.xxx-xx
+     */
+    public void remove(String cpf) {
+        alterar(cpf, false);
+    }
+
+    /**
+     * @return quantidade de CPFs no índice
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cpfs == null ? 0 : cpfs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica uma inclusão ou remoção ao índice e, se houver uma recarga em andamento,
+     * registra a alteração para o novo conjunto.
+     *
+     * @param cpf CPF no formato xxx.xxx.xxx-xx
+     * @param inclusao true para incluir, false para remover
+     */
+    private void alterar(String cpf, boolean inclusao) {
+        long valor = CpfConverter.compactar(cpf);
+        if (!enabled || valor < 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (cpfs != null) {
+                if (inclusao) {
+                    cpfs.add(valor);
+                } else {
+                    cpfs.remove(valor);
+                }
+            }
+            if (alteracoesDuranteRecarga != null) {
+                alteracoesDuranteRecarga.add(new long[]{valor, inclusao ? 1 : 0});
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return fração das respostas "pode estar presente" que não foram confirmadas pelo banco
+     */
+    private double taxaFalsosPositivos() {
+        double possiveis = possiveisPresentes.count();
+        return possiveis == 0 ? 0 : falsosPositivos.count() / possiveis;
+    }
+}
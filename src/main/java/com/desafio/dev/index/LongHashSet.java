@@ -0,0 +1,156 @@
+package com.desafio.dev.index;
+
+/**
+ * Conjunto de valores {@code long} não negativos com endereçamento aberto (sondagem linear).
+ *
+ * Os valores são armazenados diretamente em um vetor primitivo, sem objetos por elemento,
+ * o que mantém o consumo de memória em torno de 16 bytes por valor com a taxa de ocupação
+ * máxima de 50%. A remoção utiliza deslocamento para trás, dispensando marcadores de remoção.
+ *
+ * Esta classe não é thread-safe; o acesso concorrente é controlado por {@link CpfIndex}.
+ */
+final class LongHashSet {
+
+    /**
+     * Capacidade mínima do vetor (sempre potência de dois).
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Posições do vetor. Zero indica posição vazia, por isso os valores são armazenados somados de um.
+     */
+    private long[] slots;
+
+    /**
+     * Máscara utilizada para obter a posição a partir do hash (capacidade - 1).
+     */
+    private int mask;
+
+    /**
+     * Quantidade de valores armazenados.
+     */
+    private int size;
+
+    /**
+     * Cria um conjunto dimensionado para a quantidade de valores esperada.
+     *
+     * @param expectedSize quantidade de valores esperada
+     */
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize) * 2 - 1) << 1;
+        slots = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adiciona um valor ao conjunto.
+     *
+     * @param value valor não negativo
+     * @return true se o valor não estava presente
+     */
+    boolean add(long value) {
+        if ((size + 1) * 2L > slots.length) {
+            resize(slots.length << 1);
+        }
+        long stored = value + 1;
+        int i = indexOf(stored);
+        while (slots[i] != 0) {
+            if (slots[i] == stored) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = stored;
+        size++;
+        return true;
+    }
+
+    /**
+     * Verifica se um valor está presente no conjunto.
+     *
+     * @param value valor não negativo
+     * @return true se o valor estiver presente
+     */
+    boolean contains(long value) {
+        long stored = value + 1;
+        for (int i = indexOf(stored); slots[i] != 0; i = (i + 1) & mask) {
+            if (slots[i] == stored) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove um valor do conjunto, reposicionando os valores seguintes da mesma sequência de sondagem.
+     *
+     * @param value valor não negativo
+     * @return true se o valor estava presente
+     */
+    boolean remove(long value) {
+        long stored = value + 1;
+        int i = indexOf(stored);
+        while (slots[i] != stored) {
+            if (slots[i] == 0) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = 0;
+        size--;
+
+        for (int j = (i + 1) & mask; slots[j] != 0; j = (j + 1) & mask) {
+            int home = indexOf(slots[j]);
+            boolean fixo = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!fixo) {
+                slots[i] = slots[j];
+                slots[j] = 0;
+                i = j;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return quantidade de valores armazenados
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Redimensiona o vetor, reinserindo todos os valores.
+     *
+     * @param capacity nova capacidade (potência de dois)
+     */
+    private void resize(int capacity) {
+        long[] antigos = slots;
+        slots = new long[capacity];
+        mask = capacity - 1;
+        for (long stored : antigos) {
+            if (stored != 0) {
+                int i = indexOf(stored);
+                while (slots[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = stored;
+            }
+        }
+    }
+
+    /**
+     * Calcula a posição inicial de um valor, espalhando os bits (função de finalização do MurmurHash3).
+     *
+     * @param stored valor armazenado
+     * @return posição inicial no vetor
+     */
+    private int indexOf(long stored) {
+        long h = stored;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
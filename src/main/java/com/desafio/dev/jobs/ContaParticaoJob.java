@@ -0,0 +1,113 @@
+package com.desafio.dev.jobs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.YearMonth;
+
+/**
+ * Job que cria com antecedência as partições mensais da tabela conta no PostgreSQL.
+ *
+ * A tabela conta é particionada por mês de referência (migração V10). As partições do mês
+ * atual e dos próximos meses são criadas ao iniciar a aplicação e diariamente pela função
+ * {@code criar_particao_conta}, que ignora os meses que já possuem partição e move para a nova
+ * partição as contas do mês que estiverem na partição padrão (migração V14). Em outros bancos
+ * (ex.: H2 em desenvolvimento e nos testes) a tabela não é particionada e o job não faz nada.
+ *
+ * Meses antigos podem ser retirados da tabela com {@code select desanexar_particao_conta(AAAAMM)}.
+ */
+@Component
+public class ContaParticaoJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ContaParticaoJob.class);
+
+    /**
+     * Template JDBC utilizado para chamar a função de criação de partições.
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Fonte de dados utilizada para identificar o banco em uso.
+     */
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Quantidade de meses futuros, além do mês atual, que devem ter partição criada.
+     */
+    @Value("${app.conta.particoes.meses-futuros:12}")
+    private int mesesFuturos;
+
+    /**
+     * Indica se o banco em uso é o PostgreSQL (nulo até a primeira execução).
+     */
+    private Boolean postgresql;
+
+    /**
+     * Cria as partições que faltam ao iniciar a aplicação.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void criarAoIniciar() {
+        criarParticoesFuturas();
+    }
+
+    /**
+     * Cria as partições do mês atual e dos próximos meses que ainda não existem.
+     * Um mês com erro (ex.: tempo de espera do bloqueio esgotado) é registrado no log e não
+     * impede a criação dos demais nem a inicialização da aplicação; ele é tentado novamente
+     * na próxima execução.
+     *
+     * @return quantidade de partições criadas
+     */
+    @Scheduled(cron = "${app.conta.particoes.cron:0 0 2 * * *}")
+    public int criarParticoesFuturas() {
+        if (!isPostgresql()) {
+            return 0;
+        }
+        YearMonth mes = YearMonth.now();
+        int criadas = 0;
+        for (int i = 0; i <= mesesFuturos; i++) {
+            YearMonth referencia = mes.plusMonths(i);
+            try {
+                Boolean criada = jdbcTemplate.queryForObject("select criar_particao_conta(?)", Boolean.class,
+                        referencia.getYear() * 100 + referencia.getMonthValue());
+                if (Boolean.TRUE.equals(criada)) {
+                    log.info("Partição da tabela conta criada para {}", referencia);
+                    criadas++;
+                }
+            } catch (DataAccessException e) {
+                log.error("Erro ao criar a partição da tabela conta para {}", referencia, e);
+            }
+        }
+        return criadas;
+    }
+
+    /**
+     * @return true se o banco em uso for o PostgreSQL
+     */
+    private boolean isPostgresql() {
+        if (postgresql == null) {
+            try {
+                String banco = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                postgresql = "PostgreSQL".equalsIgnoreCase(banco);
+            } catch (MetaDataAccessException e) {
+                log.warn("Não foi possível identificar o banco de dados; partições da tabela conta não verificadas", e);
+                return false;
+            }
+        }
+        return postgresql;
+    }
+}
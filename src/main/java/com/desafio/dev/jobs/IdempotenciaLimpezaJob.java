@@ -0,0 +1,39 @@
+package com.desafio.dev.jobs;
+
+import com.desafio.dev.idempotency.IdempotencyStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job que remove periodicamente da tabela idempotencia as chaves mais antigas que o tempo
+ * de retenção ({@code app.idempotencia.ttl}). Sem o banco habilitado
+ * ({@code app.idempotencia.banco=false}) as chaves expiram pelo cache e o job não faz nada.
+ */
+@Component
+public class IdempotenciaLimpezaJob {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotenciaLimpezaJob.class);
+
+    /**
+     * Armazenamento das chaves de idempotência.
+     */
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    /**
+     * Remove as chaves expiradas.
+     *
+     * @return quantidade de chaves removidas
+     */
+    @Scheduled(cron = "${app.idempotencia.limpeza.cron:0 30 * * * *}")
+    public int removerExpiradas() {
+        int removidas = idempotencyStore.removerExpiradas();
+        if (removidas > 0) {
+            log.info("{} chaves de idempotência expiradas removidas", removidas);
+        }
+        return removidas;
+    }
+}
@@ -0,0 +1,137 @@
+package com.desafio.dev.jobs;
+
+import com.desafio.dev.dtos.outbox.ContaEventoDTO;
+import com.desafio.dev.service.implentacion.OutboxServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Job que envia periodicamente os eventos da outbox ao destino configurado.
+ *
+ * Os eventos são divididos em {@code app.outbox.particoes} partições pelo ID da conta. A cada
+ * execução cada partição é enviada em lotes de {@code app.outbox.tamanho-lote}, até que fique
+ * vazia ou um lote falhe; o lote com falha é enviado novamente na próxima execução, antes dos
+ * eventos posteriores da mesma partição, e as demais partições continuam sendo enviadas.
+ * Várias instâncias da aplicação podem executar o job ao mesmo tempo: cada partição é enviada
+ * por uma instância por vez (ver {@link com.desafio.dev.repository.OutboxEventoRepository}),
+ * portanto os eventos de uma conta chegam ao destino na ordem em que foram gravados. Todas as
+ * instâncias devem utilizar a mesma quantidade de partições.
+ *
+ * Métricas publicadas: {@code outbox.eventos.enviados} (eventos enviados), {@code outbox.falhas}
+ * (lotes com falha), {@code outbox.lote.duracao} (duração de cada lote) e {@code outbox.atraso}
+ * (tempo entre a gravação de cada evento e o seu envio).
+ */
+@Component
+public class OutboxDispatcherJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcherJob.class);
+
+    /**
+     * Serviço que envia cada lote de eventos.
+     */
+    @Autowired
+    private OutboxServiceImpl outboxService;
+
+    /**
+     * Registro de métricas onde são publicados a vazão e o atraso do envio.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Quantidade máxima de eventos em cada lote.
+     */
+    @Value("${app.outbox.tamanho-lote:500}")
+    private int tamanhoLote;
+
+    /**
+     * Quantidade de partições dos eventos, que limita quantas instâncias enviam eventos ao mesmo tempo.
+     */
+    @Value("${app.outbox.particoes:16}")
+    private int particoes;
+
+    private Counter enviados;
+    private Counter falhas;
+    private Timer duracaoLote;
+    private Timer atraso;
+
+    /**
+     * Registra as métricas do job.
+     */
+    @PostConstruct
+    void registrarMetricas() {
+        enviados = Counter.builder("outbox.eventos.enviados")
+                .description("Eventos de conta enviados pela outbox")
+                .register(meterRegistry);
+        falhas = Counter.builder("outbox.falhas")
+                .description("Lotes da outbox não aceitos pelo destino")
+                .register(meterRegistry);
+        duracaoLote = Timer.builder("outbox.lote.duracao")
+                .description("Duração do envio de cada lote da outbox")
+                .register(meterRegistry);
+        atraso = Timer.builder("outbox.atraso")
+                .description("Tempo entre a gravação do evento na outbox e o seu envio")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Envia os eventos pendentes de todas as partições, começando por uma partição aleatória
+     * para que instâncias executando ao mesmo tempo comecem por partições diferentes.
+     *
+     * @return quantidade de eventos enviados
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.intervalo:1000}")
+    public int enviar() {
+        int total = 0;
+        int primeira = ThreadLocalRandom.current().nextInt(particoes);
+        for (int i = 0; i < particoes; i++) {
+            total += enviar((primeira + i) % particoes);
+        }
+        return total;
+    }
+
+    /**
+     * Envia os eventos pendentes de uma partição, lote a lote.
+     *
+     * @param particao partição dos eventos
+     * @return quantidade de eventos enviados
+     */
+    private int enviar(int particao) {
+        int total = 0;
+        List<ContaEventoDTO> lote;
+        do {
+            Timer.Sample inicio = Timer.start(meterRegistry);
+            try {
+                lote = outboxService.enviarLote(particao, particoes, tamanhoLote);
+            } catch (Exception e) {
+                falhas.increment();
+                log.error("Erro ao enviar os eventos da partição {} da outbox; o lote será enviado novamente", particao, e);
+                break;
+            }
+            if (lote.isEmpty()) {
+                break;
+            }
+            inicio.stop(duracaoLote);
+            Instant agora = Instant.now();
+            for (ContaEventoDTO evento : lote) {
+                atraso.record(Duration.between(evento.criadoEm(), agora));
+            }
+            enviados.increment(lote.size());
+            total += lote.size();
+        } while (lote.size() == tamanhoLote);
+        return total;
+    }
+}
@@ -0,0 +1,33 @@
+package com.desafio.dev.jobs;
+
+import com.desafio.dev.datasource.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job que verifica periodicamente a disponibilidade das réplicas de leitura, para que
+ * uma réplica indisponível deixe de receber leituras e volte a recebê-las quando se recuperar.
+ * Executado somente com {@code app.datasource.replicas.habilitado=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replicas.habilitado", havingValue = "true")
+public class ReplicaVerificacaoJob {
+
+    /**
+     * DataSource de roteamento entre o primário e as réplicas.
+     */
+    @Autowired
+    private ReadWriteRoutingDataSource roteamentoDataSource;
+
+    /**
+     * Verifica as réplicas.
+     *
+     * @return quantidade de réplicas disponíveis
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.verificacao-intervalo:5000}")
+    public int verificar() {
+        return roteamentoDataSource.verificarReplicas();
+    }
+}
@@ -0,0 +1,110 @@
+package com.desafio.dev.jobs;
+
+import com.desafio.dev.config.SchedulingConfig;
+import com.desafio.dev.repository.ClienteRepository;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Job que confere periodicamente os saldos materializados dos clientes com a tabela de contas.
+ *
+ * Os clientes são divididos em faixas de IDs, reconciliadas em paralelo, cada uma em sua
+ * própria transação (ver {@link SaldoClienteServiceImpl#reconciliar(Long, Long)}). A quantidade
+ * de saldos corrigidos é publicada na métrica {@code saldo.reconciliacao.correcoes} e a duração
+ * de cada execução em {@code saldo.reconciliacao.duracao}.
+ */
+@Component
+public class SaldoClienteReconciliacaoJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SaldoClienteReconciliacaoJob.class);
+
+    /**
+     * Serviço que reconcilia cada faixa de clientes.
+     */
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    /**
+     * Repositório utilizado para obter o maior ID de cliente.
+     */
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    /**
+     * Registro de métricas onde são publicadas as correções e a duração da reconciliação.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Quantidade de IDs de clientes em cada faixa reconciliada.
+     */
+    @Value("${app.saldo.reconciliacao.tamanho-bloco:1000}")
+    private int tamanhoBloco;
+
+    /**
+     * Executor que reconcilia as faixas em paralelo (até {@code app.saldo.reconciliacao.paralelismo} por vez).
+     */
+    @Autowired
+    @Qualifier(SchedulingConfig.SALDO_RECONCILIACAO_EXECUTOR)
+    private ThreadPoolTaskExecutor executor;
+
+    private Counter correcoes;
+    private Timer duracao;
+
+    /**
+     * Registra as métricas do job.
+     */
+    @PostConstruct
+    void registrarMetricas() {
+        correcoes = Counter.builder("saldo.reconciliacao.correcoes")
+                .description("Saldos de clientes corrigidos pela reconciliação")
+                .register(meterRegistry);
+        duracao = Timer.builder("saldo.reconciliacao.duracao")
+                .description("Duração da reconciliação dos saldos dos clientes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconcilia os saldos de todos os clientes, por faixas de IDs em paralelo.
+     * Uma faixa com erro é registrada no log e não interrompe as demais.
+     */
+    @Scheduled(cron = "${app.saldo.reconciliacao.cron:0 0 3 * * *}")
+    public void executar() {
+        Long maiorId = clienteRepository.findMaxId();
+        if (maiorId == null) {
+            return;
+        }
+        duracao.record(() -> {
+            List<CompletableFuture<Integer>> faixas = new ArrayList<>();
+            for (long inicio = 1; inicio <= maiorId; inicio += tamanhoBloco) {
+                long inicioFaixa = inicio;
+                long fimFaixa = Math.min(inicio + tamanhoBloco - 1, maiorId);
+                faixas.add(CompletableFuture
+                        .supplyAsync(() -> saldoClienteService.reconciliar(inicioFaixa, fimFaixa), executor)
+                        .exceptionally(e -> {
+                            log.error("Erro ao reconciliar os saldos dos clientes {} a {}", inicioFaixa, fimFaixa, e);
+                            return 0;
+                        }));
+            }
+            int corrigidos = faixas.stream().mapToInt(CompletableFuture::join).sum();
+            correcoes.increment(corrigidos);
+            log.info("Reconciliação dos saldos concluída: {} faixas, {} saldos corrigidos", faixas.size(), corrigidos);
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.desafio.dev.model;
 
+import com.desafio.dev.model.converter.CpfConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,9 @@ import java.util.List;
  * as validações necessárias para garantir a integridade dos dados.
  */
 @Entity
-@Table(name = "cliente")
+@Table(name = "cliente", indexes = {
+        @Index(name = "idx_cliente_nome_id", columnList = "nome, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,10 +28,12 @@ public class Cliente {
 
     /**
      * Identificador único do cliente.
-     * Gerado automaticamente pelo banco de dados.
+     * Gerado pela sequence cliente_seq, reservando blocos de 50 valores por consulta
+     * (otimizador pooled), o que permite agrupar as inserções em lotes JDBC.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cliente_seq")
+    @SequenceGenerator(name = "cliente_seq", sequenceName = "cliente_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -42,9 +47,11 @@ public class Cliente {
     /**
      * CPF do cliente.
      * Campo obrigatório e único que deve seguir o formato xxx.xxx.xxx-xx.
+     * Armazenado no banco como bigint contendo apenas os 11 dígitos (ver {@link CpfConverter}).
      */
     @NotBlank(message = "O CPF não pode ser vazio")
     @Column(nullable = false, unique = true)
+    @Convert(converter = CpfConverter.class)
     @Pattern(regexp = "^\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}$", message = "O CPF deve estar no formato xxx.xxx.xxx-xx")
     private String cpf;
 
@@ -66,6 +73,14 @@ public class Cliente {
     @Column(nullable = true)
     private String email;
 
+    /**
+     * Versão do cliente, incrementada a cada atualização.
+     * Utilizada no controle de concorrência otimista e como ETag nas respostas da API.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     /**
      * Lista de contas associadas ao cliente.
      * Relacionamento um-para-muitos com a entidade Conta.
@@ -1,8 +1,11 @@
 package com.desafio.dev.model;
 
 import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.model.converter.CentavosConverter;
+import com.desafio.dev.model.converter.ReferenciaConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,7 +22,10 @@ import java.math.BigDecimal;
  * (PENDENTE, PAGA ou CANCELADA).
  */
 @Entity
-@Table(name = "conta")
+@Table(name = "conta", indexes = {
+        @Index(name = "idx_conta_cliente_situacao_referencia", columnList = "cliente_id, situacao, referencia"),
+        @Index(name = "idx_conta_cliente_referencia_id", columnList = "cliente_id, referencia, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,25 +37,39 @@ public class Conta {
      * Gerado automaticamente pelo banco de dados.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conta_seq")
+    @SequenceGenerator(name = "conta_seq", sequenceName = "conta_seq", allocationSize = 50)
     private Long id;
 
     /**
      * Referência temporal da conta no formato MM-AAAA.
      * Campo obrigatório que deve seguir o padrão mês-ano (ex: 01-2024).
+     * Armazenada no banco como o inteiro AAAAMM, ordenável cronologicamente (ver {@link ReferenciaConverter}).
      */
     @NotNull(message = "A situação nao pode ser nula")
+    @Convert(converter = ReferenciaConverter.class)
     @Pattern(regexp = "^(0[1-9]|1[0-2])-\\d{4}$", message = "A referência deve estar no formato MM-AAAA válido")
     private String referencia;
 
     /**
      * Valor monetário da conta.
      * Campo obrigatório que deve ser maior que zero.
+     * Armazenado no banco como a quantidade inteira de centavos (ver {@link CentavosConverter}).
      */
     @NotNull(message = "A situação nao pode ser nula")
     @DecimalMin(value = "0.01", message = "O valor deve ser maior que zero")
+    @Convert(converter = CentavosConverter.class)
     private BigDecimal valor;
 
+    /**
+     * Valor da conta em centavos, como está armazenado na coluna valor.
+     * Mapeamento somente leitura, utilizado pelas consultas de resumo e relatório para somar
+     * e projetar os valores como long; não é atualizado ao alterar o {@link #valor} da entidade.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "valor", insertable = false, updatable = false)
+    private long valorCentavos;
+
     /**
      * Situação atual da conta (PENDENTE, PAGA ou CANCELADA).
      * Campo obrigatório que utiliza um enum para garantir valores válidos.
@@ -60,9 +80,11 @@ public class Conta {
 
     /**
      * Cliente ao qual esta conta está associada.
-     * Relacionamento muitos-para-um com a entidade Cliente.
+     * Relacionamento muitos-para-um com a entidade Cliente, carregado sob demanda:
+     * o ID do cliente está disponível sem consulta adicional e as consultas que
+     * precisam dos dados do cliente devem buscá-lo explicitamente (join fetch ou entity graph).
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cliente_id")
     private Cliente cliente;
 }
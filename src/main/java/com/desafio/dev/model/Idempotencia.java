@@ -0,0 +1,81 @@
+package com.desafio.dev.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Entidade que representa uma chave de idempotência utilizada em uma requisição de criação
+ * e a resposta gravada para ela.
+ *
+ * A tabela é utilizada somente quando {@code app.idempotencia.banco=true}, para que as
+ * repetições sejam reconhecidas por todas as instâncias da aplicação e após reinícios.
+ * Enquanto a requisição original está sendo executada o status é 0; as linhas antigas são
+ * removidas pelo job de limpeza após o tempo de retenção das chaves.
+ *
+ * @see com.desafio.dev.idempotency.IdempotencyStore
+ */
+@Entity
+@Table(name = "idempotencia", indexes = @Index(name = "idx_idempotencia_criada_em", columnList = "criada_em"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Idempotencia {
+
+    /**
+     * Chave da requisição: método, caminho e valor do cabeçalho Idempotency-Key.
+     */
+    @Id
+    @Column(length = 600)
+    private String chave;
+
+    /**
+     * Hash SHA-256 do corpo da requisição original (Base64), nulo enquanto a requisição está em andamento.
+     */
+    @Column(length = 44)
+    private String impressao;
+
+    /**
+     * Status HTTP da resposta gravada, ou 0 enquanto a requisição está em andamento.
+     */
+    @Column(nullable = false)
+    private int status;
+
+    /**
+     * Cabeçalho Content-Type da resposta gravada.
+     */
+    private String contentType;
+
+    /**
+     * Cabeçalho ETag da resposta gravada.
+     */
+    private String etag;
+
+    /**
+     * Cabeçalho Location da resposta gravada.
+     */
+    private String location;
+
+    /**
+     * Corpo da resposta gravada.
+     */
+    @Column(length = 10_000_000)
+    private byte[] corpo;
+
+    /**
+     * Momento em que a chave foi reservada (ou em que a reserva foi assumida por outra instância).
+     */
+    @Column(nullable = false)
+    private Instant criadaEm;
+
+    /**
+     * Identificação da instância da aplicação que reservou a chave.
+     */
+    @Column(length = 100)
+    private String instancia;
+}
@@ -0,0 +1,92 @@
+package com.desafio.dev.model;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.ENUMS.TipoEventoConta;
+import com.desafio.dev.model.converter.CentavosConverter;
+import com.desafio.dev.model.converter.ReferenciaConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Entidade que representa um evento de conta aguardando envio aos sistemas externos (outbox).
+ *
+ * Os eventos são gravados na mesma transação da criação ou alteração da conta, portanto
+ * existem se e somente se a alteração foi confirmada. O job de envio lê os eventos em lotes,
+ * entrega cada lote ao destino configurado e remove os eventos enviados. Cada evento contém
+ * os dados da conta após a alteração, para que o destino não precise consultar a conta.
+ */
+@Entity
+@Table(name = "outbox_evento")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvento {
+
+    /**
+     * Identificador do evento, crescente na ordem em que os eventos foram gravados.
+     * Gerado pela coluna identity, para que os eventos de um bloco de contas possam ser
+     * gravados por um único INSERT ... SELECT sem reservar os IDs antes.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Tipo do evento.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TipoEventoConta tipo;
+
+    /**
+     * ID da conta alterada.
+     */
+    @Column(nullable = false)
+    private Long idConta;
+
+    /**
+     * ID do cliente da conta.
+     */
+    @Column(nullable = false)
+    private Long idCliente;
+
+    /**
+     * Referência da conta no formato MM-AAAA, armazenada como na tabela conta.
+     */
+    @Convert(converter = ReferenciaConverter.class)
+    @Column(nullable = false)
+    private String referencia;
+
+    /**
+     * Valor da conta, armazenado em centavos como na tabela conta.
+     */
+    @Convert(converter = CentavosConverter.class)
+    @Column(nullable = false)
+    private BigDecimal valor;
+
+    /**
+     * Situação da conta após a alteração.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Situacao situacao;
+
+    /**
+     * Situação da conta antes da alteração (nula na criação).
+     */
+    @Enumerated(EnumType.STRING)
+    private Situacao situacaoAnterior;
+
+    /**
+     * Momento em que o evento foi gravado.
+     */
+    @Column(nullable = false)
+    private Instant criadoEm;
+}
@@ -0,0 +1,64 @@
+package com.desafio.dev.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Entidade que representa o saldo materializado das contas de um cliente.
+ *
+ * Cada cliente possui uma linha de saldo, criada junto com o cliente e atualizada de
+ * forma incremental (somando as diferenças) na mesma transação de cada criação, alteração
+ * ou cancelamento de conta. Assim, a consulta do saldo é uma leitura pela chave primária,
+ * sem percorrer as contas. A consistência com a tabela conta é verificada periodicamente
+ * pelo job de reconciliação.
+ */
+@Entity
+@Table(name = "saldo_cliente")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaldoCliente {
+
+    /**
+     * Identificador do cliente ao qual o saldo pertence.
+     */
+    @Id
+    @Column(name = "cliente_id")
+    private Long idCliente;
+
+    /**
+     * Quantidade de contas com situação PENDENTE.
+     */
+    @Column(nullable = false)
+    private long quantidadePendente;
+
+    /**
+     * Quantidade de contas com situação PAGA.
+     */
+    @Column(nullable = false)
+    private long quantidadePaga;
+
+    /**
+     * Quantidade de contas com situação CANCELADA.
+     */
+    @Column(nullable = false)
+    private long quantidadeCancelada;
+
+    /**
+     * Soma dos valores das contas com situação PENDENTE.
+     */
+    @Column(nullable = false)
+    private BigDecimal valorPendente;
+
+    /**
+     * Soma dos valores das contas com situação PAGA.
+     */
+    @Column(nullable = false)
+    private BigDecimal valorPago;
+}
@@ -0,0 +1,66 @@
+package com.desafio.dev.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversor JPA que armazena o valor da conta como a quantidade inteira de centavos no banco de dados.
+ *
+ * Na aplicação e na API o valor continua sendo um {@link BigDecimal} com duas casas decimais;
+ * no banco a coluna bigint permite que as somas das consultas de resumo e relatório sejam
+ * lidas como {@code long}, sem criar um {@link BigDecimal} por linha. Valores com mais de duas
+ * casas decimais são arredondados para o centavo mais próximo, com as metades arredondadas
+ * para longe do zero, como a antiga coluna numeric(38,2) fazia. O conversor também é aplicado
+ * aos parâmetros das consultas, portanto {@code valor >= 10.50} é executado como {@code valor >= 1050}.
+ *
+ * @see com.desafio.dev.model.Conta
+ */
+@Converter
+public class CentavosConverter implements AttributeConverter<BigDecimal, Long> {
+
+    /**
+     * Converte o valor decimal para o valor armazenado no banco.
+     *
+     * @param valor valor em reais
+     * @return quantidade de centavos ou nulo se o valor for nulo
+     */
+    @Override
+    public Long convertToDatabaseColumn(BigDecimal valor) {
+        return valor == null ? null : paraCentavos(valor);
+    }
+
+    /**
+     * Converte o valor armazenado no banco para o valor decimal.
+     *
+     * @param centavos quantidade de centavos
+     * @return valor em reais com duas casas decimais
+     */
+    @Override
+    public BigDecimal convertToEntityAttribute(Long centavos) {
+        return centavos == null ? null : paraDecimal(centavos);
+    }
+
+    /**
+     * Converte um valor em reais para centavos, arredondando para o centavo mais próximo.
+     *
+     * @param valor valor em reais
+     * @return quantidade de centavos
+     * @throws ArithmeticException se o valor não couber em um long
+     */
+    public static long paraCentavos(BigDecimal valor) {
+        return valor.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converte uma quantidade de centavos para o valor em reais.
+     *
+     * @param centavos quantidade de centavos
+     * @return valor em reais com duas casas decimais
+     */
+    public static BigDecimal paraDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+}
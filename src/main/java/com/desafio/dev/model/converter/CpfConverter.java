@@ -0,0 +1,93 @@
+package com.desafio.dev.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Conversor JPA que armazena o CPF como número (bigint) no banco de dados.
+ *
+ * Na aplicação e na API o CPF continua sendo tratado no formato xxx.xxx.xxx-xx;
+ * no banco são armazenados apenas os seus 11 dígitos. Com isso a coluna e o seu
+ * índice único ocupam 8 bytes por registro e as comparações são numéricas.
+ * O conversor também é aplicado aos parâmetros das consultas, portanto
+ * {@code findByCpf("123.456.789-00")} consulta diretamente o índice numérico.
+ *
+ * @see com.desafio.dev.model.Cliente
+ */
+@Converter
+public class CpfConverter implements AttributeConverter<String, Long> {
+
+    /**
+     * Converte o CPF formatado para o valor armazenado no banco.
+     *
+     * @param cpf CPF no formato xxx.xxx.xxx-xx
+     * @return os 11 dígitos do CPF ou nulo se o formato for inválido
+     */
+    @Override
+    public Long convertToDatabaseColumn(String cpf) {
+        long valor = compactar(cpf);
+        return valor < 0 ? null : valor;
+    }
+
+    /**
+     * Converte o valor armazenado no banco para o CPF formatado.
+     *
+     * @param valor os 11 dígitos do CPF
+     * @return CPF no formato xxx.xxx.xxx-xx
+     */
+    @Override
+    public String convertToEntityAttribute(Long valor) {
+        return valor == null ? null : formatar(valor);
+    }
+
+    /**
+     * Compacta um CPF no formato xxx.xxx.xxx-xx nos seus 11 dígitos.
+     *
+     * @param cpf CPF formatado
+     * @return valor numérico do CPF ou -1 se o formato for inválido
+     */
+    public static long compactar(String cpf) {
+        if (cpf == null || cpf.length() != 14) {
+            return -1;
+        }
+        long valor = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (i == 3 || i == 7) {
+                if (c != '.') {
+                    return -1;
+                }
+            } else if (i == 11) {
+                if (c != '-') {
+                    return -1;
+                }
+            } else if (c >= '0' && c <= '9') {
+                valor = valor * 10 + (c - '0');
+            } else {
+                return -1;
+            }
+        }
+        return valor;
+    }
+
+    /**
+     * Formata os 11 dígitos de um CPF no formato xxx.xxx.xxx-xx.
+     *
+     * @param valor valor numérico do CPF
+     * @return CPF formatado
+     */
+    public static String formatar(long valor) {
+        char[] cpf = new char[14];
+        for (int i = 13; i >= 0; i--) {
+            if (i == 3 || i == 7) {
+                cpf[i] = '.';
+            } else if (i == 11) {
+                cpf[i] = '-';
+            } else {
+                cpf[i] = (char) ('0' + valor % 10);
+                valor /= 10;
+            }
+        }
+        return new String(cpf);
+    }
+}
@@ -0,0 +1,83 @@
+package com.desafio.dev.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Conversor JPA que armazena a referência da conta como o inteiro AAAAMM no banco de dados.
+ *
+ * Na aplicação e na API a referência continua no formato MM-AAAA; no banco o valor
+ * numérico AAAAMM ordena as referências cronologicamente, permitindo ordenar e consultar
+ * faixas de meses pelo índice da coluna. O conversor também é aplicado aos parâmetros
+ * das consultas, portanto {@code referencia between "11-2024" and "02-2025"} é
+ * executado como {@code between 202411 and 202502}.
+ *
+ * @see com.desafio.dev.model.Conta
+ */
+@Converter
+public class ReferenciaConverter implements AttributeConverter<String, Integer> {
+
+    /**
+     * Converte a referência formatada para o valor armazenado no banco.
+     *
+     * @param referencia referência no formato MM-AAAA
+     * @return valor AAAAMM ou nulo se o formato for inválido
+     */
+    @Override
+    public Integer convertToDatabaseColumn(String referencia) {
+        int valor = compactar(referencia);
+        return valor < 0 ? null : valor;
+    }
+
+    /**
+     * Converte o valor armazenado no banco para a referência formatada.
+     *
+     * @param valor valor AAAAMM
+     * @return referência no formato MM-AAAA
+     */
+    @Override
+    public String convertToEntityAttribute(Integer valor) {
+        return valor == null ? null : formatar(valor);
+    }
+
+    /**
+     * Compacta uma referência no formato MM-AAAA no inteiro AAAAMM.
+     *
+     * @param referencia referência formatada
+     * @return valor AAAAMM ou -1 se o formato for inválido (incluindo meses fora de 01 a 12)
+     */
+    public static int compactar(String referencia) {
+        if (referencia == null || referencia.length() != 7 || referencia.charAt(2) != '-') {
+            return -1;
+        }
+        int mes = 0;
+        int ano = 0;
+        for (int i = 0; i < referencia.length(); i++) {
+            char c = referencia.charAt(i);
+            if (i == 2) {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            if (i < 2) {
+                mes = mes * 10 + (c - '0');
+            } else {
+                ano = ano * 10 + (c - '0');
+            }
+        }
+        return mes < 1 || mes > 12 ? -1 : ano * 100 + mes;
+    }
+
+    /**
+     * Formata o inteiro AAAAMM no formato MM-AAAA.
+     *
+     * @param valor valor AAAAMM
+     * @return referência formatada
+     */
+    public static String formatar(int valor) {
+        int mes = valor % 100;
+        int ano = valor / 100;
+        return (mes < 10 ? "0" : "") + mes + "-" + String.format("%04d", ano);
+    }
+}
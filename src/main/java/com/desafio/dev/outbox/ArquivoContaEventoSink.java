@@ -0,0 +1,57 @@
+package com.desafio.dev.outbox;
+
+import com.desafio.dev.dtos.outbox.ContaEventoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Destino dos eventos da outbox em um arquivo local, no formato NDJSON (um evento por linha),
+ * utilizado para testar a integração sem um broker de mensagens. Cada lote é acrescentado
+ * ao final do arquivo.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "arquivo")
+public class ArquivoContaEventoSink implements ContaEventoSink {
+
+    /**
+     * Caminho do arquivo onde os eventos são acrescentados.
+     */
+    @Value("${app.outbox.arquivo:outbox-contas.ndjson}")
+    private Path arquivo;
+
+    /**
+     * Mapeador utilizado para serializar os eventos em JSON.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Acrescenta os eventos do lote ao arquivo.
+     *
+     * @param lote eventos em ordem de gravação
+     * @throws IOException se ocorrer um erro ao escrever no arquivo
+     */
+    @Override
+    public synchronized void enviar(List<ContaEventoDTO> lote) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ContaEventoDTO.class);
+        try (Writer saida = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ContaEventoDTO evento : lote) {
+                saida.write(writer.writeValueAsString(evento));
+                saida.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.desafio.dev.outbox;
+
+import com.desafio.dev.dtos.outbox.ContaEventoDTO;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos de conta enviados pela outbox (ex.: um broker de mensagens).
+ *
+ * O envio de cada lote ocorre dentro da transação que bloqueia e remove os eventos: se o
+ * destino lançar uma exceção, o lote é mantido na outbox e enviado novamente na próxima
+ * execução, portanto o destino deve tolerar eventos repetidos (entrega ao menos uma vez),
+ * identificando-os pelo ID.
+ *
+ * A implementação é escolhida por {@code app.outbox.sink}: {@code memoria}
+ * ({@link MemoriaContaEventoSink}), {@code arquivo} ({@link ArquivoContaEventoSink}) ou
+ * {@code nenhum}, para que um bean próprio da aplicação seja utilizado.
+ */
+public interface ContaEventoSink {
+
+    /**
+     * Entrega um lote de eventos ao destino.
+     *
+     * @param eventos eventos em ordem de gravação
+     * @throws Exception se o lote não puder ser entregue
+     */
+    void enviar(List<ContaEventoDTO> eventos) throws Exception;
+}
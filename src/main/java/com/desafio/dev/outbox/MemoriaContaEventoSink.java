@@ -0,0 +1,57 @@
+package com.desafio.dev.outbox;
+
+import com.desafio.dev.dtos.outbox.ContaEventoDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Destino em memória dos eventos da outbox, utilizado em desenvolvimento e nos testes.
+ * Mantém os últimos eventos recebidos, até o limite configurado, descartando os mais antigos.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memoria", matchIfMissing = true)
+public class MemoriaContaEventoSink implements ContaEventoSink {
+
+    /**
+     * Quantidade máxima de eventos mantidos.
+     */
+    @Value("${app.outbox.memoria.tamanho-maximo:10000}")
+    private int tamanhoMaximo;
+
+    private final Deque<ContaEventoDTO> eventos = new ArrayDeque<>();
+
+    /**
+     * Guarda os eventos do lote.
+     *
+     * @param lote eventos em ordem de gravação
+     */
+    @Override
+    public synchronized void enviar(List<ContaEventoDTO> lote) {
+        for (ContaEventoDTO evento : lote) {
+            if (eventos.size() == tamanhoMaximo) {
+                eventos.removeFirst();
+            }
+            eventos.addLast(evento);
+        }
+    }
+
+    /**
+     * @return cópia dos eventos recebidos, em ordem de recebimento
+     */
+    public synchronized List<ContaEventoDTO> getEventos() {
+        return new ArrayList<>(eventos);
+    }
+
+    /**
+     * Descarta os eventos recebidos.
+     */
+    public synchronized void limpar() {
+        eventos.clear();
+    }
+}
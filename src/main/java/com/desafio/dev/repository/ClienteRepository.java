@@ -1,11 +1,22 @@
 package com.desafio.dev.repository;
 
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
 import com.desafio.dev.model.Cliente;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório para operações de persistência da entidade Cliente.
@@ -17,6 +28,187 @@ import java.util.Optional;
 @Repository
 public interface ClienteRepository extends JpaRepository<Cliente, Long> {
     Optional<Cliente> findByCpf(String cpf);
-    //usados para teste
+
+    /**
+     * Verifica se o CPF já está cadastrado. A consulta precede a inclusão e a alteração de
+     * clientes, por isso é feita em uma transação de escrita, sempre no banco primário: com
+     * réplicas de leitura, a réplica ainda pode não conter um cliente recém-incluído.
+     *
+     * @param s CPF no formato xxx.xxx.xxx-xx
+     * @return true se algum cliente possuir o CPF
+     */
+    @Transactional
     boolean existsByCpf(String s);
+
+    /**
+     * Busca o cliente pelo ID no banco primário. Além das consultas, é utilizado para verificar
+     * a existência do cliente antes de incluir suas contas e para ler a versão esperada nas
+     * alterações; lido em uma réplica atrasada, resultaria em 404 ou 412 indevidos.
+     *
+     * @param id ID do cliente
+     * @return cliente ou vazio se não existir
+     */
+    @Override
+    @Transactional
+    Optional<Cliente> findById(Long id);
+
+    /**
+     * Verifica no banco primário se o cliente existe, pelos mesmos motivos de {@link #findById(Long)}.
+     *
+     * @param id ID do cliente
+     * @return true se o cliente existir
+     */
+    @Override
+    @Transactional
+    boolean existsById(Long id);
+
+    /**
+     * Busca clientes cujo nome, e-mail ou telefone contenham o padrão informado,
+     * sem diferenciar maiúsculas de minúsculas, ordenados por ID a partir do cursor.
+     *
+     * No PostgreSQL a consulta utiliza os índices de trigramas (pg_trgm) das três colunas.
+     *
+     * @param padrao padrão do LIKE (ex.: %silva%), com os caracteres especiais escapados por '!'
+     * @param after ID do último cliente da página anterior (0 na primeira página)
+     * @param limit quantidade máxima de clientes retornados
+     * @return clientes encontrados
+     */
+    @Query("select new com.desafio.dev.dtos.cliente.ClienteResponseDTO(c.id, c.nome, c.cpf, c.telefone, c.email, c.versao) " +
+            "from Cliente c where (c.nome ilike :padrao escape '!' or c.email ilike :padrao escape '!' " +
+            "or c.telefone ilike :padrao escape '!') and c.id > :after order by c.id")
+    List<ClienteResponseDTO> search(@Param("padrao") String padrao, @Param("after") Long after, Limit limit);
+
+    /**
+     * Busca o ID do cliente que possui o CPF informado.
+     *
+     * @param cpf CPF no formato xxx.xxx.xxx-xx
+     * @return ID do cliente ou vazio se o CPF não estiver cadastrado
+     */
+    @Query("select c.id from Cliente c where c.cpf = :cpf")
+    Optional<Long> findIdByCpf(@Param("cpf") String cpf);
+
+    /**
+     * @return maior ID de cliente cadastrado ou nulo se não houver clientes
+     */
+    @Query("select max(c.id) from Cliente c")
+    Long findMaxId();
+
+    /**
+     * Busca o CPF do cliente com o ID informado.
+     *
+     * @param id ID do cliente
+     * @return CPF do cliente ou vazio se o cliente não existir
+     */
+    @Query("select c.cpf from Cliente c where c.id = :id")
+    Optional<String> findCpfById(@Param("id") Long id);
+
+    /**
+     * Remove um cliente em um único comando DELETE, sem carregar a entidade nem suas contas.
+     * As contas do cliente devem ser removidas antes.
+     *
+     * @param id ID do cliente
+     * @return quantidade de clientes removidos
+     */
+    @Modifying
+    @Query("delete from Cliente c where c.id = :id")
+    int deleteClienteById(@Param("id") Long id);
+
+    /**
+     * Atualiza os dados de um cliente somente se ele ainda estiver na versão informada,
+     * incrementando a versão, em um único comando UPDATE.
+     *
+     * @param id ID do cliente
+     * @param versao versão esperada do cliente
+     * @param nome novo nome
+     * @param cpf novo CPF no formato xxx.xxx.xxx-xx
+     * @param telefone novo telefone
+     * @param email novo e-mail
+     * @return quantidade de registros atualizados (0 se o cliente não existir ou estiver em outra versão)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Cliente c set c.nome = :nome, c.cpf = :cpf, c.telefone = :telefone, c.email = :email, " +
+            "c.versao = c.versao + 1 where c.id = :id and c.versao = :versao")
+    int updateIfVersion(@Param("id") Long id, @Param("versao") Long versao, @Param("nome") String nome,
+                        @Param("cpf") String cpf, @Param("telefone") String telefone, @Param("email") String email);
+
+    /**
+     * Verifica, em uma única consulta, quais dos CPFs informados já estão cadastrados.
+     * Precede a inclusão em lote e, por isso, é lida no banco primário.
+     *
+     * @param cpfs CPFs a serem verificados
+     * @return Lista com os CPFs que já pertencem a algum cliente
+     */
+    @Transactional
+    @Query("select c.cpf from Cliente c where c.cpf in :cpfs")
+    List<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+
+    /**
+     * Verifica, em uma única consulta, quais dos IDs informados pertencem a clientes cadastrados.
+     * Assim como {@link #findExistingCpfs(Collection)}, precede inclusões e é lida no banco primário.
+     *
+     * @param ids IDs a serem verificados
+     * @return Lista com os IDs dos clientes existentes
+     */
+    @Transactional
+    @Query("select c.id from Cliente c where c.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca uma página de clientes ordenada por ID, a partir do cursor informado (keyset).
+     *
+     * @param after ID do último cliente da página anterior (0 para a primeira página)
+     * @param limit quantidade máxima de clientes retornados
+     * @return Lista de DTOs com os clientes cujo ID é maior que o cursor
+     */
+    @Query("select new com.desafio.dev.dtos.cliente.ClienteResponseDTO(c.id, c.nome, c.cpf, c.telefone, c.email, c.versao) " +
+            "from Cliente c where c.id > :after order by c.id")
+    List<ClienteResponseDTO> findPageOrderById(@Param("after") Long after, Limit limit);
+
+    /**
+     * Busca a primeira página de clientes ordenada por nome e ID.
+     *
+     * @param limit quantidade máxima de clientes retornados
+     * @return Lista de DTOs com os primeiros clientes em ordem alfabética
+     */
+    @Query("select new com.desafio.dev.dtos.cliente.ClienteResponseDTO(c.id, c.nome, c.cpf, c.telefone, c.email, c.versao) " +
+            "from Cliente c order by c.nome, c.id")
+    List<ClienteResponseDTO> findFirstPageOrderByNome(Limit limit);
+
+    /**
+     * Busca uma página de clientes ordenada por nome e ID, a partir do cursor informado (keyset).
+     * A comparação por tupla permite que o banco percorra o índice idx_cliente_nome_id
+     * diretamente a partir do cursor, sem descartar as linhas das páginas anteriores.
+     *
+     * @param nome nome do último cliente da página anterior
+     * @param after ID do último cliente da página anterior
+     * @param limit quantidade máxima de clientes retornados
+     * @return Lista de DTOs com os clientes posteriores ao cursor
+     */
+    @Query("select new com.desafio.dev.dtos.cliente.ClienteResponseDTO(c.id, c.nome, c.cpf, c.telefone, c.email, c.versao) " +
+            "from Cliente c where (c.nome, c.id) > (:nome, :after) order by c.nome, c.id")
+    List<ClienteResponseDTO> findPageOrderByNome(@Param("nome") String nome, @Param("after") Long after, Limit limit);
+
+    /**
+     * Percorre todos os clientes cadastrados, projetados diretamente em DTOs.
+     * As linhas são lidas do banco em lotes através de um cursor no servidor,
+     * portanto o stream deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream com todos os clientes cadastrados
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.desafio.dev.dtos.cliente.ClienteResponseDTO(c.id, c.nome, c.cpf, c.telefone, c.email, c.versao) " +
+            "from Cliente c")
+    Stream<ClienteResponseDTO> streamAll();
+
+    /**
+     * Percorre os CPFs de todos os clientes cadastrados, na forma numérica armazenada no banco,
+     * utilizado para carregar o índice de CPFs.
+     * O stream deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream com os 11 dígitos de cada CPF cadastrado
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query(value = "select cpf from cliente", nativeQuery = true)
+    Stream<Long> streamAllCpfs();
 }
@@ -1,26 +1,256 @@
 package com.desafio.dev.repository;
 
 import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.conta.ContaAgrupadaDTO;
+import com.desafio.dev.dtos.conta.ContaExportDTO;
+import com.desafio.dev.dtos.conta.ContaPendenteRelatorioDTO;
+import com.desafio.dev.dtos.conta.ContaTotalClienteDTO;
 import com.desafio.dev.model.Cliente;
 import com.desafio.dev.model.Conta;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório para operações de persistência da entidade Conta.
  * 
  * Esta interface estende JpaRepository para fornecer operações básicas de CRUD
  * e adiciona métodos personalizados para consultas específicas relacionadas
- * a contas, incluindo filtros por cliente e situação.
+ * a contas, incluindo filtros por cliente e situação. As consultas montadas
+ * dinamicamente estão em {@link ContaRepositoryCustom}.
  */
 @Repository
-public interface ContaRepository extends JpaRepository<Conta, Long> {
-    List<Conta> findAllByClienteIdAndSituacaoIn(Long id, List<Situacao> situacoes);
+public interface ContaRepository extends JpaRepository<Conta, Long>, ContaRepositoryCustom {
     //Usados para teste
     List<Conta> findBySituacao(Situacao situacao);
     List<Conta> findByCliente(Cliente cliente);
     List<Conta> findByReferencia(String referencia);
     List<Conta> findByClienteAndSituacao(Cliente clienteSalvo, Situacao situacao);
+
+    /**
+     * Percorre todas as contas cadastradas, projetadas diretamente em DTOs.
+     * As linhas são lidas do banco em lotes através de um cursor no servidor,
+     * portanto o stream deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream com todas as contas cadastradas
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.desafio.dev.dtos.conta.ContaExportDTO(c.id, c.cliente.id, c.referencia, c.valor, c.situacao) " +
+            "from Conta c")
+    Stream<ContaExportDTO> streamAll();
+
+    /**
+     * Percorre as contas em uma situação junto com o nome e o CPF dos seus clientes, em uma
+     * única consulta com junção. Utilizado no relatório de contas pendentes. As linhas são lidas
+     * do banco em lotes através de um cursor no servidor, portanto o stream deve ser consumido
+     * dentro de uma transação e fechado ao final.
+     *
+     * As contas não são ordenadas: nenhum índice atende a ordenação das contas de todas as
+     * partições, e o banco precisaria ordenar (possivelmente em disco) todas as contas na
+     * situação antes de enviar a primeira linha do relatório.
+     *
+     * @param situacao situação das contas
+     * @return Stream com as contas na situação e os dados dos seus clientes
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.desafio.dev.dtos.conta.ContaPendenteRelatorioDTO(cl.nome, cl.cpf, c.referencia, c.valorCentavos) " +
+            "from Conta c join c.cliente cl where c.situacao = :situacao")
+    Stream<ContaPendenteRelatorioDTO> streamRelatorioBySituacao(@Param("situacao") Situacao situacao);
+
+    /**
+     * Calcula, em uma única consulta agrupada, a quantidade e o valor total das contas
+     * de um cliente por situação e referência, sem carregar as contas.
+     * No PostgreSQL a consulta é respondida pelo índice idx_conta_cliente_situacao_referencia.
+     * Os valores são somados em centavos, como estão armazenados na coluna.
+     *
+     * @param idCliente ID do cliente
+     * @return uma linha para cada combinação de situação e referência existente
+     */
+    @Query("select new com.desafio.dev.dtos.conta.ContaAgrupadaDTO(c.situacao, c.referencia, count(c), sum(c.valorCentavos)) " +
+            "from Conta c where c.cliente.id = :idCliente group by c.situacao, c.referencia")
+    List<ContaAgrupadaDTO> sumByClienteIdGroupBySituacaoAndReferencia(@Param("idCliente") Long idCliente);
+
+    /**
+     * Calcula a quantidade e o valor total das contas por cliente e situação, para os
+     * clientes de uma faixa de IDs. Utilizado na reconciliação dos saldos dos clientes.
+     *
+     * @param inicio primeiro ID de cliente da faixa
+     * @param fim último ID de cliente da faixa
+     * @return uma linha para cada combinação de cliente e situação existente
+     */
+    @Query("select new com.desafio.dev.dtos.conta.ContaTotalClienteDTO(c.cliente.id, c.situacao, count(c), sum(c.valorCentavos)) " +
+            "from Conta c where c.cliente.id between :inicio and :fim group by c.cliente.id, c.situacao")
+    List<ContaTotalClienteDTO> sumByClienteIdBetweenGroupByClienteAndSituacao(@Param("inicio") Long inicio,
+                                                                              @Param("fim") Long fim);
+
+    /**
+     * Remove todas as contas de um cliente em um único comando DELETE,
+     * sem carregar as contas no contexto de persistência.
+     *
+     * @param idCliente ID do cliente
+     * @return quantidade de contas removidas
+     */
+    @Modifying
+    @Query("delete from Conta c where c.cliente.id = :idCliente")
+    int deleteAllByClienteId(@Param("idCliente") Long idCliente);
+
+    /**
+     * Busca os IDs de um bloco de contas de um cliente, utilizado na remoção em blocos.
+     *
+     * @param idCliente ID do cliente
+     * @param limit quantidade máxima de IDs retornados
+     * @return IDs das contas do cliente
+     */
+    @Query("select c.id from Conta c where c.cliente.id = :idCliente order by c.id")
+    List<Long> findIdsByClienteId(@Param("idCliente") Long idCliente, Limit limit);
+
+    /**
+     * Remove as contas informadas em um único comando DELETE.
+     *
+     * @param ids IDs das contas
+     * @return quantidade de contas removidas
+     */
+    @Modifying
+    @Query("delete from Conta c where c.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca uma conta com o ID do seu cliente, projetada diretamente em DTO.
+     *
+     * @param id ID da conta
+     * @return Optional contendo a conta, se encontrada
+     */
+    @Query("select new com.desafio.dev.dtos.conta.ContaExportDTO(c.id, c.cliente.id, c.referencia, c.valor, c.situacao) " +
+            "from Conta c where c.id = :id")
+    Optional<ContaExportDTO> findDadosById(@Param("id") Long id);
+
+    /**
+     * Busca uma conta pelo ID e pela referência, projetada diretamente em DTO. A referência
+     * restringe a busca à partição do mês da conta no PostgreSQL, em vez de consultar o
+     * índice de todas as partições.
+     *
+     * @param id ID da conta
+     * @param referencia referência da conta no formato MM-AAAA
+     * @return Optional contendo a conta, se encontrada na referência informada
+     */
+    @Query("select new com.desafio.dev.dtos.conta.ContaExportDTO(c.id, c.cliente.id, c.referencia, c.valor, c.situacao) " +
+            "from Conta c where c.id = :id and c.referencia = :referencia")
+    Optional<ContaExportDTO> findDadosByIdAndReferencia(@Param("id") Long id, @Param("referencia") String referencia);
+
+    /**
+     * Busca uma conta bloqueando-a (SELECT ... FOR UPDATE) até o fim da transação,
+     * para que alterações concorrentes da mesma conta não se sobreponham.
+     *
+     * @param id ID da conta
+     * @return Optional contendo a conta, se encontrada
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Conta c where c.id = :id")
+    Optional<Conta> findForUpdateById(@Param("id") Long id);
+
+    /**
+     * Busca e bloqueia (SELECT ... FOR UPDATE) uma conta pelo ID e pela referência, consultando
+     * somente a partição do mês da conta no PostgreSQL.
+     *
+     * @param id ID da conta
+     * @param referencia referência da conta no formato MM-AAAA
+     * @return Optional contendo a conta, se encontrada na referência informada
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Conta c where c.id = :id and c.referencia = :referencia")
+    Optional<Conta> findForUpdateByIdAndReferencia(@Param("id") Long id, @Param("referencia") String referencia);
+
+    /**
+     * Altera a situação de uma conta em um único comando UPDATE condicional, somente se a
+     * conta ainda estiver na situação e com o valor lidos anteriormente e se a situação
+     * lida permitir a transição. Nenhuma linha é alterada se a conta tiver sido modificada
+     * por outra requisição após a leitura. A referência restringe o UPDATE à partição do
+     * mês da conta no PostgreSQL.
+     *
+     * @param id ID da conta
+     * @param referencia referência da conta no formato MM-AAAA
+     * @param anterior situação lida
+     * @param valor valor lido
+     * @param situacao nova situação
+     * @param origens situações a partir das quais a transição é permitida
+     * @return 1 se a conta foi alterada ou 0 caso contrário
+     */
+    @Modifying
+    @Query("update Conta c set c.situacao = :situacao where c.id = :id and c.referencia = :referencia " +
+            "and c.situacao = :anterior and c.valor = :valor and c.situacao in :origens")
+    int updateSituacaoIfUnchanged(@Param("id") Long id, @Param("referencia") String referencia,
+                                  @Param("anterior") Situacao anterior,
+                                  @Param("valor") BigDecimal valor, @Param("situacao") Situacao situacao,
+                                  @Param("origens") Collection<Situacao> origens);
+
+    /**
+     * Bloqueia (SELECT ... FOR UPDATE) as contas informadas que estejam em uma das situações
+     * de origem, para que a alteração de situação em lote e o saldo dos clientes sejam
+     * calculados sobre as mesmas linhas. As contas são bloqueadas em ordem de ID, a mesma
+     * das demais alterações em lote, evitando deadlocks entre lotes com contas em comum.
+     *
+     * @param ids IDs das contas
+     * @param origens situações a partir das quais a transição é permitida
+     * @return IDs das contas bloqueadas
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id from Conta c where c.id in :ids and c.situacao in :origens order by c.id")
+    List<Long> findIdsForUpdate(@Param("ids") Collection<Long> ids, @Param("origens") Collection<Situacao> origens);
+
+    /**
+     * Bloqueia (SELECT ... FOR UPDATE) um bloco de contas de um cliente, no período informado,
+     * que estejam em uma das situações de origem.
+     *
+     * @param idCliente ID do cliente
+     * @param de referência inicial no formato MM-AAAA
+     * @param ate referência final no formato MM-AAAA
+     * @param origens situações a partir das quais a transição é permitida
+     * @param limit quantidade máxima de contas bloqueadas
+     * @return IDs das contas bloqueadas
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id from Conta c where c.cliente.id = :idCliente and c.situacao in :origens " +
+            "and c.referencia between :de and :ate order by c.id")
+    List<Long> findIdsForUpdateByClienteId(@Param("idCliente") Long idCliente, @Param("de") String de,
+                                           @Param("ate") String ate, @Param("origens") Collection<Situacao> origens,
+                                           Limit limit);
+
+    /**
+     * Calcula a quantidade e o valor total das contas informadas por cliente e situação.
+     * Utilizado para atualizar os saldos dos clientes antes de uma alteração de situação em lote.
+     *
+     * @param ids IDs das contas
+     * @return uma linha para cada combinação de cliente e situação existente
+     */
+    @Query("select new com.desafio.dev.dtos.conta.ContaTotalClienteDTO(c.cliente.id, c.situacao, count(c), sum(c.valorCentavos)) " +
+            "from Conta c where c.id in :ids group by c.cliente.id, c.situacao")
+    List<ContaTotalClienteDTO> sumByIdInGroupByClienteAndSituacao(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Altera a situação das contas informadas em um único comando UPDATE, somente
+     * para as contas que ainda estejam em uma das situações de origem.
+     *
+     * @param ids IDs das contas
+     * @param situacao nova situação
+     * @param origens situações a partir das quais a transição é permitida
+     * @return quantidade de contas alteradas
+     */
+    @Modifying
+    @Query("update Conta c set c.situacao = :situacao where c.id in :ids and c.situacao in :origens")
+    int updateSituacaoByIdIn(@Param("ids") Collection<Long> ids, @Param("situacao") Situacao situacao,
+                             @Param("origens") Collection<Situacao> origens);
 }
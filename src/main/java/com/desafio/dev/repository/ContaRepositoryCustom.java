@@ -0,0 +1,26 @@
+package com.desafio.dev.repository;
+
+import com.desafio.dev.dtos.conta.ContaFiltroDTO;
+import com.desafio.dev.dtos.conta.ContaResponseDTO;
+
+import java.util.List;
+
+/**
+ * Consultas de contas montadas dinamicamente, incorporadas ao {@link ContaRepository}.
+ */
+public interface ContaRepositoryCustom {
+
+    /**
+     * Busca uma página das contas de um cliente, ordenada por referência e ID, a partir do
+     * cursor informado (keyset), projetada diretamente em DTOs.
+     *
+     * @param idCliente ID do cliente
+     * @param filtro filtros da listagem (somente os informados são incluídos na consulta)
+     * @param afterReferencia referência da última conta da página anterior ou nula na primeira página
+     * @param afterId ID da última conta da página anterior ou nulo na primeira página
+     * @param limite quantidade máxima de contas retornadas
+     * @return contas encontradas, ordenadas por referência e ID
+     */
+    List<ContaResponseDTO> findPageByClienteId(Long idCliente, ContaFiltroDTO filtro, String afterReferencia,
+                                               Long afterId, int limite);
+}
@@ -0,0 +1,79 @@
+package com.desafio.dev.repository;
+
+import com.desafio.dev.dtos.conta.ContaFiltroDTO;
+import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.model.Conta;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementação das consultas dinâmicas de contas utilizando a Criteria API.
+ *
+ * Somente os filtros informados entram na cláusula WHERE (em vez de condições do tipo
+ * {@code :parametro is null or ...}), de modo que o banco consegue utilizar o índice
+ * idx_conta_cliente_referencia_id, percorrendo as contas do cliente já na ordem da
+ * paginação e parando ao completar a página.
+ */
+public class ContaRepositoryCustomImpl implements ContaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Busca uma página das contas de um cliente a partir do cursor informado.
+     *
+     * @param idCliente ID do cliente
+     * @param filtro filtros da listagem
+     * @param afterReferencia referência da última conta da página anterior ou nula na primeira página
+     * @param afterId ID da última conta da página anterior ou nulo na primeira página
+     * @param limite quantidade máxima de contas retornadas
+     * @return contas encontradas, ordenadas por referência e ID
+     */
+    @Override
+    public List<ContaResponseDTO> findPageByClienteId(Long idCliente, ContaFiltroDTO filtro, String afterReferencia,
+                                                      Long afterId, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ContaResponseDTO> query = cb.createQuery(ContaResponseDTO.class);
+        Root<Conta> conta = query.from(Conta.class);
+        Path<Long> id = conta.get("id");
+        Path<String> referencia = conta.get("referencia");
+        Path<BigDecimal> valor = conta.get("valor");
+
+        List<Predicate> predicados = new ArrayList<>();
+        predicados.add(cb.equal(conta.get("cliente").get("id"), idCliente));
+        if (filtro.situacoes() != null && !filtro.situacoes().isEmpty()) {
+            predicados.add(conta.get("situacao").in(filtro.situacoes()));
+        }
+        if (filtro.de() != null) {
+            predicados.add(cb.greaterThanOrEqualTo(referencia, filtro.de()));
+        }
+        if (filtro.ate() != null) {
+            predicados.add(cb.lessThanOrEqualTo(referencia, filtro.ate()));
+        }
+        if (filtro.valorMinimo() != null) {
+            predicados.add(cb.greaterThanOrEqualTo(valor, filtro.valorMinimo()));
+        }
+        if (filtro.valorMaximo() != null) {
+            predicados.add(cb.lessThanOrEqualTo(valor, filtro.valorMaximo()));
+        }
+        if (afterReferencia != null) {
+            predicados.add(cb.or(
+                    cb.greaterThan(referencia, afterReferencia),
+                    cb.and(cb.equal(referencia, afterReferencia), cb.greaterThan(id, afterId))));
+        }
+
+        query.select(cb.construct(ContaResponseDTO.class, id, referencia, valor, conta.get("situacao")))
+                .where(predicados.toArray(Predicate[]::new))
+                .orderBy(cb.asc(referencia), cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limite).getResultList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.desafio.dev.repository;
+
+import com.desafio.dev.model.Idempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Repositório para operações de persistência da entidade Idempotencia.
+ *
+ * A reserva de uma chave é um INSERT condicional, de modo que apenas uma requisição
+ * (de qualquer instância da aplicação) execute a criação para cada chave.
+ */
+@Repository
+public interface IdempotenciaRepository extends JpaRepository<Idempotencia, String> {
+
+    /**
+     * Reserva uma chave de idempotência, inserindo-a em andamento caso ainda não exista.
+     * Duas instâncias reservando a mesma chave ao mesmo tempo resultam em violação da chave primária.
+     *
+     * @param chave chave da requisição
+     * @param instancia identificação da instância que executa a requisição
+     * @param agora momento da reserva
+     * @return 1 se a chave foi reservada, 0 se já existia
+     */
+    @Modifying
+    @Query(value = "insert into idempotencia (chave, status, instancia, criada_em) " +
+            "select :chave, 0, :instancia, :agora where not exists (select 1 from idempotencia where chave = :chave)",
+            nativeQuery = true)
+    int reservar(@Param("chave") String chave, @Param("instancia") String instancia, @Param("agora") Instant agora);
+
+    /**
+     * Assume a reserva de uma chave ainda em andamento que foi feita antes do limite informado,
+     * normalmente por uma instância encerrada durante a requisição. O UPDATE condicional garante
+     * que somente uma das instâncias que tentarem assumir a reserva ao mesmo tempo consiga.
+     *
+     * @param chave chave da requisição
+     * @param instancia identificação da instância que passa a executar a requisição
+     * @param agora momento da nova reserva
+     * @param limite momento a partir do qual as reservas ainda são consideradas ativas
+     * @return 1 se a reserva foi assumida, 0 caso contrário
+     */
+    @Modifying
+    @Query("update Idempotencia i set i.instancia = :instancia, i.criadaEm = :agora " +
+            "where i.chave = :chave and i.status = 0 and i.criadaEm < :limite")
+    int assumirReservaExpirada(@Param("chave") String chave, @Param("instancia") String instancia,
+                               @Param("agora") Instant agora, @Param("limite") Instant limite);
+
+    /**
+     * Remove a reserva de uma chave cuja requisição falhou, se ela ainda pertencer à instância
+     * informada (e não tiver sido assumida por outra).
+     *
+     * @param chave chave da requisição
+     * @param instancia identificação da instância que fez a reserva
+     * @return quantidade de chaves removidas
+     */
+    @Modifying
+    @Query("delete from Idempotencia i where i.chave = :chave and i.instancia = :instancia")
+    int liberar(@Param("chave") String chave, @Param("instancia") String instancia);
+
+    /**
+     * Remove as chaves reservadas antes do limite informado.
+     *
+     * @param limite momento a partir do qual as chaves são mantidas
+     * @return quantidade de chaves removidas
+     */
+    @Modifying
+    @Query("delete from Idempotencia i where i.criadaEm < :limite")
+    int deleteAllByCriadaEmBefore(@Param("limite") Instant limite);
+}
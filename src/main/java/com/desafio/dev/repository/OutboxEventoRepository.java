@@ -0,0 +1,120 @@
+package com.desafio.dev.repository;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.ENUMS.TipoEventoConta;
+import com.desafio.dev.dtos.outbox.ContaEventoDTO;
+import com.desafio.dev.model.OutboxEvento;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório para operações de persistência da entidade OutboxEvento.
+ *
+ * Os eventos são divididos em partições pelo ID da conta e lidos em lotes de uma partição por
+ * vez. No PostgreSQL cada partição é reservada por um advisory lock da transação, de modo que
+ * várias instâncias da aplicação possam enviar eventos ao mesmo tempo, cada uma em uma partição
+ * diferente, e os eventos de uma mesma conta sejam sempre enviados por uma única transação por
+ * vez, na ordem em que foram gravados.
+ */
+@Repository
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, Long> {
+
+    /**
+     * Reserva uma partição dos eventos até o fim da transação atual, sem aguardar
+     * (pg_try_advisory_xact_lock; somente PostgreSQL).
+     *
+     * @param chave chave dos bloqueios da outbox, que os distingue de outros advisory locks
+     * @param particao partição dos eventos
+     * @return true se a partição foi reservada; false se outra transação já a reservou
+     */
+    @Query(value = "select pg_try_advisory_xact_lock(:chave, :particao)", nativeQuery = true)
+    boolean tryLockParticao(@Param("chave") int chave, @Param("particao") int particao);
+
+    /**
+     * Bloqueia (SELECT ... FOR UPDATE) e retorna os eventos mais antigos de uma partição, projetados
+     * diretamente em DTO. Todos os eventos de uma conta pertencem à mesma partição (ID da conta
+     * módulo a quantidade de partições).
+     *
+     * @param particao partição dos eventos, entre 0 e particoes - 1
+     * @param particoes quantidade de partições
+     * @param limite quantidade máxima de eventos
+     * @return eventos bloqueados, em ordem de gravação
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.desafio.dev.dtos.outbox.ContaEventoDTO(e.id, e.tipo, e.idConta, e.idCliente, e.referencia, " +
+            "e.valor, e.situacao, e.situacaoAnterior, e.criadoEm) from OutboxEvento e " +
+            "where mod(e.idConta, :particoes) = :particao order by e.id")
+    List<ContaEventoDTO> findLoteForUpdateByParticao(@Param("particao") int particao, @Param("particoes") int particoes,
+                                                      Limit limite);
+
+    /**
+     * Grava, em um único INSERT ... SELECT, um evento com os dados atuais de cada conta informada
+     * (contas criadas ou, antes do DELETE, contas a serem removidas).
+     *
+     * @param ids IDs das contas
+     * @param tipo tipo dos eventos
+     * @param agora momento da alteração
+     * @return quantidade de eventos gravados
+     */
+    @Modifying
+    @Query("insert into OutboxEvento (tipo, idConta, idCliente, referencia, valor, situacao, criadoEm) " +
+            "select :tipo, c.id, c.cliente.id, c.referencia, c.valor, c.situacao, :agora " +
+            "from Conta c where c.id in :ids")
+    int insertByContaIdIn(@Param("ids") Collection<Long> ids, @Param("tipo") TipoEventoConta tipo,
+                          @Param("agora") Instant agora);
+
+    /**
+     * Grava, em um único INSERT ... SELECT, um evento com os dados atuais de cada conta de um cliente.
+     * Deve ser executado antes do DELETE das contas do cliente.
+     *
+     * @param idCliente ID do cliente
+     * @param tipo tipo dos eventos
+     * @param agora momento da remoção
+     * @return quantidade de eventos gravados
+     */
+    @Modifying
+    @Query("insert into OutboxEvento (tipo, idConta, idCliente, referencia, valor, situacao, criadoEm) " +
+            "select :tipo, c.id, c.cliente.id, c.referencia, c.valor, c.situacao, :agora " +
+            "from Conta c where c.cliente.id = :idCliente")
+    int insertByClienteId(@Param("idCliente") Long idCliente, @Param("tipo") TipoEventoConta tipo,
+                          @Param("agora") Instant agora);
+
+    /**
+     * Grava, em um único INSERT ... SELECT, um evento para cada conta de um bloco cuja situação
+     * será alterada. Deve ser executado antes do UPDATE, para registrar a situação anterior.
+     *
+     * @param ids IDs das contas do bloco
+     * @param tipo tipo dos eventos
+     * @param situacao nova situação das contas
+     * @param origens situações a partir das quais a transição é permitida
+     * @param agora momento da alteração
+     * @return quantidade de eventos gravados
+     */
+    @Modifying
+    @Query("insert into OutboxEvento (tipo, idConta, idCliente, referencia, valor, situacao, situacaoAnterior, criadoEm) " +
+            "select :tipo, c.id, c.cliente.id, c.referencia, c.valor, :situacao, c.situacao, :agora " +
+            "from Conta c where c.id in :ids and c.situacao in :origens")
+    int insertTransicoesByContaIdIn(@Param("ids") Collection<Long> ids, @Param("tipo") TipoEventoConta tipo,
+                                    @Param("situacao") Situacao situacao,
+                                    @Param("origens") Collection<Situacao> origens, @Param("agora") Instant agora);
+
+    /**
+     * Remove os eventos enviados em um único comando.
+     *
+     * @param ids IDs dos eventos
+     * @return quantidade de eventos removidos
+     */
+    @Modifying
+    @Query("delete from OutboxEvento e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
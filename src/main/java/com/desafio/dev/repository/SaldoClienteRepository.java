@@ -0,0 +1,95 @@
+package com.desafio.dev.repository;
+
+import com.desafio.dev.model.SaldoCliente;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório para operações de persistência da entidade SaldoCliente.
+ *
+ * Os saldos são criados e atualizados por comandos diretos (INSERT ... SELECT e UPDATE
+ * incremental), sem carregar as entidades.
+ */
+@Repository
+public interface SaldoClienteRepository extends JpaRepository<SaldoCliente, Long> {
+
+    /**
+     * Cria os saldos zerados dos clientes informados em um único comando.
+     *
+     * @param idsClientes IDs dos clientes recém cadastrados
+     * @return quantidade de saldos criados
+     */
+    @Modifying
+    @Query("insert into SaldoCliente (idCliente, quantidadePendente, quantidadePaga, quantidadeCancelada, valorPendente, valorPago) " +
+            "select c.id, 0L, 0L, 0L, 0bd, 0bd from Cliente c where c.id in :idsClientes")
+    int criarSaldos(@Param("idsClientes") Collection<Long> idsClientes);
+
+    /**
+     * Cria os saldos zerados dos clientes de uma faixa de IDs que ainda não possuem saldo.
+     *
+     * @param inicio primeiro ID da faixa
+     * @param fim último ID da faixa
+     * @return quantidade de saldos criados
+     */
+    @Modifying
+    @Query("insert into SaldoCliente (idCliente, quantidadePendente, quantidadePaga, quantidadeCancelada, valorPendente, valorPago) " +
+            "select c.id, 0L, 0L, 0L, 0bd, 0bd from Cliente c where c.id between :inicio and :fim " +
+            "and not exists (select 1 from SaldoCliente s where s.idCliente = c.id)")
+    int criarSaldosAusentes(@Param("inicio") Long inicio, @Param("fim") Long fim);
+
+    /**
+     * Soma as diferenças informadas ao saldo de um cliente em um único comando UPDATE.
+     * A linha do saldo fica bloqueada até o fim da transação, serializando as alterações do mesmo cliente.
+     *
+     * @param idCliente ID do cliente
+     * @param quantidadePendente diferença na quantidade de contas pendentes
+     * @param quantidadePaga diferença na quantidade de contas pagas
+     * @param quantidadeCancelada diferença na quantidade de contas canceladas
+     * @param valorPendente diferença no valor das contas pendentes
+     * @param valorPago diferença no valor das contas pagas
+     * @return quantidade de saldos atualizados (0 se o cliente não possuir saldo)
+     */
+    @Modifying
+    @Query("update SaldoCliente s set s.quantidadePendente = s.quantidadePendente + :quantidadePendente, " +
+            "s.quantidadePaga = s.quantidadePaga + :quantidadePaga, " +
+            "s.quantidadeCancelada = s.quantidadeCancelada + :quantidadeCancelada, " +
+            "s.valorPendente = s.valorPendente + :valorPendente, s.valorPago = s.valorPago + :valorPago " +
+            "where s.idCliente = :idCliente")
+    int aplicarDiferenca(@Param("idCliente") Long idCliente,
+                         @Param("quantidadePendente") long quantidadePendente,
+                         @Param("quantidadePaga") long quantidadePaga,
+                         @Param("quantidadeCancelada") long quantidadeCancelada,
+                         @Param("valorPendente") BigDecimal valorPendente,
+                         @Param("valorPago") BigDecimal valorPago);
+
+    /**
+     * Busca e bloqueia (SELECT ... FOR UPDATE) os saldos de uma faixa de IDs de clientes.
+     * Utilizado pela reconciliação para impedir atualizações concorrentes enquanto os saldos são conferidos.
+     *
+     * @param inicio primeiro ID da faixa
+     * @param fim último ID da faixa
+     * @return saldos da faixa, ordenados pelo ID do cliente
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SaldoCliente s where s.idCliente between :inicio and :fim order by s.idCliente")
+    List<SaldoCliente> findAllForUpdate(@Param("inicio") Long inicio, @Param("fim") Long fim);
+
+    /**
+     * Remove o saldo de um cliente.
+     *
+     * @param idCliente ID do cliente
+     * @return quantidade de saldos removidos
+     */
+    @Modifying
+    @Query("delete from SaldoCliente s where s.idCliente = :idCliente")
+    int deleteByIdCliente(@Param("idCliente") Long idCliente);
+}
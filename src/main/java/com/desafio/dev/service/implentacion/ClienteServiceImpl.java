@@ -1,17 +1,54 @@
 package com.desafio.dev.service.implentacion;
 
+import com.desafio.dev.ENUMS.OrdenacaoCliente;
+import com.desafio.dev.ENUMS.StatusItemLote;
+import com.desafio.dev.config.CacheConfig;
+import com.desafio.dev.dtos.batch.BatchItemResultDTO;
+import com.desafio.dev.dtos.cliente.ClientePageResponseDTO;
 import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
 import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
 import com.desafio.dev.exceptions.ClienteAlreadyExistsException;
 import com.desafio.dev.exceptions.ClienteEmptyException;
 import com.desafio.dev.exceptions.ClienteNotFoundException;
+import com.desafio.dev.exceptions.ClienteVersionMismatchException;
+import com.desafio.dev.exceptions.InvalidBatchLineException;
+import com.desafio.dev.exceptions.InvalidCursorException;
+import com.desafio.dev.exceptions.InvalidSearchTermException;
+import com.desafio.dev.index.ClienteSearchIndex;
+import com.desafio.dev.index.CpfIndex;
 import com.desafio.dev.model.Cliente;
 import com.desafio.dev.repository.ClienteRepository;
+import com.desafio.dev.repository.ContaRepository;
 import com.desafio.dev.service.interfaces.ClienteService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Implementação dos serviços relacionados a clientes.
@@ -29,6 +66,90 @@ public class ClienteServiceImpl implements ClienteService{
     @Autowired
     private ClienteRepository clienteRepository;
 
+    /**
+     * Gerenciador dos caches de leitura de clientes.
+     */
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Repositório utilizado para remover as contas do cliente excluído.
+     */
+    @Autowired
+    private ContaRepository contaRepository;
+
+    /**
+     * Serviço que cria e remove o saldo materializado junto com o cliente.
+     */
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    /**
+     * Outbox onde são registrados os eventos de remoção das contas do cliente.
+     */
+    @Autowired
+    private OutboxServiceImpl outboxService;
+
+    /**
+     * Índice em memória dos CPFs cadastrados, utilizado para evitar consultas de CPF duplicado.
+     */
+    @Autowired
+    private CpfIndex cpfIndex;
+
+    /**
+     * Índice em memória utilizado na busca de clientes quando o banco não é o PostgreSQL.
+     */
+    @Autowired
+    private ClienteSearchIndex clienteSearchIndex;
+
+    /**
+     * Validador utilizado para verificar os clientes da importação em lote antes da inserção.
+     */
+    @Autowired
+    private Validator validator;
+
+    /**
+     * Template utilizado para executar cada bloco da importação em lote em sua própria transação.
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Quantidade de clientes por página quando o tamanho não é informado.
+     */
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Quantidade máxima de clientes por página.
+     */
+    static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Quantidade de clientes processados por transação na importação em lote.
+     */
+    static final int BATCH_CHUNK_SIZE = 1000;
+
+    /**
+     * SQLState da violação de chave única (unique_violation), utilizado pelo PostgreSQL e pelo H2.
+     */
+    private static final String SQLSTATE_CHAVE_UNICA = "23505";
+
+    /**
+     * Mensagem dos itens do lote rejeitados por uma restrição do banco que não é a chave única do CPF.
+     */
+    private static final String RESTRICAO_VIOLADA = "Os dados do cliente violam uma restrição do banco de dados";
+
+    /**
+     * Quantidade de contas removidas por transação na remoção assíncrona de clientes.
+     */
+    static final int DELETE_CHUNK_SIZE = 5000;
+
+    /**
+     * Quantidade máxima de tentativas de uma atualização sem If-Match que concorre com outras
+     * atualizações do mesmo cliente.
+     */
+    static final int MAX_TENTATIVAS_UPDATE = 3;
+
     /**
      * Cria um novo cliente no sistema.
      * 
@@ -38,84 +159,626 @@ public class ClienteServiceImpl implements ClienteService{
      */
     @Override
     public ClienteResponseDTO save(ClienteRequestDTO clienteRequestDTO) {
-        if (clienteRepository.findByCpf(clienteRequestDTO.cpf()).isPresent()) {
+        if (cpfJaCadastrado(clienteRequestDTO.cpf())) {
             throw new ClienteAlreadyExistsException();
         }
-        Cliente cliente = new Cliente();
-        cliente.setNome(clienteRequestDTO.nome());
-        cliente.setCpf(clienteRequestDTO.cpf());
-        cliente.setTelefone(clienteRequestDTO.telefone());
-        cliente.setEmail(clienteRequestDTO.email());
-        clienteRepository.save(cliente);
+        Cliente cliente = toCliente(clienteRequestDTO);
+        try {
+            transactionTemplate.executeWithoutResult(status -> inserir(List.of(cliente)));
+        } catch (DataIntegrityViolationException e) {
+            if (!cpfDuplicado(e)) {
+                throw e;
+            }
+            // CPF cadastrado concorrentemente (ou por outra instância, ainda fora do índice)
+            throw new ClienteAlreadyExistsException();
+        }
+        cpfIndex.add(cliente.getCpf());
+        ClienteResponseDTO response = toResponse(cliente);
+        clienteSearchIndex.add(response);
 
-        return new ClienteResponseDTO(cliente.getId(),
-                cliente.getNome(),
-                cliente.getCpf(),
-                cliente.getTelefone(),
-                cliente.getEmail()
-        );
+        return response;
     }
 
     /**
-     * Retorna a lista de todos os clientes cadastrados.
-     * 
-     * @return Lista de DTOs com os dados dos clientes
+     * Cria clientes em lote, entregando o resultado de cada item na ordem recebida.
+     *
+     * Os itens são consumidos do iterador em blocos de {@value #BATCH_CHUNK_SIZE}, de modo que
+     * a requisição não precisa ser carregada inteira em memória. Cada bloco é validado, tem
+     * seus CPFs verificados contra o banco em uma única consulta e é inserido em sua própria
+     * transação, utilizando inserções em lote JDBC. Os resultados de cada bloco são entregues
+     * ao consumidor assim que o bloco é gravado, sem acumular os resultados do lote inteiro.
+     *
+     * Se o iterador encontrar uma linha inválida, os itens já lidos do bloco corrente são
+     * gravados e a importação termina com um item INVALIDO informando a linha, já que os
+     * blocos anteriores foram confirmados. Se a linha inválida for a primeira, nada foi
+     * gravado e a exceção é relançada.
+     *
+     * @param clientes iterador com os dados dos clientes a serem criados
+     * @param resultados consumidor que recebe o resultado de cada item
+     * @throws InvalidBatchLineException se o primeiro item do iterador for inválido
+     */
+    @Override
+    public void saveAll(Iterator<ClienteRequestDTO> clientes, Consumer<BatchItemResultDTO> resultados) {
+        List<ClienteRequestDTO> bloco = new ArrayList<>(BATCH_CHUNK_SIZE);
+        int processados = 0;
+        InvalidBatchLineException interrupcao = null;
+
+        try {
+            while (clientes.hasNext()) {
+                bloco.add(clientes.next());
+                if (bloco.size() == BATCH_CHUNK_SIZE) {
+                    saveChunk(bloco, processados).forEach(resultados);
+                    processados += bloco.size();
+                    bloco.clear();
+                }
+            }
+        } catch (InvalidBatchLineException e) {
+            if (processados == 0 && bloco.isEmpty()) {
+                throw e;
+            }
+            interrupcao = e;
+        }
+        if (!bloco.isEmpty()) {
+            saveChunk(bloco, processados).forEach(resultados);
+            processados += bloco.size();
+        }
+        if (interrupcao != null) {
+            resultados.accept(new BatchItemResultDTO(processados, StatusItemLote.INVALIDO, null, interrupcao.getMessage()));
+        }
+    }
+
+    /**
+     * Retorna uma página de clientes cadastrados, utilizando paginação por cursor (keyset).
+     *
+     * Cada página é obtida a partir do último registro da página anterior, de modo que o
+     * custo da consulta não depende da profundidade da navegação. É buscado um registro a
+     * mais que o tamanho da página apenas para saber se existe uma próxima página.
+     * A consulta é somente leitura e é atendida pelas réplicas de leitura, quando configuradas.
+     *
+     * @param after cursor retornado na página anterior ou nulo para a primeira página
+     * @param size quantidade de clientes por página (limitada a {@value #MAX_PAGE_SIZE})
+     * @param ordenacao ordenação desejada (por ID ou por nome)
+     * @return DTO com os clientes da página e o cursor da próxima página
      * @throws ClienteEmptyException se não houver clientes cadastrados
+     * @throws InvalidCursorException se o cursor informado não for válido
      */
     @Override
-    public List<ClienteResponseDTO> findAll() {
-        List<Cliente> clientes = clienteRepository.findAll();
-        if (clientes.isEmpty()) {
+    @Transactional(readOnly = true)
+    public ClientePageResponseDTO findAll(String after, Integer size, OrdenacaoCliente ordenacao) {
+        int pageSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ClienteResponseDTO> clientes;
+        if (ordenacao == OrdenacaoCliente.NOME) {
+            if (after == null) {
+                clientes = clienteRepository.findFirstPageOrderByNome(limit);
+            } else {
+                String[] cursor = decodeNomeCursor(after);
+                clientes = clienteRepository.findPageOrderByNome(cursor[1], parseId(cursor[0]), limit);
+            }
+        } else {
+            clientes = clienteRepository.findPageOrderById(after == null ? 0L : parseId(after), limit);
+        }
+
+        if (clientes.isEmpty() && after == null) {
             throw new ClienteEmptyException();
         }
-        return clientes.stream()
-                .map(cliente -> new ClienteResponseDTO(
-                    cliente.getId(),
-                    cliente.getNome(),
-                    cliente.getCpf(),
-                    cliente.getTelefone(),
-                    cliente.getEmail()
-                )).toList();
+        if (clientes.size() <= pageSize) {
+            return new ClientePageResponseDTO(clientes, null);
+        }
+
+        List<ClienteResponseDTO> pagina = clientes.subList(0, pageSize);
+        ClienteResponseDTO ultimo = pagina.get(pageSize - 1);
+        String next = ordenacao == OrdenacaoCliente.NOME
+                ? encodeNomeCursor(ultimo.id(), ultimo.nome())
+                : String.valueOf(ultimo.id());
+        return new ClientePageResponseDTO(pagina, next);
+    }
+
+    /**
+     * Busca clientes cujo nome, e-mail ou telefone contenham o termo informado,
+     * sem diferenciar maiúsculas de minúsculas, com paginação por cursor (ID).
+     *
+     * No PostgreSQL a busca utiliza os índices de trigramas (pg_trgm); nos demais bancos
+     * utiliza o índice em memória {@link ClienteSearchIndex}.
+     *
+     * @param termo termo buscado, com pelo menos {@value ClienteSearchIndex#TAMANHO_NGRAMA} caracteres
+     * @param after cursor retornado na página anterior ou nulo para a primeira página
+     * @param size quantidade de clientes por página (limitada a {@value #MAX_PAGE_SIZE})
+     * @return DTO com os clientes encontrados e o cursor da próxima página
+     * @throws InvalidSearchTermException se o termo for curto demais
+     * @throws InvalidCursorException se o cursor informado não for válido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ClientePageResponseDTO search(String termo, String after, Integer size) {
+        String termoBusca = termo == null ? "" : termo.strip();
+        if (termoBusca.length() < ClienteSearchIndex.TAMANHO_NGRAMA) {
+            throw new InvalidSearchTermException();
+        }
+        int pageSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long afterId = after == null ? 0L : parseId(after);
+
+        List<ClienteResponseDTO> clientes;
+        if (clienteSearchIndex.isAtivo()) {
+            clientes = clienteSearchIndex.search(termoBusca, afterId, pageSize + 1);
+        } else {
+            String padrao = "%" + termoBusca.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+            clientes = clienteRepository.search(padrao, afterId, Limit.of(pageSize + 1));
+        }
+
+        if (clientes.size() <= pageSize) {
+            return new ClientePageResponseDTO(clientes, null);
+        }
+        List<ClienteResponseDTO> pagina = clientes.subList(0, pageSize);
+        return new ClientePageResponseDTO(pagina, String.valueOf(pagina.get(pageSize - 1).id()));
+    }
+
+    /**
+     * Busca um cliente pelo ID, utilizando o cache de clientes.
+     * Em caso de falha no cache, o cliente é lido do banco e armazenado para as próximas consultas.
+     *
+     * @param id ID do cliente
+     * @return DTO com os dados do cliente
+     * @throws ClienteNotFoundException se o cliente não for encontrado
+     */
+    @Override
+    public ClienteResponseDTO findById(Long id) {
+        return getCached(CacheConfig.CLIENTES, id, () -> toResponse(clienteRepository.findById(id).orElseThrow(
+                () -> new ClienteNotFoundException()
+        )));
+    }
+
+    /**
+     * Busca um cliente pelo CPF, utilizando o cache de clientes.
+     *
+     * O cache por CPF guarda apenas o ID do cliente; os dados são obtidos do cache por ID.
+     * Se o cliente encontrado não possuir mais o CPF consultado (CPF alterado ou cliente
+     * removido), o mapeamento é descartado e o ID é consultado novamente no banco.
+     *
+     * @param cpf CPF do cliente no formato xxx.xxx.xxx-xx
+     * @return DTO com os dados do cliente
+     * @throws ClienteNotFoundException se não houver cliente com o CPF informado
+     */
+    @Override
+    public ClienteResponseDTO findByCpf(String cpf) {
+        Callable<Long> buscarId = () -> clienteRepository.findIdByCpf(cpf).orElseThrow(
+                () -> new ClienteNotFoundException()
+        );
+        ClienteResponseDTO cliente;
+        try {
+            cliente = findById(getCached(CacheConfig.CLIENTES_POR_CPF, cpf, buscarId));
+        } catch (ClienteNotFoundException e) {
+            cliente = null;
+        }
+        if (cliente == null || !cliente.cpf().equals(cpf)) {
+            cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF).evict(cpf);
+            cliente = findById(getCached(CacheConfig.CLIENTES_POR_CPF, cpf, buscarId));
+        }
+        return cliente;
     }
 
     /**
      * Atualiza os dados de um cliente existente.
-     * 
+     *
+     * A atualização é feita por um único comando UPDATE condicionado à versão do cliente
+     * (concorrência otimista). A versão de referência é a informada pelo cabeçalho If-Match
+     * ou, quando ausente, a versão lida (do cache) antes da atualização; nesse último caso,
+     * se outra requisição alterar o cliente nesse intervalo, a atualização é refeita sobre a
+     * nova versão, até {@value #MAX_TENTATIVAS_UPDATE} tentativas.
+     *
      * @param id ID do cliente a ser atualizado
+     * @param versaoEsperada versão informada no If-Match ou nulo para não verificar a versão
      * @param clienteRequestDTO DTO contendo os novos dados do cliente
      * @return DTO com os dados atualizados do cliente
      * @throws ClienteNotFoundException se o cliente não for encontrado
+     * @throws ClienteAlreadyExistsException se o novo CPF já pertencer a outro cliente
+     * @throws ClienteVersionMismatchException se o cliente não estiver na versão esperada ou
+     *         for alterado por outras requisições em todas as tentativas
+     * @throws ConstraintViolationException se os novos dados forem inválidos
      */
     @Override
-    public ClienteResponseDTO update(Long id, ClienteRequestDTO clienteRequestDTO) {
-        if (clienteRepository.findByCpf(clienteRequestDTO.cpf()) == null) {
-            throw new ClienteNotFoundException();
+    public ClienteResponseDTO update(Long id, Long versaoEsperada, ClienteRequestDTO clienteRequestDTO) {
+        Set<ConstraintViolation<Cliente>> violacoes = validator.validate(toCliente(clienteRequestDTO));
+        if (!violacoes.isEmpty()) {
+            throw new ConstraintViolationException(violacoes);
         }
 
-        Cliente cliente = clienteRepository.findById(id).orElseThrow(
-                () -> new ClienteNotFoundException()
+        for (int tentativa = 1; tentativa <= MAX_TENTATIVAS_UPDATE; tentativa++) {
+            ClienteResponseDTO atualizado = tentarUpdate(id, versaoEsperada, clienteRequestDTO);
+            if (atualizado != null) {
+                return atualizado;
+            }
+        }
+        throw new ClienteVersionMismatchException();
+    }
+
+    /**
+     * Executa uma tentativa de atualização a partir da versão atual do cliente.
+     *
+     * @param id ID do cliente a ser atualizado
+     * @param versaoEsperada versão informada no If-Match ou nulo para não verificar a versão
+     * @param clienteRequestDTO DTO contendo os novos dados do cliente
+     * @return DTO com os dados atualizados do cliente ou nulo se, sem If-Match, outra requisição
+     *         alterou o cliente após a leitura
+     */
+    private ClienteResponseDTO tentarUpdate(Long id, Long versaoEsperada, ClienteRequestDTO clienteRequestDTO) {
+        ClienteResponseDTO atual = findById(id);
+        if (versaoEsperada != null && !versaoEsperada.equals(atual.versao())) {
+            // A versão em cache pode estar desatualizada: confirma no banco antes de recusar
+            evictCache(id, atual.cpf());
+            atual = findById(id);
+            if (!versaoEsperada.equals(atual.versao())) {
+                throw new ClienteVersionMismatchException();
+            }
+        }
+        boolean cpfAlterado = !atual.cpf().equals(clienteRequestDTO.cpf());
+        if (cpfAlterado && cpfJaCadastrado(clienteRequestDTO.cpf())) {
+            throw new ClienteAlreadyExistsException();
+        }
+
+        int atualizados;
+        try {
+            atualizados = clienteRepository.updateIfVersion(id, atual.versao(), clienteRequestDTO.nome(),
+                    clienteRequestDTO.cpf(), clienteRequestDTO.telefone(), clienteRequestDTO.email());
+        } catch (DataIntegrityViolationException e) {
+            if (!cpfDuplicado(e)) {
+                throw e;
+            }
+            throw new ClienteAlreadyExistsException();
+        }
+        evictCache(id, atual.cpf());
+        if (atualizados == 0) {
+            // Cliente alterado ou removido por outra requisição após a leitura
+            if (versaoEsperada == null) {
+                return null;
+            }
+            if (!clienteRepository.existsById(id)) {
+                throw new ClienteNotFoundException();
+            }
+            throw new ClienteVersionMismatchException();
+        }
+
+        if (cpfAlterado) {
+            cpfIndex.remove(atual.cpf());
+            cpfIndex.add(clienteRequestDTO.cpf());
+        }
+        ClienteResponseDTO response = new ClienteResponseDTO(id,
+                clienteRequestDTO.nome(),
+                clienteRequestDTO.cpf(),
+                clienteRequestDTO.telefone(),
+                clienteRequestDTO.email(),
+                atual.versao() + 1
         );
-        cliente.setNome(clienteRequestDTO.nome());
-        cliente.setCpf(clienteRequestDTO.cpf());
-        cliente.setTelefone(clienteRequestDTO.telefone());
-        cliente.setEmail(clienteRequestDTO.email());
-        clienteRepository.save(cliente);
+        clienteSearchIndex.add(response);
+
+        return response;
+    }
+
+    /**
+     * Remove um cliente do sistema juntamente com suas contas.
+     *
+     * Os eventos de remoção das contas são registrados na outbox por um único INSERT ... SELECT,
+     * as contas são removidas por um único DELETE pelo ID do cliente e, em seguida, o saldo
+     * e o cliente, na mesma transação, sem carregar as entidades no contexto de persistência.
+     * 
+     * @param id ID do cliente a ser removido
+     */
+    @Override
+    public void delete(Long id) {
+        String cpf = transactionTemplate.execute(status -> {
+            Optional<String> cpfCliente = clienteRepository.findCpfById(id);
+            if (cpfCliente.isPresent()) {
+                outboxService.registrarRemocoesByClienteId(id);
+                contaRepository.deleteAllByClienteId(id);
+                saldoClienteService.removerSaldo(id);
+                clienteRepository.deleteClienteById(id);
+            }
+            return cpfCliente.orElse(null);
+        });
+        if (cpf != null) {
+            removerDosIndices(id, cpf);
+        }
+    }
+
+    /**
+     * Remove um cliente e suas contas em segundo plano, utilizado para clientes com muitas contas.
+     *
+     * As contas são removidas em blocos de {@value #DELETE_CHUNK_SIZE}, cada um em sua própria
+     * transação junto com os seus eventos de remoção na outbox, evitando uma transação longa;
+     * por fim o cliente é removido. Enquanto a remoção não termina, o cliente continua visível
+     * com as contas ainda não removidas.
+     *
+     * @param id ID do cliente a ser removido
+     */
+    @Async
+    @Override
+    public void deleteAsync(Long id) {
+        int removidas;
+        do {
+            removidas = transactionTemplate.execute(status -> {
+                List<Long> ids = contaRepository.findIdsByClienteId(id, Limit.of(DELETE_CHUNK_SIZE));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                outboxService.registrarRemocoes(ids);
+                return contaRepository.deleteAllByIdIn(ids);
+            });
+        } while (removidas == DELETE_CHUNK_SIZE);
+        delete(id);
+    }
+
+    /**
+     * Valida e insere um bloco de clientes da importação em lote.
+     *
+     * Caso a inserção do bloco falhe por violação de integridade, os clientes do bloco são
+     * inseridos individualmente para identificar os itens rejeitados: somente a violação da
+     * chave única (um CPF cadastrado concorrentemente) resulta em DUPLICADO; as demais
+     * restrições do banco resultam em INVALIDO.
+     *
+     * @param bloco clientes do bloco
+     * @param deslocamento posição do primeiro item do bloco na requisição
+     * @return Lista com o resultado de cada item do bloco
+     */
+    private List<BatchItemResultDTO> saveChunk(List<ClienteRequestDTO> bloco, int deslocamento) {
+        BatchItemResultDTO[] resultados = new BatchItemResultDTO[bloco.size()];
+        Map<String, Integer> pendentes = new LinkedHashMap<>();
+        List<Cliente> novos = new ArrayList<>();
+
+        for (int i = 0; i < bloco.size(); i++) {
+            Cliente cliente = toCliente(bloco.get(i));
+            Set<ConstraintViolation<Cliente>> violacoes = validator.validate(cliente);
+            if (!violacoes.isEmpty()) {
+                String mensagem = violacoes.stream().map(ConstraintViolation::getMessage).sorted()
+                        .collect(Collectors.joining("; "));
+                resultados[i] = new BatchItemResultDTO(deslocamento + i, StatusItemLote.INVALIDO, null, mensagem);
+            } else if (pendentes.putIfAbsent(cliente.getCpf(), i) != null) {
+                resultados[i] = duplicado(deslocamento + i);
+            } else {
+                novos.add(cliente);
+            }
+        }
+
+        if (!pendentes.isEmpty()) {
+            List<String> possiveis = pendentes.keySet().stream().filter(cpfIndex::mightContain).toList();
+            if (!possiveis.isEmpty()) {
+                List<String> existentes = clienteRepository.findExistingCpfs(possiveis);
+                cpfIndex.registrarFalsosPositivos(possiveis.size() - existentes.size());
+                for (String cpf : existentes) {
+                    int i = pendentes.get(cpf);
+                    resultados[i] = duplicado(deslocamento + i);
+                }
+            }
+            novos.removeIf(cliente -> resultados[pendentes.get(cliente.getCpf())] != null);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> inserir(novos));
+            } catch (DataIntegrityViolationException e) {
+                novos.forEach(ClienteServiceImpl::descartarEstadoPersistido);
+                for (Cliente cliente : novos) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> inserir(List.of(cliente)));
+                    } catch (DataIntegrityViolationException ex) {
+                        descartarEstadoPersistido(cliente);
+                        int i = pendentes.get(cliente.getCpf());
+                        // Outras restrições do banco, como um campo maior que a coluna, não são duplicidade
+                        resultados[i] = cpfDuplicado(ex) ? duplicado(deslocamento + i)
+                                : new BatchItemResultDTO(deslocamento + i, StatusItemLote.INVALIDO, null, RESTRICAO_VIOLADA);
+                    }
+                }
+            }
+
+            for (Cliente cliente : novos) {
+                int i = pendentes.get(cliente.getCpf());
+                if (cliente.getId() != null) {
+                    cpfIndex.add(cliente.getCpf());
+                    clienteSearchIndex.add(toResponse(cliente));
+                    resultados[i] = new BatchItemResultDTO(deslocamento + i, StatusItemLote.CRIADO, cliente.getId(), null);
+                }
+            }
+        }
+        return Arrays.asList(resultados);
+    }
+
+    /**
+     * Verifica se um CPF já está cadastrado, consultando o banco somente quando o índice
+     * de CPFs indica que ele pode estar presente.
+     *
+     * @param cpf CPF a ser verificado
+     * @return true se existir um cliente com o CPF informado
+     */
+    private boolean cpfJaCadastrado(String cpf) {
+        if (!cpfIndex.mightContain(cpf)) {
+            return false;
+        }
+        boolean existe = clienteRepository.existsByCpf(cpf);
+        if (!existe) {
+            cpfIndex.registrarFalsosPositivos(1);
+        }
+        return existe;
+    }
+
+    /**
+     * Verifica se uma violação de integridade é a da chave única do CPF, a única chave única
+     * da tabela cliente além do ID, gerado pela sequence. O Hibernate nem sempre identifica
+     * o tipo da restrição violada por um lote JDBC, então é procurado na cadeia de causas o
+     * SQLState de violação de chave única.
+     *
+     * @param e exceção lançada pela inserção ou atualização
+     * @return true se a exceção foi causada por um CPF já cadastrado
+     */
+    private static boolean cpfDuplicado(DataIntegrityViolationException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sql && SQLSTATE_CHAVE_UNICA.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cria o resultado de um item rejeitado por CPF já cadastrado.
+     *
+     * @param indice posição do item na requisição
+     * @return DTO com o resultado do item
+     */
+    private BatchItemResultDTO duplicado(int indice) {
+        return new BatchItemResultDTO(indice, StatusItemLote.DUPLICADO, null, new ClienteAlreadyExistsException().getMessage());
+    }
 
+    /**
+     * Converte a entidade Cliente no DTO de resposta.
+     *
+     * @param cliente entidade Cliente
+     * @return DTO com os dados do cliente
+     */
+    private ClienteResponseDTO toResponse(Cliente cliente) {
         return new ClienteResponseDTO(cliente.getId(),
                 cliente.getNome(),
                 cliente.getCpf(),
                 cliente.getTelefone(),
-                cliente.getEmail()
+                cliente.getEmail(),
+                cliente.getVersao()
         );
     }
 
     /**
-     * Remove um cliente do sistema.
-     * 
-     * @param id ID do cliente a ser removido
+     * Obtém um valor do cache, carregando-o com a função informada em caso de falha.
+     * O carregamento de uma mesma chave é feito uma única vez, mesmo com consultas concorrentes.
+     *
+     * @param cacheName nome do cache
+     * @param key chave consultada
+     * @param loader função que carrega o valor a partir do banco
+     * @return valor armazenado no cache ou carregado
      */
-    @Override
-    public void delete(Long id) {
-        clienteRepository.deleteById(id);
+    private <T> T getCached(String cacheName, Object key, Callable<T> loader) {
+        try {
+            return cacheManager.getCache(cacheName).get(key, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Remove um cliente dos caches. Se houver uma transação em andamento, a remoção é feita
+     * após o commit, evitando que uma leitura concorrente armazene novamente os dados antigos.
+     *
+     * @param id ID do cliente
+     * @param cpf CPF do cliente
+     */
+    private void evictCache(Long id, String cpf) {
+        Runnable evict = () -> {
+            cacheManager.getCache(CacheConfig.CLIENTES).evict(id);
+            cacheManager.getCache(CacheConfig.CLIENTES_POR_CPF).evict(cpf);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    /**
+     * Insere clientes e cria seus saldos zerados, na transação em andamento.
+     * Os IDs são obtidos da sequence ao persistir, portanto os saldos são criados
+     * no mesmo lote de comandos, sem consultas adicionais.
+     *
+     * @param clientes clientes a serem inseridos
+     */
+    private void inserir(List<Cliente> clientes) {
+        clienteRepository.saveAll(clientes);
+        saldoClienteService.criarSaldos(clientes.stream().map(Cliente::getId).toList());
+    }
+
+    /**
+     * Descarta o ID e a versão atribuídos a um cliente cuja inserção foi desfeita,
+     * para que ele volte a ser tratado como novo.
+     *
+     * @param cliente cliente cuja transação foi desfeita
+     */
+    private static void descartarEstadoPersistido(Cliente cliente) {
+        cliente.setId(null);
+        cliente.setVersao(null);
+    }
+
+    /**
+     * Remove um cliente excluído do índice de CPFs, do índice de busca e dos caches.
+     *
+     * @param id ID do cliente
+     * @param cpf CPF do cliente
+     */
+    private void removerDosIndices(Long id, String cpf) {
+        cpfIndex.remove(cpf);
+        clienteSearchIndex.remove(id);
+        evictCache(id, cpf);
+    }
+
+    /**
+     * Converte os dados recebidos na requisição em uma nova entidade Cliente.
+     *
+     * @param clienteRequestDTO DTO contendo os dados do cliente
+     * @return entidade Cliente ainda não persistida
+     */
+    private Cliente toCliente(ClienteRequestDTO clienteRequestDTO) {
+        Cliente cliente = new Cliente();
+        cliente.setNome(clienteRequestDTO.nome());
+        cliente.setCpf(clienteRequestDTO.cpf());
+        cliente.setTelefone(clienteRequestDTO.telefone());
+        cliente.setEmail(clienteRequestDTO.email());
+        return cliente;
+    }
+
+    /**
+     * Converte o cursor (ou parte dele) para o ID do cliente.
+     *
+     * @param value valor do cursor
+     * @return ID contido no cursor
+     * @throws InvalidCursorException se o valor não for um ID válido
+     */
+    private Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * Gera o cursor opaco da ordenação por nome, contendo o ID e o nome do último cliente.
+     *
+     * @param id ID do último cliente da página
+     * @param nome nome do último cliente da página
+     * @return cursor codificado em Base64 (URL safe)
+     */
+    private String encodeNomeCursor(Long id, String nome) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + ":" + nome).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor da ordenação por nome.
+     *
+     * @param cursor cursor recebido na requisição
+     * @return vetor contendo o ID e o nome do último cliente da página anterior
+     * @throws InvalidCursorException se o cursor não puder ser decodificado
+     */
+    private String[] decodeNomeCursor(String cursor) {
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            if (partes.length != 2) {
+                throw new InvalidCursorException();
+            }
+            return partes;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
     }
 }
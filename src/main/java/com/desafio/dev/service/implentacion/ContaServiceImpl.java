@@ -1,19 +1,52 @@
 package com.desafio.dev.service.implentacion;
 
 import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.ENUMS.StatusItemLote;
+import com.desafio.dev.ENUMS.TipoEventoConta;
+import com.desafio.dev.dtos.batch.BatchItemResultDTO;
+import com.desafio.dev.dtos.conta.ContaAgrupadaDTO;
+import com.desafio.dev.dtos.conta.ContaExportDTO;
+import com.desafio.dev.dtos.conta.ContaFiltroDTO;
+import com.desafio.dev.dtos.conta.ContaLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaPageResponseDTO;
 import com.desafio.dev.dtos.conta.ContaRequestDTO;
 import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.dtos.conta.ContaResumoDTO;
+import com.desafio.dev.dtos.conta.ContaResumoReferenciaDTO;
+import com.desafio.dev.dtos.conta.ContaTotalDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteResponseDTO;
 import com.desafio.dev.exceptions.*;
-import com.desafio.dev.model.Cliente;
+import com.desafio.dev.groupcommit.ContaGroupCommitWriter;
 import com.desafio.dev.model.Conta;
+import com.desafio.dev.model.converter.ReferenciaConverter;
 import com.desafio.dev.repository.ClienteRepository;
 import com.desafio.dev.repository.ContaRepository;
 import com.desafio.dev.service.interfaces.ContaService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * Implementação dos serviços relacionados a contas bancárias.
@@ -26,6 +59,47 @@ import java.util.List;
 @Service
 public class ContaServiceImpl implements ContaService {
 
+    /**
+     * Referência inicial utilizada quando a alteração em lote por período não informa o início.
+     */
+    private static final String REFERENCIA_MINIMA = "01-0000";
+
+    /**
+     * Referência final utilizada quando a alteração em lote por período não informa o fim.
+     */
+    private static final String REFERENCIA_MAXIMA = "12-9999";
+
+    /**
+     * Situações listadas quando nenhuma é informada: as contas canceladas não são exibidas.
+     */
+    private static final List<Situacao> SITUACOES_LISTADAS = List.of(Situacao.PENDENTE, Situacao.PAGA);
+
+    /**
+     * Quantidade de contas por página quando nenhum tamanho é informado.
+     */
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Quantidade máxima de contas por página, independente do tamanho solicitado.
+     */
+    static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Quantidade máxima de contas alteradas em cada transação de uma alteração de situação em lote.
+     */
+    private static final int TRANSICAO_CHUNK_SIZE = 1000;
+
+    /**
+     * Quantidade máxima de contas em uma criação em lote, inserida em uma única transação.
+     */
+    static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Quantidade máxima de tentativas de uma alteração de situação que concorre com outras
+     * alterações da mesma conta.
+     */
+    static final int MAX_TENTATIVAS_SITUACAO = 3;
+
     /**
      * Repositório para acesso aos dados de contas no banco de dados.
      */
@@ -38,8 +112,49 @@ public class ContaServiceImpl implements ContaService {
     @Autowired
     private ClienteRepository clienteRepository;
 
+    /**
+     * Serviço que mantém o saldo materializado dos clientes a cada alteração de conta.
+     */
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    /**
+     * Outbox onde são registrados os eventos de criação e alteração das contas.
+     */
+    @Autowired
+    private OutboxServiceImpl outboxService;
+
+    /**
+     * Gravação agrupada das contas criadas individualmente, quando habilitada.
+     */
+    @Autowired
+    private ContaGroupCommitWriter groupCommitWriter;
+
+    /**
+     * Serviço de clientes, utilizado para verificar a existência do cliente através do cache.
+     */
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    /**
+     * Validador utilizado para verificar as contas da criação em lote antes da inserção.
+     */
+    @Autowired
+    private Validator validator;
+
+    /**
+     * Template utilizado para executar cada bloco de uma alteração de situação em lote em sua própria transação.
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     /**
      * Cria uma nova conta associada a um cliente.
+     *
+     * Com a gravação agrupada habilitada ({@code app.conta.group-commit.habilitado}), a conta
+     * é gravada pelo {@link ContaGroupCommitWriter} junto com as demais contas criadas ao mesmo
+     * tempo, e o método retorna após o commit do grupo. Chamadas feitas dentro de uma transação
+     * já existente são sempre gravadas nela, para que a conta faça parte dessa transação.
      * 
      * @param id ID do cliente ao qual a conta será associada
      * @param contaRequestDTO DTO contendo os dados da conta a ser criada
@@ -47,13 +162,12 @@ public class ContaServiceImpl implements ContaService {
      * @throws ClienteNotFoundException se o cliente não for encontrado
      * @throws SituacaoCanceladaNotAvailableException se tentar criar uma conta com situação CANCELADA
      * @throws SituacaoNotAvailableException se a situação informada não for válida
+     * @throws ContaWriteQueueFullException se a fila da gravação agrupada estiver cheia
      */
     @Override
     public ContaResponseDTO save(Long id, ContaRequestDTO contaRequestDTO) {
-        // Verificar se o cliente existe e associar a conta
-        Cliente cliente = clienteRepository.findById(id).orElseThrow(
-                () -> new ClienteNotFoundException()
-        );
+        // Verificar se o cliente existe (cache) e associar a conta sem carregar o cliente
+        clienteService.findById(id);
 
         if (contaRequestDTO.situacao().equals(Situacao.CANCELADA)) {
             throw new SituacaoCanceladaNotAvailableException();
@@ -63,12 +177,9 @@ public class ContaServiceImpl implements ContaService {
             throw new SituacaoNotAvailableException(contaRequestDTO.situacao().toString());
         }
 
-        Conta conta = new Conta();
-        conta.setCliente(cliente);
-        conta.setReferencia(contaRequestDTO.referencia());
-        conta.setValor(contaRequestDTO.valor());
-        conta.setSituacao(contaRequestDTO.situacao());
-        contaRepository.save(conta);
+        Conta conta = groupCommitWriter.isHabilitado() && !TransactionSynchronizationManager.isActualTransactionActive()
+                ? groupCommitWriter.gravar(id, contaRequestDTO)
+                : transactionTemplate.execute(status -> inserir(id, contaRequestDTO));
 
         return new ContaResponseDTO(
                 conta.getId(),
@@ -79,45 +190,216 @@ public class ContaServiceImpl implements ContaService {
     }
 
     /**
-     * Retorna a lista de todas as contas não canceladas de um cliente.
+     * Cria contas em lote, de um ou vários clientes, retornando o resultado de cada item na ordem recebida.
+     *
+     * Os itens são validados com as mesmas regras da criação individual, os clientes de todo o
+     * lote são verificados em uma única consulta e as contas válidas são inseridas com inserções
+     * em lote JDBC, com IDs reservados em blocos pela sequência. O saldo de cada cliente recebe
+     * uma única atualização com a soma das suas contas criadas. Itens nulos são rejeitados
+     * como inválidos.
+     *
+     * @param contas lista com os dados das contas a serem criadas
+     * @return Lista com o resultado de cada item
+     * @throws ContaLoteTooLargeException se o lote tiver mais de {@value #MAX_BATCH_SIZE} contas
+     * @throws ClienteNotFoundException se um cliente do lote for removido durante a inserção
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResultDTO> saveAll(List<ContaLoteRequestDTO> contas) {
+        if (contas.size() > MAX_BATCH_SIZE) {
+            throw new ContaLoteTooLargeException(MAX_BATCH_SIZE);
+        }
+        BatchItemResultDTO[] resultados = new BatchItemResultDTO[contas.size()];
+        Conta[] validas = new Conta[contas.size()];
+        Set<Long> idsClientes = new HashSet<>();
+
+        for (int i = 0; i < contas.size(); i++) {
+            ContaLoteRequestDTO item = contas.get(i);
+            if (item == null) {
+                resultados[i] = new BatchItemResultDTO(i, StatusItemLote.INVALIDO, null, "O item do lote não pode ser nulo");
+                continue;
+            }
+            Conta conta = new Conta();
+            conta.setReferencia(item.referencia());
+            conta.setValor(item.valor());
+            conta.setSituacao(item.situacao());
+
+            Set<ConstraintViolation<Conta>> violacoes = validator.validate(conta);
+            String mensagem = violacoes.isEmpty() ? situacaoNaoPermitida(item.situacao())
+                    : violacoes.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+            if (mensagem != null) {
+                resultados[i] = new BatchItemResultDTO(i, StatusItemLote.INVALIDO, null, mensagem);
+            } else if (item.idCliente() == null) {
+                resultados[i] = clienteNaoEncontrado(i);
+            } else {
+                validas[i] = conta;
+                idsClientes.add(item.idCliente());
+            }
+        }
+
+        Set<Long> existentes = idsClientes.isEmpty() ? Set.of()
+                : new HashSet<>(clienteRepository.findExistingIds(idsClientes));
+        List<Conta> novas = new ArrayList<>();
+        for (int i = 0; i < validas.length; i++) {
+            if (validas[i] == null) {
+                continue;
+            }
+            Long idCliente = contas.get(i).idCliente();
+            if (existentes.contains(idCliente)) {
+                validas[i].setCliente(clienteRepository.getReferenceById(idCliente));
+                novas.add(validas[i]);
+            } else {
+                resultados[i] = clienteNaoEncontrado(i);
+                validas[i] = null;
+            }
+        }
+
+        try {
+            contaRepository.saveAll(novas);
+            contaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // Cliente removido após a verificação
+            throw new ClienteNotFoundException();
+        }
+        saldoClienteService.registrarInclusoes(novas);
+        if (!novas.isEmpty()) {
+            outboxService.registrarCriacoes(novas);
+        }
+
+        for (int i = 0; i < validas.length; i++) {
+            if (validas[i] != null) {
+                resultados[i] = new BatchItemResultDTO(i, StatusItemLote.CRIADO, validas[i].getId(), null);
+            }
+        }
+        return Arrays.asList(resultados);
+    }
+
+    /**
+     * Retorna uma página das contas de um cliente, ordenada por referência e ID, utilizando
+     * paginação por cursor (keyset).
+     *
+     * Os filtros são aplicados pela consulta no banco e cada página é obtida a partir da última
+     * conta da página anterior, de modo que o custo da consulta não depende da profundidade da
+     * navegação. Quando nenhuma situação é informada, são listadas as contas não canceladas.
+     * É buscado um registro a mais que o tamanho da página apenas para saber se existe uma
+     * próxima página.
+     * A consulta é somente leitura e é atendida pelas réplicas de leitura, quando configuradas.
      * 
      * @param id ID do cliente cujas contas serão listadas
-     * @return Lista de DTOs com os dados das contas
-     * @throws ContaEmptyException se o cliente não tiver contas ou se todas estiverem canceladas
+     * @param filtro filtros da listagem (situações, período e faixa de valor)
+     * @param after cursor retornado na página anterior ou nulo para a primeira página
+     * @param size quantidade de contas por página (limitada a {@value #MAX_PAGE_SIZE})
+     * @return DTO com as contas da página e o cursor da próxima página
+     * @throws InvalidReferenciaException se uma das referências não estiver no formato MM-AAAA
+     * @throws InvalidCursorException se o cursor informado não for válido
+     * @throws ContaEmptyException se nenhuma conta do cliente atender aos filtros
      */
     @Override
-    public List<ContaResponseDTO> findAllByClienteId(Long id) {
-        List<Situacao> situacoesPermitidas = Arrays.asList(Situacao.PENDENTE, Situacao.PAGA);
-        List<Conta> contas = contaRepository.findAllByClienteIdAndSituacaoIn(id, situacoesPermitidas);
+    @Transactional(readOnly = true)
+    public ContaPageResponseDTO findAllByClienteId(Long id, ContaFiltroDTO filtro, String after, Integer size) {
+        int pageSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        ContaFiltroDTO filtroAplicado = new ContaFiltroDTO(
+                filtro.situacoes() == null || filtro.situacoes().isEmpty() ? SITUACOES_LISTADAS : filtro.situacoes(),
+                referenciaOuPadrao(filtro.de(), null),
+                referenciaOuPadrao(filtro.ate(), null),
+                filtro.valorMinimo(),
+                filtro.valorMaximo());
+
+        String[] cursor = after == null ? null : decodeCursor(after);
+        List<ContaResponseDTO> contas = contaRepository.findPageByClienteId(id, filtroAplicado,
+                cursor == null ? null : cursor[1], cursor == null ? null : parseId(cursor[0]), pageSize + 1);
 
-        if (contas.isEmpty()) {
+        if (contas.isEmpty() && after == null) {
             throw new ContaEmptyException();
         }
-        return contas.stream().map(conta -> new ContaResponseDTO(
-                conta.getId(),
-                conta.getReferencia(),
-                conta.getValor(),
-                conta.getSituacao())
-        ).toList();
+        if (contas.size() <= pageSize) {
+            return new ContaPageResponseDTO(contas, null);
+        }
+
+        List<ContaResponseDTO> pagina = contas.subList(0, pageSize);
+        ContaResponseDTO ultima = pagina.get(pageSize - 1);
+        return new ContaPageResponseDTO(pagina, encodeCursor(ultima.id(), ultima.referencia()));
+    }
+
+    /**
+     * Retorna o resumo das contas de um cliente.
+     *
+     * Os totais são calculados pelo banco em uma única consulta agrupada por situação e
+     * referência; as poucas linhas resultantes são então consolidadas por situação e por mês.
+     * Os valores são lidos e somados como centavos (long), sem criar um BigDecimal por total.
+     *
+     * @param id ID do cliente
+     * @return DTO com os totais das contas do cliente
+     * @throws ClienteNotFoundException se o cliente não for encontrado
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ContaResumoDTO resumoByClienteId(Long id) {
+        clienteService.findById(id);
+        List<ContaAgrupadaDTO> grupos = contaRepository.sumByClienteIdGroupBySituacaoAndReferencia(id);
+
+        long[] quantidades = new long[Situacao.values().length];
+        long[] valores = new long[Situacao.values().length];
+        Map<String, Map<Situacao, ContaTotalDTO>> porReferencia = new TreeMap<>(
+                Comparator.comparingInt(ReferenciaConverter::compactar));
+        for (ContaAgrupadaDTO grupo : grupos) {
+            int situacao = grupo.situacao().ordinal();
+            quantidades[situacao] += grupo.quantidade();
+            valores[situacao] = Math.addExact(valores[situacao], grupo.valorCentavos());
+            porReferencia.computeIfAbsent(grupo.referencia(), referencia -> new EnumMap<>(Situacao.class))
+                    .put(grupo.situacao(), new ContaTotalDTO(grupo.quantidade(), grupo.valorCentavos()));
+        }
+
+        Map<Situacao, ContaTotalDTO> porSituacao = new EnumMap<>(Situacao.class);
+        for (Situacao situacao : Situacao.values()) {
+            if (quantidades[situacao.ordinal()] > 0) {
+                porSituacao.put(situacao, new ContaTotalDTO(quantidades[situacao.ordinal()], valores[situacao.ordinal()]));
+            }
+        }
+        List<ContaResumoReferenciaDTO> referencias = porReferencia.entrySet().stream().map(entrada -> {
+            ContaTotalDTO total = somarTodos(entrada.getValue());
+            return new ContaResumoReferenciaDTO(entrada.getKey(), total.quantidade(), total.valor(), entrada.getValue());
+        }).toList();
+        ContaTotalDTO total = somarTodos(porSituacao);
+        return new ContaResumoDTO(id, total.quantidade(), total.valor(), porSituacao, referencias);
     }
 
     /**
      * Atualiza os dados de uma conta existente.
+     * A conta é bloqueada durante a atualização, para que alterações concorrentes
+     * não se sobreponham nem desatualizem o saldo do cliente.
      * 
+     * A conta é buscada primeiro na referência informada, que normalmente é a referência atual,
+     * para que o PostgreSQL consulte uma única partição; somente se a referência tiver mudado
+     * a conta é buscada pelo ID em todas as partições.
+     *
+     * Se a situação for alterada, a mudança segue as mesmas transições permitidas em
+     * {@link #updateSituacao(Long, Situacao)}.
+     *
      * @param id ID da conta a ser atualizada
      * @param contaRequestDTO DTO contendo os novos dados da conta
      * @return DTO com os dados atualizados da conta
      * @throws ContaNotFoundException se a conta não for encontrada
+     * @throws SituacaoConflictException se a situação atual da conta não permitir a nova situação
      */
     @Override
+    @Transactional
     public ContaResponseDTO update(Long id, ContaRequestDTO contaRequestDTO) {
-        Conta conta = contaRepository.findById(id).orElseThrow(
-                () -> new ContaNotFoundException()
-        );
+        Conta conta = contaRepository.findForUpdateByIdAndReferencia(id, contaRequestDTO.referencia())
+                .or(() -> contaRepository.findForUpdateById(id))
+                .orElseThrow(() -> new ContaNotFoundException());
+        Situacao anterior = conta.getSituacao();
+        if (contaRequestDTO.situacao() != anterior && !contaRequestDTO.situacao().origensPermitidas().contains(anterior)) {
+            throw new SituacaoConflictException(anterior.toString(), contaRequestDTO.situacao().toString());
+        }
+        saldoClienteService.registrarAlteracao(conta.getCliente().getId(), anterior, conta.getValor(),
+                contaRequestDTO.situacao(), contaRequestDTO.valor());
         conta.setReferencia(contaRequestDTO.referencia());
         conta.setValor(contaRequestDTO.valor());
         conta.setSituacao(contaRequestDTO.situacao());
         contaRepository.save(conta);
+        outboxService.registrar(TipoEventoConta.ATUALIZADA, conta.getId(), conta.getCliente().getId(),
+                conta.getReferencia(), conta.getValor(), conta.getSituacao(), anterior);
         return new ContaResponseDTO(
                 conta.getId(),
                 conta.getReferencia(),
@@ -126,18 +408,345 @@ public class ContaServiceImpl implements ContaService {
         );
     }
 
+    /**
+     * Altera a situação de várias contas, selecionadas pelos IDs ou pelo cliente e período.
+     *
+     * As contas são processadas em blocos de {@value #TRANSICAO_CHUNK_SIZE}, cada um em sua própria
+     * transação: as contas do bloco que ainda podem mudar para a nova situação são bloqueadas,
+     * os saldos dos seus clientes são atualizados e a situação é alterada em um único UPDATE
+     * condicional. Contas inexistentes ou cuja situação atual não permite a transição são ignoradas.
+     *
+     * Se um bloco falhar, os blocos anteriores permanecem gravados e a alteração é interrompida,
+     * informando quantas contas já foram alteradas. Como somente as contas que ainda podem mudar
+     * de situação são alteradas, a mesma requisição pode ser repetida para concluir a alteração.
+     *
+     * @param transicao nova situação e seleção das contas
+     * @return DTO com a quantidade de contas que efetivamente mudaram de situação
+     * @throws SituacaoTransicaoNotAvailableException se a nova situação não for PAGA ou CANCELADA
+     * @throws InvalidTransicaoLoteException se nem os IDs nem o cliente forem informados
+     * @throws InvalidReferenciaException se o período informado não estiver no formato MM-AAAA
+     * @throws TransicaoLoteInterrompidaException se um bloco falhar, com a quantidade de contas já alteradas
+     */
+    @Override
+    public ContaTransicaoLoteResponseDTO updateSituacaoAll(ContaTransicaoLoteRequestDTO transicao) {
+        Situacao situacao = transicao.situacao();
+        if (situacao == null || situacao.origensPermitidas().isEmpty()) {
+            throw new SituacaoTransicaoNotAvailableException(String.valueOf(situacao));
+        }
+        List<Situacao> origens = situacao.origensPermitidas();
+        long transicionadas = 0;
+
+        if (transicao.ids() != null && !transicao.ids().isEmpty()) {
+            // em ordem de ID, para que os blocos de requisições concorrentes bloqueiem as contas na mesma ordem
+            List<Long> ids = transicao.ids().stream().filter(Objects::nonNull).distinct().sorted().toList();
+            try {
+                for (int inicio = 0; inicio < ids.size(); inicio += TRANSICAO_CHUNK_SIZE) {
+                    List<Long> bloco = ids.subList(inicio, Math.min(inicio + TRANSICAO_CHUNK_SIZE, ids.size()));
+                    transicionadas += transactionTemplate.execute(status ->
+                            transicionar(contaRepository.findIdsForUpdate(bloco, origens), situacao, origens));
+                }
+            } catch (RuntimeException e) {
+                throw new TransicaoLoteInterrompidaException(
+                        new ContaTransicaoLoteResponseDTO(situacao, transicionadas, false), e);
+            }
+        } else if (transicao.idCliente() != null) {
+            String de = referenciaOuPadrao(transicao.de(), REFERENCIA_MINIMA);
+            String ate = referenciaOuPadrao(transicao.ate(), REFERENCIA_MAXIMA);
+            try {
+                int alteradas;
+                do {
+                    alteradas = transactionTemplate.execute(status -> transicionar(
+                            contaRepository.findIdsForUpdateByClienteId(transicao.idCliente(), de, ate, origens,
+                                    Limit.of(TRANSICAO_CHUNK_SIZE)),
+                            situacao, origens));
+                    transicionadas += alteradas;
+                } while (alteradas == TRANSICAO_CHUNK_SIZE);
+            } catch (RuntimeException e) {
+                throw new TransicaoLoteInterrompidaException(
+                        new ContaTransicaoLoteResponseDTO(situacao, transicionadas, false), e);
+            }
+        } else {
+            throw new InvalidTransicaoLoteException();
+        }
+        return new ContaTransicaoLoteResponseDTO(situacao, transicionadas, true);
+    }
+
+    /**
+     * Altera a situação de uma conta, respeitando as transições permitidas (PENDENTE para PAGA
+     * ou CANCELADA e PAGA para CANCELADA).
+     *
+     * A situação é alterada por um UPDATE condicional sobre a situação e o valor lidos, sem
+     * carregar a entidade: se outra requisição alterar a conta entre a leitura e o UPDATE,
+     * nenhuma linha é alterada e a transição é reavaliada sobre a situação atual (até
+     * {@value #MAX_TENTATIVAS_SITUACAO} tentativas), de modo que alterações concorrentes
+     * (ex.: pagar e cancelar) nunca se sobrepõem.
+     *
+     * @param id ID da conta
+     * @param situacao nova situação
+     * @return DTO com os dados atualizados da conta
+     * @throws SituacaoTransicaoNotAvailableException se a nova situação não for PAGA ou CANCELADA
+     * @throws ContaNotFoundException se a conta não for encontrada
+     * @throws SituacaoConflictException se a situação atual da conta não permitir a transição
+     * @throws SituacaoConcorrenteException se a conta for alterada por outras requisições em todas as tentativas
+     */
+    @Override
+    @Transactional
+    public ContaResponseDTO updateSituacao(Long id, Situacao situacao) {
+        return updateSituacao(id, null, situacao);
+    }
+
+    /**
+     * Altera a situação de uma conta como em {@link #updateSituacao(Long, Situacao)}, buscando a
+     * conta primeiro na referência informada, para que o PostgreSQL consulte uma única partição.
+     * Se a conta não estiver na referência informada, ela é buscada pelo ID em todas as partições.
+     *
+     * @param id ID da conta
+     * @param referencia referência atual da conta no formato MM-AAAA, opcional
+     * @param situacao nova situação
+     * @return DTO com os dados atualizados da conta
+     * @throws SituacaoTransicaoNotAvailableException se a nova situação não for PAGA ou CANCELADA
+     * @throws InvalidReferenciaException se a referência informada não estiver no formato MM-AAAA
+     * @throws ContaNotFoundException se a conta não for encontrada
+     * @throws SituacaoConflictException se a situação atual da conta não permitir a transição
+     * @throws SituacaoConcorrenteException se a conta for alterada por outras requisições em todas as tentativas
+     */
+    @Override
+    @Transactional
+    public ContaResponseDTO updateSituacao(Long id, String referencia, Situacao situacao) {
+        if (situacao == null || situacao.origensPermitidas().isEmpty()) {
+            throw new SituacaoTransicaoNotAvailableException(String.valueOf(situacao));
+        }
+        String dica = referenciaOuPadrao(referencia, null);
+        for (int tentativa = 1; tentativa <= MAX_TENTATIVAS_SITUACAO; tentativa++) {
+            ContaExportDTO atual = buscarDados(id, dica);
+            dica = atual.referencia();
+            if (!situacao.origensPermitidas().contains(atual.situacao())) {
+                throw new SituacaoConflictException(atual.situacao().toString(), situacao.toString());
+            }
+
+            int alteradas = contaRepository.updateSituacaoIfUnchanged(id, atual.referencia(), atual.situacao(),
+                    atual.valor(), situacao, situacao.origensPermitidas());
+            if (alteradas > 0) {
+                return registrarAlteracaoSituacao(id, atual, situacao);
+            }
+            // Conta alterada por outra requisição após a leitura
+        }
+        throw new SituacaoConcorrenteException();
+    }
+
+    /**
+     * Busca os dados de uma conta, primeiro na referência informada (se houver) e, se a conta
+     * não estiver nessa referência, pelo ID em todas as partições.
+     *
+     * @param id ID da conta
+     * @param referencia referência provável da conta, ou null
+     * @return dados da conta
+     * @throws ContaNotFoundException se a conta não for encontrada
+     */
+    private ContaExportDTO buscarDados(Long id, String referencia) {
+        Optional<ContaExportDTO> dados = referencia == null
+                ? Optional.empty()
+                : contaRepository.findDadosByIdAndReferencia(id, referencia);
+        return dados.or(() -> contaRepository.findDadosById(id)).orElseThrow(ContaNotFoundException::new);
+    }
+
+    /**
+     * Atualiza o saldo do cliente e registra o evento de uma alteração de situação já gravada.
+     *
+     * @param id ID da conta
+     * @param atual dados da conta antes da alteração
+     * @param situacao nova situação
+     * @return DTO com os dados atualizados da conta
+     */
+    private ContaResponseDTO registrarAlteracaoSituacao(Long id, ContaExportDTO atual, Situacao situacao) {
+        saldoClienteService.registrarAlteracao(atual.idCliente(), atual.situacao(), atual.valor(),
+                situacao, atual.valor());
+        outboxService.registrar(TipoEventoConta.SITUACAO_ALTERADA, id, atual.idCliente(), atual.referencia(),
+                atual.valor(), situacao, atual.situacao());
+        return new ContaResponseDTO(id, atual.referencia(), atual.valor(), situacao);
+    }
+
     /**
      * Marca uma conta como CANCELADA no sistema.
+     * A alteração é feita pelo mesmo UPDATE condicional de {@link #updateSituacao(Long, Situacao)};
+     * cancelar uma conta já cancelada não tem efeito.
      * 
      * @param id ID da conta a ser cancelada
      * @throws ContaNotFoundException se a conta não for encontrada
+     * @throws SituacaoConcorrenteException se a conta for alterada por outras requisições em todas as tentativas
      */
     @Override
+    @Transactional
     public void delete(Long id) {
-        Conta conta = contaRepository.findById(id).orElseThrow(
-            () -> new ContaNotFoundException()
-        );
-        conta.setSituacao(Situacao.CANCELADA);
-        contaRepository.save(conta);
+        delete(id, null);
+    }
+
+    /**
+     * Marca uma conta como CANCELADA, buscando-a primeiro na referência informada
+     * (ver {@link #updateSituacao(Long, String, Situacao)}).
+     *
+     * @param id ID da conta a ser cancelada
+     * @param referencia referência atual da conta no formato MM-AAAA, opcional
+     * @throws InvalidReferenciaException se a referência informada não estiver no formato MM-AAAA
+     * @throws ContaNotFoundException se a conta não for encontrada
+     * @throws SituacaoConcorrenteException se a conta for alterada por outras requisições em todas as tentativas
+     */
+    @Override
+    @Transactional
+    public void delete(Long id, String referencia) {
+        try {
+            updateSituacao(id, referencia, Situacao.CANCELADA);
+        } catch (SituacaoConcorrenteException e) {
+            throw e;
+        } catch (SituacaoConflictException e) {
+            // Conta já cancelada
+        }
+    }
+
+    /**
+     * Altera a situação de um bloco de contas já bloqueadas, atualizando antes os saldos dos clientes
+     * com as quantidades e valores das contas agrupados por cliente e situação anterior e
+     * registrando na outbox um evento por conta, com a situação anterior.
+     *
+     * @param ids IDs das contas bloqueadas
+     * @param situacao nova situação
+     * @param origens situações a partir das quais a transição é permitida
+     * @return quantidade de contas alteradas
+     */
+    private int transicionar(List<Long> ids, Situacao situacao, List<Situacao> origens) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        saldoClienteService.registrarTransicoes(contaRepository.sumByIdInGroupByClienteAndSituacao(ids), situacao);
+        outboxService.registrarTransicoes(ids, situacao, origens);
+        return contaRepository.updateSituacaoByIdIn(ids, situacao, origens);
+    }
+
+    /**
+     * Insere uma conta na transação atual, atualizando o saldo do cliente e registrando o evento de criação.
+     *
+     * @param id ID do cliente (já verificado)
+     * @param contaRequestDTO dados da conta
+     * @return conta inserida
+     * @throws ClienteNotFoundException se o cliente for removido após a verificação
+     */
+    private Conta inserir(Long id, ContaRequestDTO contaRequestDTO) {
+        Conta conta = new Conta();
+        conta.setCliente(clienteRepository.getReferenceById(id));
+        conta.setReferencia(contaRequestDTO.referencia());
+        conta.setValor(contaRequestDTO.valor());
+        conta.setSituacao(contaRequestDTO.situacao());
+        try {
+            contaRepository.saveAndFlush(conta);
+        } catch (DataIntegrityViolationException e) {
+            // Cliente removido após a verificação no cache
+            throw new ClienteNotFoundException();
+        }
+        saldoClienteService.registrarAlteracao(id, null, null, conta.getSituacao(), conta.getValor());
+        outboxService.registrar(TipoEventoConta.CRIADA, conta.getId(), id, conta.getReferencia(), conta.getValor(),
+                conta.getSituacao(), null);
+        return conta;
+    }
+
+    /**
+     * @param referencia referência informada no formato MM-AAAA (pode ser nula)
+     * @param padrao referência utilizada quando nenhuma é informada
+     * @return referência informada ou a padrão
+     * @throws InvalidReferenciaException se a referência informada não estiver no formato MM-AAAA
+     */
+    private static String referenciaOuPadrao(String referencia, String padrao) {
+        if (referencia == null) {
+            return padrao;
+        }
+        if (ReferenciaConverter.compactar(referencia) < 0) {
+            throw new InvalidReferenciaException();
+        }
+        return referencia;
+    }
+
+    /**
+     * Gera o cursor opaco da listagem de contas, contendo o ID e a referência da última conta.
+     *
+     * @param id ID da última conta da página
+     * @param referencia referência da última conta da página
+     * @return cursor codificado em Base64 (URL-safe)
+     */
+    private static String encodeCursor(Long id, String referencia) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + ":" + referencia).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor da listagem de contas.
+     *
+     * @param cursor cursor recebido na requisição
+     * @return vetor com o ID e a referência da última conta da página anterior
+     * @throws InvalidCursorException se o cursor não for válido
+     */
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            if (partes.length != 2 || ReferenciaConverter.compactar(partes[1]) < 0) {
+                throw new InvalidCursorException();
+            }
+            return partes;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * @param value ID recebido no cursor
+     * @return ID convertido
+     * @throws InvalidCursorException se o valor não for um número
+     */
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * Verifica se a situação pode ser utilizada na criação de uma conta.
+     *
+     * @param situacao situação informada
+     * @return motivo da rejeição ou nulo se a situação for permitida
+     */
+    private static String situacaoNaoPermitida(Situacao situacao) {
+        if (situacao == Situacao.CANCELADA) {
+            return new SituacaoCanceladaNotAvailableException().getMessage();
+        }
+        if (situacao != Situacao.PAGA && situacao != Situacao.PENDENTE) {
+            return new SituacaoNotAvailableException(String.valueOf(situacao)).getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Cria o resultado de um item rejeitado por se referir a um cliente inexistente.
+     *
+     * @param indice posição do item na requisição
+     * @return resultado do item
+     */
+    private static BatchItemResultDTO clienteNaoEncontrado(int indice) {
+        return new BatchItemResultDTO(indice, StatusItemLote.NAO_ENCONTRADO, null, new ClienteNotFoundException().getMessage());
+    }
+
+    /**
+     * Soma os totais de todas as situações.
+     *
+     * @param totais totais por situação
+     * @return total geral, com o valor em centavos
+     */
+    private static ContaTotalDTO somarTodos(Map<Situacao, ContaTotalDTO> totais) {
+        long quantidade = 0;
+        long valor = 0;
+        for (ContaTotalDTO total : totais.values()) {
+            quantidade += total.quantidade();
+            valor = Math.addExact(valor, total.valor());
+        }
+        return new ContaTotalDTO(quantidade, valor);
     }
 }
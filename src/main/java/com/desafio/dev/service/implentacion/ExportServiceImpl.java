@@ -0,0 +1,203 @@
+package com.desafio.dev.service.implentacion;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.conta.ContaPendenteRelatorioDTO;
+import com.desafio.dev.dtos.serializer.CentavosSerializer;
+import com.desafio.dev.repository.ClienteRepository;
+import com.desafio.dev.repository.ContaRepository;
+import com.desafio.dev.service.interfaces.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Implementação dos serviços de exportação da base de dados.
+ *
+ * Os registros são lidos através de consultas que retornam {@link Stream}, de modo que
+ * o banco entrega as linhas em lotes (cursor no servidor) enquanto elas são escritas no
+ * fluxo de saída. Como as consultas projetam diretamente em DTOs, nenhuma entidade é
+ * registrada no contexto de persistência e o consumo de memória permanece constante
+ * independentemente do tamanho das tabelas.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    /**
+     * Quantidade de registros escritos entre cada descarga do fluxo de saída.
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    /**
+     * Cabeçalho do relatório de contas pendentes.
+     */
+    private static final String CABECALHO_CONTAS_PENDENTES = "nome,cpf,referencia,valor";
+
+    /**
+     * Repositório para acesso aos dados de clientes no banco de dados.
+     */
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    /**
+     * Repositório para acesso aos dados de contas no banco de dados.
+     */
+    @Autowired
+    private ContaRepository contaRepository;
+
+    /**
+     * Mapeador utilizado para serializar os registros em JSON.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Exporta todos os clientes cadastrados no formato NDJSON.
+     * A transação somente leitura mantém o cursor aberto durante toda a exportação.
+     *
+     * @param out fluxo de saída onde os clientes serão escritos
+     * @throws IOException se ocorrer um erro ao escrever no fluxo de saída
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportClientes(OutputStream out) throws IOException {
+        try (Stream<?> clientes = clienteRepository.streamAll()) {
+            writeNdjson(clientes, out);
+        }
+    }
+
+    /**
+     * Exporta todas as contas cadastradas no formato NDJSON.
+     * A transação somente leitura mantém o cursor aberto durante toda a exportação.
+     *
+     * @param out fluxo de saída onde as contas serão escritas
+     * @throws IOException se ocorrer um erro ao escrever no fluxo de saída
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportContas(OutputStream out) throws IOException {
+        try (Stream<?> contas = contaRepository.streamAll()) {
+            writeNdjson(contas, out);
+        }
+    }
+
+    /**
+     * Exporta o relatório das contas pendentes de todos os clientes no formato CSV.
+     *
+     * As linhas vêm de uma única consulta com junção entre conta e cliente, lida por cursor
+     * na transação somente leitura, e são escritas à medida que chegam; o valor é formatado
+     * a partir dos centavos em um buffer reaproveitado, sem criar um BigDecimal por linha.
+     *
+     * @param out fluxo de saída onde o relatório será escrito
+     * @throws IOException se ocorrer um erro ao escrever no fluxo de saída
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportContasPendentes(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        char[] valor = new char[CentavosSerializer.TAMANHO_MAXIMO];
+        writer.write(CABECALHO_CONTAS_PENDENTES);
+        writer.write('\n');
+
+        long[] escritos = {0};
+        try (Stream<ContaPendenteRelatorioDTO> contas = contaRepository.streamRelatorioBySituacao(Situacao.PENDENTE)) {
+            contas.forEach(conta -> {
+                try {
+                    writeCsvField(writer, conta.nome());
+                    writer.write(',');
+                    writer.write(conta.cpf());
+                    writer.write(',');
+                    writer.write(conta.referencia());
+                    writer.write(',');
+                    int inicio = CentavosSerializer.formatar(conta.valorCentavos(), valor);
+                    writer.write(valor, inicio, valor.length - inicio);
+                    writer.write('\n');
+                    if (++escritos[0] % FLUSH_INTERVAL == 1) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Escreve cada registro do stream como uma linha JSON no fluxo de saída.
+     * O primeiro registro é descarregado imediatamente para que o cliente receba
+     * o início da resposta sem aguardar o restante da exportação.
+     *
+     * @param registros stream de registros a serem escritos
+     * @param out fluxo de saída
+     * @throws IOException se ocorrer um erro ao escrever no fluxo de saída
+     */
+    private void writeNdjson(Stream<?> registros, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            long[] escritos = {0};
+            registros.forEach(registro -> {
+                try {
+                    writer.writeValue(generator, registro);
+                    generator.writeRaw('\n');
+                    if (++escritos[0] % FLUSH_INTERVAL == 1) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Escreve um campo de texto no CSV, entre aspas quando contém vírgula, aspas ou quebra
+     * de linha, com as aspas internas duplicadas (RFC 4180).
+     *
+     * @param writer destino do CSV
+     * @param campo valor do campo (pode ser nulo)
+     * @throws IOException se ocorrer um erro ao escrever no fluxo de saída
+     */
+    private static void writeCsvField(Writer writer, String campo) throws IOException {
+        if (campo == null) {
+            return;
+        }
+        boolean aspas = false;
+        for (int i = 0; i < campo.length() && !aspas; i++) {
+            char c = campo.charAt(i);
+            aspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!aspas) {
+            writer.write(campo);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < campo.length(); i++) {
+            char c = campo.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
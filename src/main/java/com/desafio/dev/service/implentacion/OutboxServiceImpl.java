@@ -0,0 +1,194 @@
+package com.desafio.dev.service.implentacion;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.ENUMS.TipoEventoConta;
+import com.desafio.dev.dtos.outbox.ContaEventoDTO;
+import com.desafio.dev.model.Conta;
+import com.desafio.dev.model.OutboxEvento;
+import com.desafio.dev.outbox.ContaEventoSink;
+import com.desafio.dev.repository.OutboxEventoRepository;
+import com.desafio.dev.service.interfaces.OutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementação da outbox de eventos de conta.
+ *
+ * Os métodos de registro exigem uma transação em andamento (a da alteração da conta), de modo
+ * que o evento é confirmado ou desfeito junto com a alteração, sem nenhum acesso externo no
+ * caminho da requisição. O envio é feito pelo {@link com.desafio.dev.jobs.OutboxDispatcherJob}.
+ */
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxServiceImpl.class);
+
+    /**
+     * Quantidade máxima de contas em cada INSERT ... SELECT da criação em lote.
+     */
+    private static final int BLOCO_CRIACOES = 1000;
+
+    /**
+     * Chave dos advisory locks das partições da outbox ("outb" em ASCII), que os distingue de
+     * outros advisory locks do banco.
+     */
+    private static final int CHAVE_BLOQUEIO = 0x6f757462;
+
+    /**
+     * Repositório para acesso aos eventos da outbox.
+     */
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    /**
+     * Destino dos eventos enviados.
+     */
+    @Autowired
+    private ContaEventoSink contaEventoSink;
+
+    /**
+     * DataSource utilizado para identificar o banco em uso.
+     */
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Indica se o banco em uso é o PostgreSQL (nulo até a primeira verificação).
+     */
+    private volatile Boolean postgresql;
+
+    /**
+     * Registra um evento de uma conta na transação atual, com um único INSERT.
+     *
+     * @param tipo tipo do evento
+     * @param idConta ID da conta
+     * @param idCliente ID do cliente da conta
+     * @param referencia referência da conta
+     * @param valor valor da conta
+     * @param situacao situação da conta após a alteração
+     * @param situacaoAnterior situação da conta antes da alteração (nula na criação)
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(TipoEventoConta tipo, Long idConta, Long idCliente, String referencia, BigDecimal valor,
+                          Situacao situacao, Situacao situacaoAnterior) {
+        outboxEventoRepository.save(new OutboxEvento(null, tipo, idConta, idCliente, referencia, valor,
+                situacao, situacaoAnterior, Instant.now()));
+    }
+
+    /**
+     * Registra os eventos de criação a partir das contas já gravadas, com um INSERT ... SELECT
+     * por bloco de {@value #BLOCO_CRIACOES} contas.
+     *
+     * @param contas contas criadas (já inseridas no banco)
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarCriacoes(List<Conta> contas) {
+        List<Long> ids = contas.stream().map(Conta::getId).toList();
+        Instant agora = Instant.now();
+        for (int inicio = 0; inicio < ids.size(); inicio += BLOCO_CRIACOES) {
+            outboxEventoRepository.insertByContaIdIn(
+                    ids.subList(inicio, Math.min(inicio + BLOCO_CRIACOES, ids.size())), TipoEventoConta.CRIADA, agora);
+        }
+    }
+
+    /**
+     * Registra os eventos de remoção de um bloco de contas com um único INSERT ... SELECT,
+     * antes que as contas sejam removidas.
+     *
+     * @param ids IDs das contas a serem removidas
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarRemocoes(List<Long> ids) {
+        outboxEventoRepository.insertByContaIdIn(ids, TipoEventoConta.REMOVIDA, Instant.now());
+    }
+
+    /**
+     * Registra os eventos de remoção de todas as contas de um cliente com um único
+     * INSERT ... SELECT, antes que as contas sejam removidas.
+     *
+     * @param idCliente ID do cliente
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarRemocoesByClienteId(Long idCliente) {
+        outboxEventoRepository.insertByClienteId(idCliente, TipoEventoConta.REMOVIDA, Instant.now());
+    }
+
+    /**
+     * Registra os eventos de um bloco de transições com um único INSERT ... SELECT.
+     *
+     * @param ids IDs das contas bloqueadas
+     * @param situacao nova situação
+     * @param origens situações a partir das quais a transição é permitida
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarTransicoes(List<Long> ids, Situacao situacao, List<Situacao> origens) {
+        outboxEventoRepository.insertTransicoesByContaIdIn(ids, TipoEventoConta.SITUACAO_ALTERADA, situacao,
+                origens, Instant.now());
+    }
+
+    /**
+     * Reserva a partição, bloqueia o seu lote de eventos mais antigos, entrega ao destino e remove
+     * os eventos na mesma transação. Se o destino falhar, a transação é desfeita e o lote volta a
+     * ficar disponível, antes de qualquer evento posterior da partição.
+     *
+     * No PostgreSQL a partição é reservada por um advisory lock da transação: se outra instância
+     * estiver enviando a partição, nenhum evento é lido. Nos demais bancos o SELECT ... FOR UPDATE
+     * aguarda o lote bloqueado por outra transação.
+     *
+     * @param particao partição dos eventos, entre 0 e particoes - 1
+     * @param particoes quantidade de partições
+     * @param limite quantidade máxima de eventos do lote
+     * @return eventos enviados (vazio se não houver eventos pendentes ou se a partição estiver
+     * sendo enviada por outra instância)
+     * @throws Exception se o destino não aceitar o lote
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public List<ContaEventoDTO> enviarLote(int particao, int particoes, int limite) throws Exception {
+        if (isPostgresql() && !outboxEventoRepository.tryLockParticao(CHAVE_BLOQUEIO, particao)) {
+            return List.of();
+        }
+        List<ContaEventoDTO> lote = outboxEventoRepository.findLoteForUpdateByParticao(particao, particoes,
+                Limit.of(limite));
+        if (lote.isEmpty()) {
+            return lote;
+        }
+        contaEventoSink.enviar(lote);
+        outboxEventoRepository.deleteAllByIdIn(lote.stream().map(ContaEventoDTO::id).toList());
+        return lote;
+    }
+
+    /**
+     * @return true se o banco em uso for o PostgreSQL
+     */
+    private boolean isPostgresql() {
+        if (postgresql == null) {
+            try {
+                String banco = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                postgresql = "PostgreSQL".equalsIgnoreCase(banco);
+            } catch (MetaDataAccessException e) {
+                log.warn("Não foi possível identificar o banco de dados; partições da outbox enviadas sem advisory lock", e);
+                return false;
+            }
+        }
+        return postgresql;
+    }
+}
@@ -0,0 +1,264 @@
+package com.desafio.dev.service.implentacion;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.conta.ContaTotalClienteDTO;
+import com.desafio.dev.dtos.saldo.SaldoClienteDTO;
+import com.desafio.dev.exceptions.ClienteNotFoundException;
+import com.desafio.dev.model.Conta;
+import com.desafio.dev.model.SaldoCliente;
+import com.desafio.dev.model.converter.CentavosConverter;
+import com.desafio.dev.repository.ContaRepository;
+import com.desafio.dev.repository.SaldoClienteRepository;
+import com.desafio.dev.service.interfaces.SaldoClienteService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementação dos serviços do saldo materializado dos clientes.
+ *
+ * As alterações de contas são aplicadas ao saldo como diferenças (UPDATE incremental),
+ * na mesma transação da alteração, de modo que o saldo nunca é recalculado a partir das
+ * contas durante as requisições. A reconciliação confere os saldos com a tabela de contas
+ * e corrige eventuais divergências.
+ */
+@Service
+public class SaldoClienteServiceImpl implements SaldoClienteService {
+
+    private static final Logger log = LoggerFactory.getLogger(SaldoClienteServiceImpl.class);
+
+    /**
+     * Repositório para acesso aos saldos dos clientes.
+     */
+    @Autowired
+    private SaldoClienteRepository saldoClienteRepository;
+
+    /**
+     * Repositório utilizado para recalcular os saldos na reconciliação.
+     */
+    @Autowired
+    private ContaRepository contaRepository;
+
+    /**
+     * Retorna o saldo das contas de um cliente, lido pela chave primária.
+     *
+     * @param idCliente ID do cliente
+     * @return DTO com as quantidades e valores das contas do cliente
+     * @throws ClienteNotFoundException se o cliente não for encontrado
+     */
+    @Override
+    public SaldoClienteDTO findByClienteId(Long idCliente) {
+        SaldoCliente saldo = saldoClienteRepository.findById(idCliente).orElseThrow(
+                () -> new ClienteNotFoundException()
+        );
+        return new SaldoClienteDTO(
+                saldo.getIdCliente(),
+                saldo.getQuantidadePendente(),
+                saldo.getQuantidadePaga(),
+                saldo.getQuantidadeCancelada(),
+                saldo.getValorPendente(),
+                saldo.getValorPago()
+        );
+    }
+
+    /**
+     * Cria os saldos zerados de clientes recém cadastrados em um único comando.
+     *
+     * @param idsClientes IDs dos clientes
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void criarSaldos(Collection<Long> idsClientes) {
+        if (!idsClientes.isEmpty()) {
+            saldoClienteRepository.criarSaldos(idsClientes);
+        }
+    }
+
+    /**
+     * Remove o saldo de um cliente.
+     *
+     * @param idCliente ID do cliente
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removerSaldo(Long idCliente) {
+        saldoClienteRepository.deleteByIdCliente(idCliente);
+    }
+
+    /**
+     * Atualiza o saldo de um cliente com a diferença causada pela alteração de uma conta,
+     * em um único UPDATE incremental. Nada é feito se a alteração não mudar o saldo.
+     *
+     * @param idCliente ID do cliente da conta
+     * @param situacaoAnterior situação da conta antes da alteração (nula na criação)
+     * @param valorAnterior valor da conta antes da alteração (nulo na criação)
+     * @param situacaoNova situação da conta após a alteração
+     * @param valorNovo valor da conta após a alteração
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarAlteracao(Long idCliente, Situacao situacaoAnterior, BigDecimal valorAnterior,
+                                   Situacao situacaoNova, BigDecimal valorNovo) {
+        if (situacaoNova == situacaoAnterior && valorNovo.compareTo(valorAnterior) == 0) {
+            return;
+        }
+        SaldoCliente diferenca = zerado(idCliente);
+        if (situacaoAnterior != null) {
+            somar(diferenca, situacaoAnterior, -1, valorAnterior.negate());
+        }
+        somar(diferenca, situacaoNova, 1, valorNovo);
+        aplicar(diferenca);
+    }
+
+    /**
+     * Atualiza os saldos dos clientes com as contas criadas em lote. As contas são somadas
+     * por cliente e cada saldo recebe um único UPDATE incremental, em ordem crescente de ID
+     * do cliente: lotes concorrentes com clientes em comum bloqueiam os saldos na mesma ordem
+     * e, portanto, aguardam um ao outro em vez de entrarem em deadlock.
+     *
+     * @param contas contas criadas
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarInclusoes(Collection<Conta> contas) {
+        Map<Long, SaldoCliente> diferencas = new TreeMap<>();
+        for (Conta conta : contas) {
+            somar(diferencas.computeIfAbsent(conta.getCliente().getId(), SaldoClienteServiceImpl::zerado),
+                    conta.getSituacao(), 1, conta.getValor());
+        }
+        diferencas.values().forEach(this::aplicar);
+    }
+
+    /**
+     * Atualiza os saldos dos clientes com uma alteração de situação de contas em lote.
+     * As quantidades e valores são retirados da situação anterior e somados à nova situação,
+     * e cada saldo recebe um único UPDATE incremental, em ordem crescente de ID do cliente
+     * (como em {@link #registrarInclusoes(Collection)}).
+     *
+     * @param totais quantidade e valor das contas alteradas, por cliente e situação anterior
+     * @param situacaoNova situação das contas após a alteração
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarTransicoes(Collection<ContaTotalClienteDTO> totais, Situacao situacaoNova) {
+        Map<Long, SaldoCliente> diferencas = new TreeMap<>();
+        for (ContaTotalClienteDTO total : totais) {
+            SaldoCliente diferenca = diferencas.computeIfAbsent(total.idCliente(), SaldoClienteServiceImpl::zerado);
+            BigDecimal valor = CentavosConverter.paraDecimal(total.valorCentavos());
+            somar(diferenca, total.situacao(), -total.quantidade(), valor.negate());
+            somar(diferenca, situacaoNova, total.quantidade(), valor);
+        }
+        diferencas.values().forEach(this::aplicar);
+    }
+
+    /**
+     * Confere os saldos de uma faixa de clientes com a tabela de contas.
+     *
+     * Os saldos da faixa são bloqueados (SELECT ... FOR UPDATE) antes de as contas serem
+     * somadas: alterações de contas concorrentes aguardam o fim da reconciliação para
+     * aplicar suas diferenças, e as já aplicadas estão confirmadas quando o bloqueio é obtido,
+     * portanto nenhuma diferença é perdida pela correção.
+     *
+     * @param inicio primeiro ID de cliente da faixa
+     * @param fim último ID de cliente da faixa
+     * @return quantidade de saldos corrigidos (incluindo os saldos ausentes criados)
+     */
+    @Override
+    @Transactional
+    public int reconciliar(Long inicio, Long fim) {
+        int criados = saldoClienteRepository.criarSaldosAusentes(inicio, fim);
+        List<SaldoCliente> saldos = saldoClienteRepository.findAllForUpdate(inicio, fim);
+
+        Map<Long, SaldoCliente> esperados = new HashMap<>();
+        for (ContaTotalClienteDTO total : contaRepository.sumByClienteIdBetweenGroupByClienteAndSituacao(inicio, fim)) {
+            somar(esperados.computeIfAbsent(total.idCliente(), SaldoClienteServiceImpl::zerado),
+                    total.situacao(), total.quantidade(), CentavosConverter.paraDecimal(total.valorCentavos()));
+        }
+
+        int corrigidos = 0;
+        for (SaldoCliente saldo : saldos) {
+            SaldoCliente esperado = esperados.getOrDefault(saldo.getIdCliente(), zerado(saldo.getIdCliente()));
+            if (!mesmoSaldo(saldo, esperado)) {
+                log.warn("Saldo do cliente {} divergente das contas; corrigido", saldo.getIdCliente());
+                saldo.setQuantidadePendente(esperado.getQuantidadePendente());
+                saldo.setQuantidadePaga(esperado.getQuantidadePaga());
+                saldo.setQuantidadeCancelada(esperado.getQuantidadeCancelada());
+                saldo.setValorPendente(esperado.getValorPendente());
+                saldo.setValorPago(esperado.getValorPago());
+                corrigidos++;
+            }
+        }
+        return corrigidos + criados;
+    }
+
+    /**
+     * Aplica a diferença ao saldo do cliente em um único UPDATE incremental.
+     *
+     * @param diferenca diferença a ser somada ao saldo, identificada pelo ID do cliente
+     */
+    private void aplicar(SaldoCliente diferenca) {
+        int atualizados = saldoClienteRepository.aplicarDiferenca(diferenca.getIdCliente(),
+                diferenca.getQuantidadePendente(),
+                diferenca.getQuantidadePaga(),
+                diferenca.getQuantidadeCancelada(),
+                diferenca.getValorPendente(),
+                diferenca.getValorPago());
+        if (atualizados == 0) {
+            log.warn("Saldo do cliente {} não encontrado; será criado na próxima reconciliação", diferenca.getIdCliente());
+        }
+    }
+
+    /**
+     * @param idCliente ID do cliente
+     * @return saldo com todas as quantidades e valores zerados
+     */
+    private static SaldoCliente zerado(Long idCliente) {
+        return new SaldoCliente(idCliente, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    /**
+     * Soma uma quantidade e um valor ao saldo, na situação informada.
+     * O valor das contas canceladas não é acumulado.
+     *
+     * @param saldo saldo a ser alterado
+     * @param situacao situação das contas
+     * @param quantidade quantidade a ser somada (negativa para subtrair)
+     * @param valor valor a ser somado (negativo para subtrair)
+     */
+    private static void somar(SaldoCliente saldo, Situacao situacao, long quantidade, BigDecimal valor) {
+        switch (situacao) {
+            case PENDENTE -> {
+                saldo.setQuantidadePendente(saldo.getQuantidadePendente() + quantidade);
+                saldo.setValorPendente(saldo.getValorPendente().add(valor));
+            }
+            case PAGA -> {
+                saldo.setQuantidadePaga(saldo.getQuantidadePaga() + quantidade);
+                saldo.setValorPago(saldo.getValorPago().add(valor));
+            }
+            case CANCELADA -> saldo.setQuantidadeCancelada(saldo.getQuantidadeCancelada() + quantidade);
+        }
+    }
+
+    /**
+     * @param a primeiro saldo
+     * @param b segundo saldo
+     * @return true se as quantidades e os valores forem iguais
+     */
+    private static boolean mesmoSaldo(SaldoCliente a, SaldoCliente b) {
+        return a.getQuantidadePendente() == b.getQuantidadePendente()
+                && a.getQuantidadePaga() == b.getQuantidadePaga()
+                && a.getQuantidadeCancelada() == b.getQuantidadeCancelada()
+                && a.getValorPendente().compareTo(b.getValorPendente()) == 0
+                && a.getValorPago().compareTo(b.getValorPago()) == 0;
+    }
+}
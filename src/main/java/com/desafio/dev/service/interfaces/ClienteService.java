@@ -1,11 +1,19 @@
 package com.desafio.dev.service.interfaces;
 
+import com.desafio.dev.ENUMS.OrdenacaoCliente;
+import com.desafio.dev.dtos.batch.BatchItemResultDTO;
+import com.desafio.dev.dtos.cliente.ClientePageResponseDTO;
 import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
 import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
 import com.desafio.dev.exceptions.ClienteAlreadyExistsException;
 import com.desafio.dev.exceptions.ClienteNotFoundException;
+import com.desafio.dev.exceptions.ClienteVersionMismatchException;
+import com.desafio.dev.exceptions.InvalidBatchLineException;
+import com.desafio.dev.exceptions.InvalidCursorException;
+import com.desafio.dev.exceptions.InvalidSearchTermException;
 
-import java.util.List;
+import java.util.Iterator;
+import java.util.function.Consumer;
 
 /**
  * Interface que define as operações de serviço disponíveis para a entidade Cliente.
@@ -23,20 +31,61 @@ public interface ClienteService {
      */
     ClienteResponseDTO save(ClienteRequestDTO clienteRequestDTO);
     /**
-     * Retorna uma lista com todos os clientes cadastrados no sistema.
+     * Cria clientes em lote, validando e inserindo os itens em blocos.
      * 
-     * @return Lista de DTOs contendo os dados de todos os clientes
+     * @param clientes iterador com os dados dos clientes a serem criados
+     * @param resultados consumidor que recebe o resultado de cada item, na mesma ordem recebida,
+     *                   à medida que os blocos são gravados
+     * @throws InvalidBatchLineException se o primeiro item do iterador for inválido
      */
-    List<ClienteResponseDTO> findAll();
+    void saveAll(Iterator<ClienteRequestDTO> clientes, Consumer<BatchItemResultDTO> resultados);
+    /**
+     * Retorna uma página de clientes cadastrados no sistema, paginada por cursor.
+     * 
+     * @param after cursor retornado na página anterior ou nulo para a primeira página
+     * @param size quantidade de clientes por página
+     * @param ordenacao ordenação desejada (por ID ou por nome)
+     * @return DTO contendo os clientes da página e o cursor da próxima página
+     * @throws InvalidCursorException se o cursor informado não for válido
+     */
+    ClientePageResponseDTO findAll(String after, Integer size, OrdenacaoCliente ordenacao);
+    /**
+     * Busca clientes cujo nome, e-mail ou telefone contenham o termo informado.
+     * 
+     * @param termo termo buscado (mínimo de 3 caracteres)
+     * @param after cursor retornado na página anterior ou nulo para a primeira página
+     * @param size quantidade de clientes por página
+     * @return DTO com os clientes encontrados e o cursor da próxima página
+     * @throws InvalidSearchTermException se o termo for curto demais
+     */
+    ClientePageResponseDTO search(String termo, String after, Integer size);
+    /**
+     * Busca um cliente pelo ID.
+     * 
+     * @param id ID do cliente
+     * @return DTO com os dados do cliente
+     * @throws ClienteNotFoundException se o cliente não for encontrado
+     */
+    ClienteResponseDTO findById(Long id);
+    /**
+     * Busca um cliente pelo CPF.
+     * 
+     * @param cpf CPF do cliente no formato xxx.xxx.xxx-xx
+     * @return DTO com os dados do cliente
+     * @throws ClienteNotFoundException se não houver cliente com o CPF informado
+     */
+    ClienteResponseDTO findByCpf(String cpf);
     /**
      * Atualiza os dados de um cliente existente.
      * 
      * @param id ID do cliente a ser atualizado
+     * @param versaoEsperada versão esperada do cliente (If-Match) ou nulo para não verificar a versão
      * @param clienteRequestDTO DTO contendo os novos dados do cliente
      * @return DTO com os dados atualizados do cliente
      * @throws ClienteNotFoundException se o cliente não for encontrado
+     * @throws ClienteVersionMismatchException se o cliente não estiver na versão esperada
      */
-    ClienteResponseDTO update(Long id, ClienteRequestDTO clienteRequestDTO);
+    ClienteResponseDTO update(Long id, Long versaoEsperada, ClienteRequestDTO clienteRequestDTO);
     /**
      * Remove um cliente do sistema.
      * 
@@ -44,4 +93,10 @@ public interface ClienteService {
      * @throws ClienteNotFoundException se o cliente não for encontrado
      */
     void delete(Long id);
+    /**
+     * Remove um cliente e suas contas em segundo plano, em blocos.
+     * 
+     * @param id ID do cliente a ser removido
+     */
+    void deleteAsync(Long id);
 }
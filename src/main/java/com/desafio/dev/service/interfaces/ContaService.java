@@ -1,7 +1,15 @@
 package com.desafio.dev.service.interfaces;
 
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.batch.BatchItemResultDTO;
+import com.desafio.dev.dtos.conta.ContaFiltroDTO;
+import com.desafio.dev.dtos.conta.ContaLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaPageResponseDTO;
 import com.desafio.dev.dtos.conta.ContaRequestDTO;
 import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.dtos.conta.ContaResumoDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteResponseDTO;
 import com.desafio.dev.exceptions.SituacaoCanceladaNotAvailableException;
 import com.desafio.dev.exceptions.SituacaoNotAvailableException;
 import com.desafio.dev.exceptions.ContaEmptyException;
@@ -29,13 +37,36 @@ public interface ContaService {
      */
     ContaResponseDTO save(Long id, ContaRequestDTO contaRequestDTO);
     /**
-     * Retorna uma lista com todas as contas não canceladas de um cliente específico.
+     * Cria contas em lote, de um ou vários clientes, em uma única transação.
+     * 
+     * @param contas lista com os dados das contas a serem criadas, cada uma com o ID do seu cliente
+     * @return Lista com o resultado de cada item, na mesma ordem recebida
+     * @throws com.desafio.dev.exceptions.ContaLoteTooLargeException se o lote exceder o tamanho máximo
+     * @throws com.desafio.dev.exceptions.ClienteNotFoundException se um cliente do lote for removido durante a inserção
+     */
+    List<BatchItemResultDTO> saveAll(List<ContaLoteRequestDTO> contas);
+    /**
+     * Retorna uma página das contas de um cliente específico, ordenada por referência e ID,
+     * paginada por cursor e filtrada por situação, período e faixa de valor.
      * 
      * @param id ID do cliente para buscar as contas
-     * @return Lista de DTOs contendo os dados das contas do cliente
-     * @throws ContaEmptyException se o cliente não possuir contas ativas
+     * @param filtro filtros da listagem (sem situações informadas, lista as contas não canceladas)
+     * @param after cursor retornado na página anterior ou nulo para a primeira página
+     * @param size quantidade de contas por página
+     * @return DTO com as contas da página e o cursor da próxima página
+     * @throws com.desafio.dev.exceptions.InvalidReferenciaException se uma das referências for inválida
+     * @throws com.desafio.dev.exceptions.InvalidCursorException se o cursor informado não for válido
+     * @throws ContaEmptyException se nenhuma conta do cliente atender aos filtros
+     */
+    ContaPageResponseDTO findAllByClienteId(Long id, ContaFiltroDTO filtro, String after, Integer size);
+    /**
+     * Retorna o resumo das contas de um cliente: quantidade e valor total por situação e por referência.
+     * 
+     * @param id ID do cliente
+     * @return DTO com os totais das contas do cliente
+     * @throws com.desafio.dev.exceptions.ClienteNotFoundException se o cliente não for encontrado
      */
-    List<ContaResponseDTO> findAllByClienteId(Long id);
+    ContaResumoDTO resumoByClienteId(Long id);
     /**
      * Atualiza os dados de uma conta existente.
      * 
@@ -45,6 +76,42 @@ public interface ContaService {
      * @throws ContaNotFoundException se a conta não for encontrada
      */
     ContaResponseDTO update(Long id, ContaRequestDTO contaRequestDTO);
+    /**
+     * Altera a situação de várias contas, selecionadas pelos IDs ou pelo cliente e período,
+     * ignorando as contas cuja situação atual não permite a transição.
+     * 
+     * @param transicao nova situação e seleção das contas
+     * @return DTO com a quantidade de contas que efetivamente mudaram de situação
+     * @throws com.desafio.dev.exceptions.SituacaoTransicaoNotAvailableException se a nova situação não for PAGA ou CANCELADA
+     * @throws com.desafio.dev.exceptions.InvalidTransicaoLoteException se nem os IDs nem o cliente forem informados
+     * @throws com.desafio.dev.exceptions.TransicaoLoteInterrompidaException se um bloco falhar, com a quantidade de contas já alteradas
+     */
+    ContaTransicaoLoteResponseDTO updateSituacaoAll(ContaTransicaoLoteRequestDTO transicao);
+    /**
+     * Altera a situação de uma conta com um UPDATE condicional, respeitando as transições
+     * permitidas a partir da situação atual.
+     * 
+     * @param id ID da conta
+     * @param situacao nova situação (PAGA ou CANCELADA)
+     * @return DTO com os dados atualizados da conta
+     * @throws com.desafio.dev.exceptions.SituacaoTransicaoNotAvailableException se a nova situação não for PAGA ou CANCELADA
+     * @throws ContaNotFoundException se a conta não for encontrada
+     * @throws com.desafio.dev.exceptions.SituacaoConflictException se a situação atual da conta não permitir a transição
+     */
+    ContaResponseDTO updateSituacao(Long id, Situacao situacao);
+    /**
+     * Altera a situação de uma conta como em {@link #updateSituacao(Long, Situacao)}, buscando-a
+     * primeiro na referência informada, para consultar somente a partição do mês da conta.
+     * 
+     * @param id ID da conta
+     * @param referencia referência atual da conta no formato MM-AAAA, opcional
+     * @param situacao nova situação (PAGA ou CANCELADA)
+     * @return DTO com os dados atualizados da conta
+     * @throws com.desafio.dev.exceptions.InvalidReferenciaException se a referência não estiver no formato MM-AAAA
+     * @throws ContaNotFoundException se a conta não for encontrada
+     * @throws com.desafio.dev.exceptions.SituacaoConflictException se a situação atual da conta não permitir a transição
+     */
+    ContaResponseDTO updateSituacao(Long id, String referencia, Situacao situacao);
     /**
      * Marca uma conta como CANCELADA no sistema.
      * 
@@ -52,4 +119,13 @@ public interface ContaService {
      * @throws ContaNotFoundException se a conta não for encontrada
      */
     void delete(Long id);
+    /**
+     * Marca uma conta como CANCELADA, buscando-a primeiro na referência informada.
+     * 
+     * @param id ID da conta a ser cancelada
+     * @param referencia referência atual da conta no formato MM-AAAA, opcional
+     * @throws com.desafio.dev.exceptions.InvalidReferenciaException se a referência não estiver no formato MM-AAAA
+     * @throws ContaNotFoundException se a conta não for encontrada
+     */
+    void delete(Long id, String referencia);
 }
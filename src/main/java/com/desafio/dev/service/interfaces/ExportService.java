@@ -0,0 +1,35 @@
+package com.desafio.dev.service.interfaces;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Interface que define as operações de exportação da base de dados.
+ *
+ * As exportações são escritas diretamente no fluxo de saída, registro a registro,
+ * no formato NDJSON (um objeto JSON por linha) ou CSV, sem carregar a base em memória.
+ */
+public interface ExportService {
+    /**
+     * Exporta todos os clientes cadastrados no formato NDJSON.
+     *
+     * @param out fluxo de saída onde os clientes serão escritos
+     * @throws IOException se ocorrer um erro ao escrever no fluxo de saída
+     */
+    void exportClientes(OutputStream out) throws IOException;
+    /**
+     * Exporta todas as contas cadastradas no formato NDJSON.
+     *
+     * @param out fluxo de saída onde as contas serão escritas
+     * @throws IOException se ocorrer um erro ao escrever no fluxo de saída
+     */
+    void exportContas(OutputStream out) throws IOException;
+    /**
+     * Exporta o relatório das contas pendentes de todos os clientes no formato CSV
+     * (nome e CPF do cliente, referência e valor da conta).
+     *
+     * @param out fluxo de saída onde o relatório será escrito
+     * @throws IOException se ocorrer um erro ao escrever no fluxo de saída
+     */
+    void exportContasPendentes(OutputStream out) throws IOException;
+}
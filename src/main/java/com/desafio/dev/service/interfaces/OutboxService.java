@@ -0,0 +1,71 @@
+package com.desafio.dev.service.interfaces;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.ENUMS.TipoEventoConta;
+import com.desafio.dev.dtos.outbox.ContaEventoDTO;
+import com.desafio.dev.model.Conta;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Interface que define as operações da outbox de eventos de conta.
+ *
+ * Os eventos são registrados na transação da alteração da conta e enviados depois, em lotes,
+ * ao destino configurado ({@link com.desafio.dev.outbox.ContaEventoSink}).
+ */
+public interface OutboxService {
+    /**
+     * Registra um evento de uma conta na transação atual.
+     *
+     * @param tipo tipo do evento
+     * @param idConta ID da conta
+     * @param idCliente ID do cliente da conta
+     * @param referencia referência da conta
+     * @param valor valor da conta
+     * @param situacao situação da conta após a alteração
+     * @param situacaoAnterior situação da conta antes da alteração (nula na criação)
+     */
+    void registrar(TipoEventoConta tipo, Long idConta, Long idCliente, String referencia, BigDecimal valor,
+                   Situacao situacao, Situacao situacaoAnterior);
+    /**
+     * Registra na transação atual um evento de criação para cada conta já inserida.
+     *
+     * @param contas contas criadas
+     */
+    void registrarCriacoes(List<Conta> contas);
+    /**
+     * Registra na transação atual um evento de alteração de situação para cada conta de um bloco
+     * bloqueado, antes que a situação seja alterada.
+     *
+     * @param ids IDs das contas bloqueadas
+     * @param situacao nova situação
+     * @param origens situações a partir das quais a transição é permitida
+     */
+    void registrarTransicoes(List<Long> ids, Situacao situacao, List<Situacao> origens);
+    /**
+     * Registra na transação atual um evento de remoção para cada conta de um bloco, antes que
+     * as contas sejam removidas.
+     *
+     * @param ids IDs das contas a serem removidas
+     */
+    void registrarRemocoes(List<Long> ids);
+    /**
+     * Registra na transação atual um evento de remoção para cada conta de um cliente, antes que
+     * as contas sejam removidas.
+     *
+     * @param idCliente ID do cliente
+     */
+    void registrarRemocoesByClienteId(Long idCliente);
+    /**
+     * Envia ao destino o lote de eventos mais antigos de uma partição e os remove da outbox.
+     *
+     * @param particao partição dos eventos, entre 0 e particoes - 1
+     * @param particoes quantidade de partições
+     * @param limite quantidade máxima de eventos do lote
+     * @return eventos enviados (vazio se não houver eventos pendentes ou se a partição estiver
+     * sendo enviada por outra instância)
+     * @throws Exception se o destino não aceitar o lote; os eventos são mantidos na outbox
+     */
+    List<ContaEventoDTO> enviarLote(int particao, int particoes, int limite) throws Exception;
+}
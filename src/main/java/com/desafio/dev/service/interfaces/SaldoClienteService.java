@@ -0,0 +1,74 @@
+package com.desafio.dev.service.interfaces;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.conta.ContaTotalClienteDTO;
+import com.desafio.dev.dtos.saldo.SaldoClienteDTO;
+import com.desafio.dev.exceptions.ClienteNotFoundException;
+import com.desafio.dev.model.Conta;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Interface que define as operações de serviço do saldo materializado dos clientes.
+ *
+ * O saldo de cada cliente é mantido de forma incremental pelas operações de contas
+ * e conferido periodicamente com a tabela de contas.
+ */
+public interface SaldoClienteService {
+    /**
+     * Retorna o saldo das contas de um cliente.
+     *
+     * @param idCliente ID do cliente
+     * @return DTO com as quantidades e valores das contas do cliente
+     * @throws ClienteNotFoundException se o cliente não for encontrado
+     */
+    SaldoClienteDTO findByClienteId(Long idCliente);
+    /**
+     * Cria os saldos zerados de clientes recém cadastrados, na transação do cadastro.
+     *
+     * @param idsClientes IDs dos clientes
+     */
+    void criarSaldos(Collection<Long> idsClientes);
+    /**
+     * Remove o saldo de um cliente, na transação da exclusão do cliente.
+     *
+     * @param idCliente ID do cliente
+     */
+    void removerSaldo(Long idCliente);
+    /**
+     * Atualiza o saldo de um cliente com a diferença causada pela alteração de uma conta,
+     * na transação da alteração.
+     *
+     * @param idCliente ID do cliente da conta
+     * @param situacaoAnterior situação da conta antes da alteração (nula na criação)
+     * @param valorAnterior valor da conta antes da alteração (nulo na criação)
+     * @param situacaoNova situação da conta após a alteração
+     * @param valorNovo valor da conta após a alteração
+     */
+    void registrarAlteracao(Long idCliente, Situacao situacaoAnterior, BigDecimal valorAnterior,
+                            Situacao situacaoNova, BigDecimal valorNovo);
+    /**
+     * Atualiza os saldos dos clientes com as contas criadas em lote, na transação da criação,
+     * aplicando uma única diferença por cliente.
+     *
+     * @param contas contas criadas
+     */
+    void registrarInclusoes(Collection<Conta> contas);
+    /**
+     * Atualiza os saldos dos clientes com uma alteração de situação de contas em lote,
+     * na transação da alteração, aplicando uma única diferença por cliente.
+     *
+     * @param totais quantidade e valor das contas alteradas, por cliente e situação anterior
+     * @param situacaoNova situação das contas após a alteração
+     */
+    void registrarTransicoes(Collection<ContaTotalClienteDTO> totais, Situacao situacaoNova);
+    /**
+     * Confere os saldos de uma faixa de clientes com a tabela de contas, corrigindo as divergências.
+     *
+     * @param inicio primeiro ID de cliente da faixa
+     * @param fim último ID de cliente da faixa
+     * @return quantidade de saldos corrigidos
+     */
+    int reconciliar(Long inicio, Long fim);
+}
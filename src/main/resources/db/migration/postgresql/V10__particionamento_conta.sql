@@ -0,0 +1,80 @@
+-- Particionamento declarativo da tabela conta por mês de referência (AAAAMM).
+--
+-- Cada mês fica em sua própria partição (conta_pAAAAMM, faixa [AAAAMM, mês seguinte)), de modo
+-- que as consultas filtradas por referência percorrem somente as partições do período e os meses
+-- antigos podem ser desanexados sem reescrever a tabela. A partição padrão (conta_padrao) recebe
+-- referências que ainda não têm partição própria e deve permanecer vazia: as partições futuras
+-- são criadas com antecedência pela aplicação (ContaParticaoJob).
+--
+-- A chave primária de uma tabela particionada precisa incluir a chave de particionamento,
+-- portanto passa a ser (id, referencia); o ID continua único pela sequência conta_seq.
+
+create table conta_particionada (
+    valor numeric(38,2) not null,
+    cliente_id bigint,
+    id bigint not null,
+    referencia integer not null,
+    situacao varchar(255) not null check (situacao in ('PENDENTE','PAGA','CANCELADA')),
+    primary key (id, referencia)
+) partition by range (referencia);
+
+create table conta_padrao partition of conta_particionada default;
+
+alter table conta rename to conta_antiga;
+alter table conta_particionada rename to conta;
+
+-- Cria a partição do mês informado (AAAAMM), se ainda não existir.
+-- Retorna true se a partição foi criada.
+create or replace function criar_particao_conta(referencia integer) returns boolean
+language plpgsql as $$
+declare
+    nome text := 'conta_p' || referencia;
+    seguinte integer := case when referencia % 100 = 12 then (referencia / 100 + 1) * 100 + 1 else referencia + 1 end;
+begin
+    if referencia % 100 not between 1 and 12 then
+        raise exception 'Referência inválida: %', referencia;
+    end if;
+    if to_regclass(nome) is not null then
+        return false;
+    end if;
+    execute format('create table %I partition of conta for values from (%s) to (%s)', nome, referencia, seguinte);
+    return true;
+end;
+$$;
+
+-- Desanexa a partição do mês informado (AAAAMM), que passa a ser uma tabela comum e pode ser
+-- arquivada ou removida. O DETACH altera apenas o catálogo; o lock_timeout impede que ele
+-- fique aguardando (e bloqueando as consultas enfileiradas atrás dele) caso a tabela esteja em uso.
+-- Retorna false se o mês não tiver partição.
+create or replace function desanexar_particao_conta(referencia integer) returns boolean
+language plpgsql as $$
+declare
+    nome text := 'conta_p' || referencia;
+begin
+    if to_regclass(nome) is null then
+        return false;
+    end if;
+    perform set_config('lock_timeout', '5s', true);
+    execute format('alter table conta detach partition %I', nome);
+    return true;
+end;
+$$;
+
+-- Partições dos meses existentes e dos próximos 12 meses
+select criar_particao_conta(referencia) from (select distinct referencia from conta_antiga) existentes;
+select criar_particao_conta(cast(to_char(date_trunc('month', current_date) + make_interval(months => n), 'YYYYMM') as integer))
+from generate_series(0, 12) n;
+
+insert into conta (valor, cliente_id, id, referencia, situacao)
+select valor, cliente_id, id, referencia, situacao from conta_antiga;
+
+drop table conta_antiga;
+
+alter table conta rename constraint conta_particionada_pkey to conta_pkey;
+alter table conta rename constraint conta_particionada_situacao_check to conta_situacao_check;
+
+alter table conta add constraint fk_conta_cliente foreign key (cliente_id) references cliente;
+
+-- Índices criados na tabela particionada são replicados em cada partição
+create index idx_conta_cliente_situacao_referencia on conta (cliente_id, situacao, referencia) include (valor, id);
+create index idx_conta_cliente_referencia_id on conta (cliente_id, referencia, id) include (situacao, valor);
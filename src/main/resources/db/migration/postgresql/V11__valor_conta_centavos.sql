@@ -0,0 +1,7 @@
+-- O valor da conta passa a ser armazenado como a quantidade inteira de centavos (bigint).
+--
+-- Na aplicação o valor continua sendo decimal (CentavosConverter); as consultas de resumo
+-- somam a coluna como inteiro e os totais são serializados sem passar por BigDecimal.
+-- A alteração é propagada para todas as partições e os índices que incluem o valor
+-- são reconstruídos pelo próprio comando.
+alter table conta alter column valor type bigint using round(valor * 100)::bigint;
@@ -0,0 +1,16 @@
+-- Chaves de idempotência dos endpoints de criação (cabeçalho Idempotency-Key) e as respostas
+-- gravadas para elas. Utilizada somente com app.idempotencia.banco=true; as linhas mais antigas
+-- que o tempo de retenção são removidas periodicamente pela aplicação (IdempotenciaLimpezaJob).
+create table idempotencia (
+    chave varchar(600) not null,
+    impressao varchar(44),
+    status integer not null,
+    content_type varchar(255),
+    etag varchar(255),
+    location varchar(255),
+    corpo bytea,
+    criada_em timestamp(6) with time zone not null,
+    primary key (chave)
+);
+
+create index idx_idempotencia_criada_em on idempotencia (criada_em);
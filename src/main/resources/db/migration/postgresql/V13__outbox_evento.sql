@@ -0,0 +1,16 @@
+-- Outbox dos eventos de conta (criação, atualização e alteração de situação), gravados na mesma
+-- transação da alteração e enviados em lotes pela aplicação (OutboxDispatcherJob), que remove
+-- os eventos enviados. O ID identity permite gravar os eventos de um bloco de contas com um
+-- único INSERT ... SELECT; os lotes são lidos em ordem de ID com FOR UPDATE SKIP LOCKED.
+create table outbox_evento (
+    id bigint generated by default as identity,
+    tipo varchar(255) not null check (tipo in ('CRIADA','ATUALIZADA','SITUACAO_ALTERADA')),
+    id_conta bigint not null,
+    id_cliente bigint not null,
+    referencia integer not null,
+    valor bigint not null,
+    situacao varchar(255) not null check (situacao in ('PENDENTE','PAGA','CANCELADA')),
+    situacao_anterior varchar(255) check (situacao_anterior in ('PENDENTE','PAGA','CANCELADA')),
+    criado_em timestamp(6) with time zone not null,
+    primary key (id)
+);
@@ -0,0 +1,45 @@
+-- Criação de partições de meses que já têm contas na partição padrão.
+--
+-- Uma conta cuja referência ainda não tem partição própria (ex.: um mês além dos criados pelo
+-- ContaParticaoJob) é gravada na partição padrão (conta_padrao). Enquanto essas linhas estão lá,
+-- o PostgreSQL não permite criar a partição do mês ("updated partition constraint for default
+-- partition would be violated"). A função passa a retirar as contas do mês da partição padrão,
+-- criar a partição e reinserir as contas, que são direcionadas à nova partição, tudo na mesma
+-- transação. O lock_timeout impede que a criação fique aguardando (e bloqueando as consultas
+-- enfileiradas atrás dela) caso a tabela esteja em uso.
+
+create or replace function criar_particao_conta(referencia integer) returns boolean
+language plpgsql as $$
+declare
+    nome text := 'conta_p' || referencia;
+    seguinte integer := case when referencia % 100 = 12 then (referencia / 100 + 1) * 100 + 1 else referencia + 1 end;
+    movidas bigint;
+begin
+    if referencia % 100 not between 1 and 12 then
+        raise exception 'Referência inválida: %', referencia;
+    end if;
+    if to_regclass(nome) is not null then
+        return false;
+    end if;
+    perform set_config('lock_timeout', '5s', true);
+
+    create temporary table conta_movida on commit drop as
+    with removidas as (
+        delete from conta_padrao p
+        where p.referencia >= criar_particao_conta.referencia and p.referencia < seguinte
+        returning p.valor, p.cliente_id, p.id, p.referencia, p.situacao
+    )
+    select * from removidas;
+    get diagnostics movidas = row_count;
+
+    execute format('create table %I partition of conta for values from (%s) to (%s)', nome, referencia, seguinte);
+
+    if movidas > 0 then
+        insert into conta (valor, cliente_id, id, referencia, situacao)
+        select m.valor, m.cliente_id, m.id, m.referencia, m.situacao from conta_movida m;
+        raise notice 'Partição % criada com % contas movidas da partição padrão', nome, movidas;
+    end if;
+    drop table conta_movida;
+    return true;
+end;
+$$;
@@ -0,0 +1,4 @@
+-- Evento de remoção das contas removidas junto com o cliente (TipoEventoConta.REMOVIDA).
+alter table outbox_evento drop constraint outbox_evento_tipo_check;
+alter table outbox_evento add constraint outbox_evento_tipo_check
+    check (tipo in ('CRIADA','ATUALIZADA','SITUACAO_ALTERADA','REMOVIDA'));
@@ -0,0 +1,4 @@
+-- Instância da aplicação que reservou cada chave de idempotência. As reservas em andamento há
+-- mais que app.idempotencia.reserva-maxima (ex.: de uma instância encerrada durante a requisição)
+-- são assumidas pela próxima repetição; somente a instância dona da reserva grava a resposta.
+alter table idempotencia add column instancia varchar(100);
@@ -0,0 +1,27 @@
+-- Esquema inicial, equivalente ao gerado anteriormente pelo ddl-auto=update.
+-- Bancos já existentes são marcados nesta versão (spring.flyway.baseline-version=1).
+
+create sequence cliente_seq start with 1 increment by 50;
+create sequence conta_seq start with 1 increment by 50;
+
+create table cliente (
+    id bigint not null,
+    cpf varchar(255) not null unique,
+    email varchar(255),
+    nome varchar(255) not null,
+    telefone varchar(255),
+    primary key (id)
+);
+
+create table conta (
+    valor numeric(38,2) not null,
+    cliente_id bigint,
+    id bigint not null,
+    referencia varchar(255) not null,
+    situacao varchar(255) not null check (situacao in ('PENDENTE','PAGA','CANCELADA')),
+    primary key (id)
+);
+
+create index idx_cliente_nome_id on cliente (nome, id);
+
+alter table if exists conta add constraint fk_conta_cliente foreign key (cliente_id) references cliente;
@@ -0,0 +1,6 @@
+-- O CPF passa a ser armazenado somente com os seus 11 dígitos (bigint) em vez do texto
+-- formatado xxx.xxx.xxx-xx. A restrição de unicidade é mantida e o seu índice é recriado
+-- sobre a coluna numérica. A formatação é feita pela aplicação (CpfConverter).
+
+alter table cliente
+    alter column cpf type bigint using regexp_replace(cpf, '[^0-9]', '', 'g')::bigint;
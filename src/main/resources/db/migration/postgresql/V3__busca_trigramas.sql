@@ -0,0 +1,6 @@
+-- Índices de trigramas para a busca parcial (ILIKE '%termo%') por nome, e-mail e telefone
+create extension if not exists pg_trgm;
+
+create index if not exists idx_cliente_nome_trgm on cliente using gin (nome gin_trgm_ops);
+create index if not exists idx_cliente_email_trgm on cliente using gin (email gin_trgm_ops);
+create index if not exists idx_cliente_telefone_trgm on cliente using gin (telefone gin_trgm_ops);
@@ -0,0 +1,2 @@
+-- Versão do cliente para controle de concorrência otimista (ETag / If-Match)
+alter table cliente add column versao bigint not null default 0;
@@ -0,0 +1,3 @@
+-- Índice do resumo de contas por cliente (agrupado por situação e referência).
+-- O valor é incluído no índice para que a consulta seja respondida sem acessar a tabela (index-only scan).
+create index if not exists idx_conta_cliente_situacao_referencia on conta (cliente_id, situacao, referencia) include (valor);
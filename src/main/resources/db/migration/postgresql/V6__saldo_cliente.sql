@@ -0,0 +1,23 @@
+-- Saldo materializado por cliente, mantido por atualizações incrementais a cada alteração de conta
+create table saldo_cliente (
+    cliente_id bigint not null,
+    quantidade_pendente bigint not null default 0,
+    quantidade_paga bigint not null default 0,
+    quantidade_cancelada bigint not null default 0,
+    valor_pendente numeric(38,2) not null default 0,
+    valor_pago numeric(38,2) not null default 0,
+    primary key (cliente_id),
+    constraint fk_saldo_cliente_cliente foreign key (cliente_id) references cliente
+);
+
+-- Carga inicial a partir das contas existentes
+insert into saldo_cliente (cliente_id, quantidade_pendente, quantidade_paga, quantidade_cancelada, valor_pendente, valor_pago)
+select c.id,
+       count(ct.id) filter (where ct.situacao = 'PENDENTE'),
+       count(ct.id) filter (where ct.situacao = 'PAGA'),
+       count(ct.id) filter (where ct.situacao = 'CANCELADA'),
+       coalesce(sum(ct.valor) filter (where ct.situacao = 'PENDENTE'), 0),
+       coalesce(sum(ct.valor) filter (where ct.situacao = 'PAGA'), 0)
+from cliente c
+left join conta ct on ct.cliente_id = c.id
+group by c.id;
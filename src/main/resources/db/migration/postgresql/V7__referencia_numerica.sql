@@ -0,0 +1,7 @@
+-- A referência passa a ser armazenada como o inteiro AAAAMM em vez do texto MM-AAAA,
+-- o que a torna ordenável cronologicamente e permite consultar faixas de meses pelo índice.
+-- A formatação MM-AAAA é feita pela aplicação (ReferenciaConverter). O índice
+-- idx_conta_cliente_situacao_referencia é recriado automaticamente sobre a coluna numérica.
+
+alter table conta
+    alter column referencia type integer using (substr(referencia, 4, 4) || substr(referencia, 1, 2))::integer;
@@ -0,0 +1,6 @@
+-- A listagem das contas de um cliente passa a ser projetada diretamente em DTO
+-- (id, referência, valor e situação). O ID é incluído no índice por cliente, situação
+-- e referência para que a listagem, assim como o resumo, seja respondida sem acessar
+-- a tabela (index-only scan).
+drop index if exists idx_conta_cliente_situacao_referencia;
+create index idx_conta_cliente_situacao_referencia on conta (cliente_id, situacao, referencia) include (valor, id);
@@ -0,0 +1,5 @@
+-- Índice da listagem paginada das contas de um cliente, ordenada por referência e ID.
+-- As contas do cliente são percorridas já na ordem da paginação (keyset) e a consulta
+-- para ao completar a página; a situação e o valor são incluídos no índice para que
+-- os filtros sejam avaliados sem acessar a tabela.
+create index if not exists idx_conta_cliente_referencia_id on conta (cliente_id, referencia, id) include (situacao, valor);
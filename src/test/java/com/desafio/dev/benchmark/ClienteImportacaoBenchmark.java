@@ -0,0 +1,85 @@
+package com.desafio.dev.benchmark;
+
+import com.desafio.dev.DevApplication;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compara a importação de clientes em lote ({@link ClienteServiceImpl#saveAll}) com a criação
+ * de um cliente por vez ({@link ClienteServiceImpl#save}), como era feito antes do endpoint em lote,
+ * medindo a vazão em clientes por segundo.
+ *
+ * Por padrão utiliza um banco H2 em memória; para medir no PostgreSQL (onde o
+ * reWriteBatchedInserts agrupa as inserções em INSERTs de várias linhas), informe o banco:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.desafio.dev.benchmark.ClienteImportacaoBenchmark
+ * java -Dspring.datasource.url='jdbc:postgresql://localhost:5432/desafio?reWriteBatchedInserts=true' \
+ *      -Dspring.datasource.username=postgres -Dspring.datasource.password=banco123 -Dspring.flyway.enabled=true \
+ *      -Dspring.jpa.hibernate.ddl-auto=validate -cp ... com.desafio.dev.benchmark.ClienteImportacaoBenchmark
+ * </pre>
+ * Não é executado pelos testes. Cada rodada utiliza CPFs novos, então o banco cresce a cada execução.
+ */
+public class ClienteImportacaoBenchmark {
+
+    private static final int CLIENTES = 10_000;
+
+    private static final int RODADAS = 3;
+
+    private final ClienteServiceImpl clienteService;
+
+    private int sequencia;
+
+    private ClienteImportacaoBenchmark(ClienteServiceImpl clienteService) {
+        this.clienteService = clienteService;
+    }
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(DevApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "app.saldo.reconciliacao.cron=-",
+                        "app.conta.particoes.cron=-",
+                        "logging.level.root=WARN")
+                .run(args)) {
+            new ClienteImportacaoBenchmark(contexto.getBean(ClienteServiceImpl.class)).executar();
+        }
+    }
+
+    private void executar() {
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            medir("um por vez", () -> lote().forEach(clienteService::save));
+            medir("em lote   ", () -> clienteService.saveAll(lote().iterator(), resultado -> { }));
+        }
+    }
+
+    private List<ClienteRequestDTO> lote() {
+        List<ClienteRequestDTO> clientes = new ArrayList<>(CLIENTES);
+        for (int i = 0; i < CLIENTES; i++) {
+            int n = sequencia++;
+            String cpf = String.format(Locale.ROOT, "%03d.%03d.%03d-%02d",
+                    n / 100_000_000 % 1000, n / 100_000 % 1000, n / 100 % 1000, n % 100);
+            clientes.add(new ClienteRequestDTO("Cliente " + n, cpf, null, null));
+        }
+        return clientes;
+    }
+
+    private void medir(String nome, Runnable operacao) {
+        long inicio = System.nanoTime();
+        operacao.run();
+        long nanos = System.nanoTime() - inicio;
+        System.out.printf(Locale.ROOT, "%s: %,10.0f clientes/s%n", nome, CLIENTES * 1e9 / nanos);
+    }
+}
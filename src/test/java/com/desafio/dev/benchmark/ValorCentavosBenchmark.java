@@ -0,0 +1,132 @@
+package com.desafio.dev.benchmark;
+
+import com.desafio.dev.dtos.conta.ContaTotalDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compara a soma e a serialização dos totais de contas em centavos (long) com o caminho
+ * anterior em BigDecimal, medindo a vazão e os bytes alocados por operação.
+ *
+ * Cada operação lê {@value #GRUPOS} valores (como as linhas da consulta agrupada do resumo),
+ * soma todos e escreve a lista com cada total e o total geral em JSON. No caminho BigDecimal cada valor lido
+ * é um BigDecimal, como o driver JDBC retorna para uma coluna numeric.
+ *
+ * Não é executado pelos testes; para rodar:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.desafio.dev.benchmark.ValorCentavosBenchmark
+ * </pre>
+ */
+public class ValorCentavosBenchmark {
+
+    private static final int GRUPOS = 1_000;
+
+    private static final int AQUECIMENTO = 2_000;
+
+    private static final int MEDICAO = 5_000;
+
+    /**
+     * Total com o valor em BigDecimal, como era serializado antes dos centavos.
+     */
+    record ContaTotalDecimalDTO(long quantidade, BigDecimal valor) {}
+
+    /**
+     * Descarta os bytes escritos.
+     */
+    private static final OutputStream DESCARTE = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final long[] centavos = new long[GRUPOS];
+
+    private final long[] quantidades = new long[GRUPOS];
+
+    private long resultado;
+
+    public static void main(String[] args) throws IOException {
+        new ValorCentavosBenchmark().executar();
+    }
+
+    private void executar() throws IOException {
+        Random random = new Random(42);
+        for (int i = 0; i < GRUPOS; i++) {
+            centavos[i] = 1 + random.nextInt(10_000_000);
+            quantidades[i] = 1 + random.nextInt(50);
+        }
+        for (int rodada = 0; rodada < 5; rodada++) {
+            medir("BigDecimal", this::somarDecimal);
+            medir("centavos  ", this::somarCentavos);
+        }
+        System.out.println("(resultado " + resultado + ")");
+    }
+
+    private void somarDecimal(JsonGenerator gen) throws IOException {
+        List<ContaTotalDecimalDTO> totais = new ArrayList<>(GRUPOS + 1);
+        BigDecimal total = BigDecimal.ZERO;
+        long quantidade = 0;
+        for (int i = 0; i < GRUPOS; i++) {
+            BigDecimal valor = BigDecimal.valueOf(centavos[i], 2);
+            total = total.add(valor);
+            quantidade += quantidades[i];
+            totais.add(new ContaTotalDecimalDTO(quantidades[i], valor));
+        }
+        totais.add(new ContaTotalDecimalDTO(quantidade, total));
+        objectMapper.writeValue(gen, totais);
+        resultado += total.unscaledValue().longValue();
+    }
+
+    private void somarCentavos(JsonGenerator gen) throws IOException {
+        List<ContaTotalDTO> totais = new ArrayList<>(GRUPOS + 1);
+        long total = 0;
+        long quantidade = 0;
+        for (int i = 0; i < GRUPOS; i++) {
+            total = Math.addExact(total, centavos[i]);
+            quantidade += quantidades[i];
+            totais.add(new ContaTotalDTO(quantidades[i], centavos[i]));
+        }
+        totais.add(new ContaTotalDTO(quantidade, total));
+        objectMapper.writeValue(gen, totais);
+        resultado += total;
+    }
+
+    private void medir(String nome, Operacao operacao) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(DESCARTE)) {
+            for (int i = 0; i < AQUECIMENTO; i++) {
+                operacao.executar(gen);
+            }
+            long bytesInicio = threads.getCurrentThreadAllocatedBytes();
+            long inicio = System.nanoTime();
+            for (int i = 0; i < MEDICAO; i++) {
+                operacao.executar(gen);
+            }
+            long nanos = System.nanoTime() - inicio;
+            long bytes = threads.getCurrentThreadAllocatedBytes() - bytesInicio;
+            System.out.printf(Locale.ROOT, "%s: %,10.0f ops/s  %,10d bytes/op%n", nome,
+                    MEDICAO * 1e9 / nanos, bytes / MEDICAO);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operacao {
+        void executar(JsonGenerator gen) throws IOException;
+    }
+}
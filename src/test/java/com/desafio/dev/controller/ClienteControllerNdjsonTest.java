@@ -0,0 +1,92 @@
+package com.desafio.dev.controller;
+
+import com.desafio.dev.repository.ClienteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ClienteControllerNdjsonTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Test
+    public void deveInformarALinhaInvalidaAposOsItensJaGravados() throws Exception {
+        String corpo = """
+                {"nome":"Cliente Um","cpf":"404.404.404-01"}
+                {"nome":"Cliente Dois","cpf":"404.404.404-02"}
+                {"nome":"Cliente Três","cpf":}
+                {"nome":"Cliente Quatro","cpf":"404.404.404-04"}
+                """;
+
+        mockMvc.perform(post("/clientes/batch").contentType(MediaType.APPLICATION_NDJSON).content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].status").value("CRIADO"))
+                .andExpect(jsonPath("$[1].status").value("CRIADO"))
+                .andExpect(jsonPath("$[2].indice").value(2))
+                .andExpect(jsonPath("$[2].status").value("INVALIDO"))
+                .andExpect(jsonPath("$[2].mensagem").value(containsString("linha 3")));
+
+        assertThat(clienteRepository.existsByCpf("404.404.404-01")).isTrue();
+        assertThat(clienteRepository.existsByCpf("404.404.404-02")).isTrue();
+        assertThat(clienteRepository.existsByCpf("404.404.404-04")).isFalse();
+    }
+
+    @Test
+    public void deveInformarALinhaComTipoInvalido() throws Exception {
+        String corpo = """
+                {"nome":"Cliente Cinco","cpf":"404.404.404-05"}
+                {"nome":["Cliente Seis"],"cpf":"404.404.404-06"}
+                """;
+
+        mockMvc.perform(post("/clientes/batch").contentType(MediaType.APPLICATION_NDJSON).content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].status").value("INVALIDO"))
+                .andExpect(jsonPath("$[1].mensagem").value(containsString("linha 2")));
+    }
+
+    @Test
+    public void deveRecusarOLoteQuandoAPrimeiraLinhaForInvalida() throws Exception {
+        String corpo = """
+                {"nome":"Cliente Sete",
+                {"nome":"Cliente Oito","cpf":"404.404.404-08"}
+                """;
+
+        mockMvc.perform(post("/clientes/batch").contentType(MediaType.APPLICATION_NDJSON).content(corpo))
+                .andExpect(status().isBadRequest());
+
+        assertThat(clienteRepository.existsByCpf("404.404.404-08")).isFalse();
+    }
+
+    @Test
+    public void deveImportarUmArrayJson() throws Exception {
+        String corpo = """
+                [{"nome":"Cliente Nove","cpf":"404.404.404-09"},
+                 {"nome":"Cliente Dez","cpf":"404.404.404-09"},
+                 {"nome":"","cpf":"404.404.404-10"}]
+                """;
+
+        mockMvc.perform(post("/clientes/batch").contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[*].status").value(contains("CRIADO", "DUPLICADO", "INVALIDO")));
+    }
+}
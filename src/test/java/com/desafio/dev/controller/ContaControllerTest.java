@@ -0,0 +1,76 @@
+package com.desafio.dev.controller;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.dtos.conta.ContaRequestDTO;
+import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import com.desafio.dev.service.implentacion.ContaServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ContaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private ContaServiceImpl contaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void deveRecusarAAtualizacaoDeContaCanceladaParaPaga() throws Exception {
+        ContaResponseDTO conta = contaCancelada("505.505.505-01");
+
+        mockMvc.perform(put("/contas/{id}", conta.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"referencia\": \"01-2025\", \"valor\": 10.50, \"situacao\": \"PAGA\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void deveAtualizarContaCanceladaSemAlterarASituacao() throws Exception {
+        ContaResponseDTO conta = contaCancelada("505.505.505-02");
+
+        mockMvc.perform(put("/contas/{id}", conta.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"referencia\": \"02-2025\", \"valor\": 20.00, \"situacao\": \"CANCELADA\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.referencia").value("02-2025"))
+                .andExpect(jsonPath("$.situacao").value("CANCELADA"));
+    }
+
+    /**
+     * @param cpf CPF do cliente da conta
+     * @return conta de 01-2025 já cancelada
+     */
+    private ContaResponseDTO contaCancelada(String cpf) {
+        ClienteResponseDTO cliente = clienteService.save(new ClienteRequestDTO("Cliente Conta", cpf, null, null));
+        ContaResponseDTO conta = contaService.save(cliente.id(),
+                new ContaRequestDTO("01-2025", new BigDecimal("10.50"), Situacao.PENDENTE));
+        ContaResponseDTO cancelada = contaService.updateSituacao(conta.id(), Situacao.CANCELADA);
+        // a situação é alterada por um UPDATE direto: descarta a conta já carregada na transação do teste
+        entityManager.clear();
+        return cancelada;
+    }
+}
@@ -0,0 +1,115 @@
+package com.desafio.dev.controller;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.dtos.conta.ContaRequestDTO;
+import com.desafio.dev.repository.ClienteRepository;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import com.desafio.dev.service.implentacion.ContaServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifica o relatório CSV de contas pendentes. O teste não é transacional, pois o corpo da
+ * resposta é escrito em outra thread, e utiliza um banco próprio.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:exportcontroller;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+public class ExportControllerTest {
+
+    /**
+     * Relatório esperado: o nome com vírgula e aspas é escrito entre aspas, com as aspas duplicadas
+     * (RFC 4180), e a conta paga não aparece.
+     */
+    private static final String RELATORIO = "nome,cpf,referencia,valor\n"
+            + "\"Silva, José \"\"Zé\"\"\",707.707.707-07,01-2025,10.50\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ContaServiceImpl contaService;
+
+    @BeforeEach
+    public void setUp() {
+        if (clienteRepository.existsByCpf("707.707.707-07")) {
+            return;
+        }
+        ClienteResponseDTO cliente = clienteService.save(
+                new ClienteRequestDTO("Silva, José \"Zé\"", "707.707.707-07", null, null));
+        contaService.save(cliente.id(), new ContaRequestDTO("01-2025", new BigDecimal("10.50"), Situacao.PENDENTE));
+        contaService.save(cliente.id(), new ContaRequestDTO("02-2025", new BigDecimal("20.00"), Situacao.PAGA));
+    }
+
+    @Test
+    public void deveEscaparOsCamposDoCsv() throws Exception {
+        MvcResult inicio = mockMvc.perform(get("/export/contas/pendentes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult resultado = mockMvc.perform(asyncDispatch(inicio))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        assertThat(resultado.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo(RELATORIO);
+    }
+
+    @Test
+    public void deveComprimirORelatorioQuandoOClienteAceitarGzip() throws Exception {
+        MvcResult inicio = mockMvc.perform(get("/export/contas/pendentes")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult resultado = mockMvc.perform(asyncDispatch(inicio))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(resultado.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(RELATORIO);
+        }
+    }
+
+    @Test
+    public void naoDeveComprimirQuandoOGzipForRecusado() throws Exception {
+        MvcResult inicio = mockMvc.perform(get("/export/contas/pendentes")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *;q=0.5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult resultado = mockMvc.perform(asyncDispatch(inicio))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        assertThat(resultado.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo(RELATORIO);
+    }
+}
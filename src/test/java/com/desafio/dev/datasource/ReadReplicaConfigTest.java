@@ -0,0 +1,56 @@
+package com.desafio.dev.datasource;
+
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a configuração das réplicas de leitura. A "réplica" é o mesmo banco H2 do primário,
+ * acessado por um pool próprio (como uma réplica sem atraso), e o banco que atendeu cada
+ * operação é identificado pelas métricas do pool. O roteamento entre bancos distintos é
+ * verificado em {@link ReadWriteRoutingDataSourceTest}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replicas;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas.habilitado=true",
+        "app.datasource.replicas.urls=jdbc:h2:mem:replicas;DB_CLOSE_DELAY=-1"})
+public class ReadReplicaConfigTest {
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private ReadWriteRoutingDataSource roteamentoDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void deveListarClientesNaReplicaEGravarNoPrimario() {
+        clienteService.save(new ClienteRequestDTO("Cliente Replica", "707.707.707-07", null, null));
+        long leiturasAntes = aquisicoes("replica-1");
+
+        assertThat(clienteService.findAll(null, 10, null).clientes())
+                .extracting("nome").contains("Cliente Replica");
+
+        assertThat(aquisicoes("replica-1")).isEqualTo(leiturasAntes + 1);
+        assertThat(aquisicoes("primario")).isPositive();
+        assertThat(roteamentoDataSource.verificarReplicas()).isEqualTo(1);
+        assertThat(roteamentoDataSource.getLeiturasNoPrimario()).isZero();
+    }
+
+    /**
+     * @param pool nome do pool
+     * @return quantidade de conexões obtidas do pool
+     */
+    private long aquisicoes(String pool) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
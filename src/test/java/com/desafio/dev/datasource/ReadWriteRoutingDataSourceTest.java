@@ -0,0 +1,131 @@
+package com.desafio.dev.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica o roteamento entre dois bancos H2 em memória, um primário e uma réplica,
+ * cada um com uma tabela que identifica o banco que respondeu.
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primario;
+
+    private ReplicaControlada replica;
+
+    @BeforeEach
+    public void setUp() {
+        primario = banco("primario");
+        replica = new ReplicaControlada(banco("replica"));
+    }
+
+    @Test
+    public void deveEnviarAsTransacoesSomenteLeituraParaAReplica() {
+        ReadWriteRoutingDataSource roteamento = roteamento(true);
+
+        assertThat(consultarOrigem(roteamento, true)).isEqualTo("replica");
+        assertThat(consultarOrigem(roteamento, false)).isEqualTo("primario");
+        assertThat(new JdbcTemplate(new LazyConnectionDataSourceProxy(roteamento))
+                .queryForObject("select nome from origem", String.class)).isEqualTo("primario");
+    }
+
+    @Test
+    public void deveEnviarAsLeiturasParaOPrimarioComAReplicaIndisponivel() {
+        ReadWriteRoutingDataSource roteamento = roteamento(true);
+        replica.fora = true;
+
+        assertThat(roteamento.verificarReplicas()).isZero();
+        assertThat(consultarOrigem(roteamento, true)).isEqualTo("primario");
+        assertThat(roteamento.getLeiturasNoPrimario()).isEqualTo(1);
+
+        replica.fora = false;
+        assertThat(roteamento.verificarReplicas()).isEqualTo(1);
+        assertThat(consultarOrigem(roteamento, true)).isEqualTo("replica");
+    }
+
+    @Test
+    public void deveMarcarAReplicaComoIndisponivelAoFalharAConexao() {
+        ReadWriteRoutingDataSource roteamento = roteamento(true);
+        replica.fora = true;
+
+        assertThat(consultarOrigem(roteamento, true)).isEqualTo("primario");
+        assertThat(roteamento.getReplicasDisponiveis()).isZero();
+    }
+
+    @Test
+    public void deveRecusarLeiturasSemReplicaQuandoOFallbackEstiverDesabilitado() {
+        ReadWriteRoutingDataSource roteamento = roteamento(false);
+        replica.fora = true;
+        roteamento.verificarReplicas();
+
+        assertThatThrownBy(() -> consultarOrigem(roteamento, true))
+                .hasRootCauseInstanceOf(SQLException.class)
+                .hasStackTraceContaining("Nenhuma réplica de leitura disponível");
+        assertThat(consultarOrigem(roteamento, false)).isEqualTo("primario");
+    }
+
+    private ReadWriteRoutingDataSource roteamento(boolean fallbackPrimario) {
+        return new ReadWriteRoutingDataSource(primario,
+                List.of(new ReadWriteRoutingDataSource.Replica("replica-1", replica)), fallbackPrimario, 1);
+    }
+
+    /**
+     * @param roteamento DataSource de roteamento
+     * @param somenteLeitura indica se a transação é somente leitura
+     * @return nome do banco que atendeu a consulta
+     */
+    private static String consultarOrigem(ReadWriteRoutingDataSource roteamento, boolean somenteLeitura) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(roteamento);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(somenteLeitura);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select nome from origem", String.class));
+    }
+
+    /**
+     * @param nome nome do banco
+     * @return banco H2 em memória com a tabela origem contendo o nome do banco
+     */
+    private static DataSource banco(String nome) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:roteamento-" + nome + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists origem (nome varchar(20))");
+        jdbcTemplate.update("delete from origem");
+        jdbcTemplate.update("insert into origem (nome) values (?)", nome);
+        return dataSource;
+    }
+
+    /**
+     * Réplica que pode ser tirada do ar pelo teste.
+     */
+    private static class ReplicaControlada extends DelegatingDataSource {
+
+        private volatile boolean fora;
+
+        ReplicaControlada(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (fora) {
+                throw new SQLException("Conexão recusada");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.desafio.dev.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifica as escritas com uma réplica atrasada: a "réplica" é um banco H2 separado, com o mesmo
+ * esquema do primário e sem nenhum dado, como uma réplica que ainda não recebeu as alterações.
+ * As verificações que precedem as escritas (existência do cliente e versão esperada) devem ser
+ * feitas no primário. O cache de clientes é desativado para que essas leituras cheguem ao banco.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primario-atrasado;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas.habilitado=true",
+        "app.datasource.replicas.urls=" + ReplicaAtrasadaTest.URL_REPLICA})
+@AutoConfigureMockMvc
+@ActiveProfiles("sem-cache")
+public class ReplicaAtrasadaTest {
+
+    /**
+     * URL do banco da réplica.
+     */
+    static final String URL_REPLICA = "jdbc:h2:mem:replica-atrasada;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Copia o esquema criado pelo Hibernate no primário (sem os dados) para o banco da réplica,
+     * antes das leituras feitas ao iniciar a aplicação.
+     */
+    @TestConfiguration
+    static class EsquemaReplica {
+
+        @Bean
+        public InitializingBean esquemaReplica(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+            return () -> {
+                JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", ""));
+                new JdbcTemplate(dataSource).queryForList("script nodata", String.class).stream()
+                        .filter(comando -> !comando.startsWith("--") && !comando.startsWith("CREATE USER"))
+                        .forEach(replica::execute);
+            };
+        }
+    }
+
+    @Test
+    public void deveIncluirContaEAtualizarClienteRecemCriados() throws Exception {
+        String id = mockMvc.perform(post("/clientes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Cliente Atrasado\", \"cpf\": \"808.808.808-08\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString().replaceAll(".*\"id\":(\\d+).*", "$1");
+
+        mockMvc.perform(post("/clientes/{id}/contas", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"referencia\": \"01-2025\", \"valor\": 10.50, \"situacao\": \"PENDENTE\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(put("/clientes/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Cliente Atualizado\", \"cpf\": \"808.808.808-08\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        // As listagens continuam na réplica, que ainda não contém nenhum cliente.
+        mockMvc.perform(get("/clientes"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,35 @@
+package com.desafio.dev.dtos.serializer;
+
+import com.desafio.dev.dtos.conta.ContaTotalDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CentavosSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void deveSerializarCentavosComoDecimal() throws Exception {
+        assertThat(objectMapper.writeValueAsString(new ContaTotalDTO(2, 2550)))
+                .isEqualTo("{\"quantidade\":2,\"valor\":25.50}");
+        assertThat(objectMapper.writeValueAsString(new ContaTotalDTO(1, 5)))
+                .isEqualTo("{\"quantidade\":1,\"valor\":0.05}");
+    }
+
+    @Test
+    public void deveFormatarComoOBigDecimalComDuasCasas() {
+        for (long centavos : new long[]{0, 1, 99, 100, -1, -150, 123456789, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertThat(formatar(centavos)).isEqualTo(BigDecimal.valueOf(centavos, 2).toPlainString());
+        }
+    }
+
+    private static String formatar(long centavos) {
+        char[] buffer = new char[CentavosSerializer.TAMANHO_MAXIMO];
+        int inicio = CentavosSerializer.formatar(centavos, buffer);
+        return new String(buffer, inicio, buffer.length - inicio);
+    }
+}
@@ -0,0 +1,66 @@
+package com.desafio.dev.idempotency;
+
+import com.desafio.dev.controller.ContaController;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica a cópia do corpo da resposta pelo {@link IdempotencyFilter}: o corpo é enviado ao
+ * cliente por inteiro, mas gravado somente até o limite do {@link IdempotencyStore}.
+ */
+public class IdempotencyFilterCorpoTest {
+
+    @Test
+    public void deveGravarSemOCorpoARespostaAcimaDoLimite() throws Exception {
+        assertThat(executar(new byte[2048])).isNull();
+    }
+
+    @Test
+    public void deveGravarOCorpoDentroDoLimite() throws Exception {
+        assertThat(executar(new byte[512])).hasSize(512);
+    }
+
+    /**
+     * Executa uma requisição idempotente cujo controlador escreve o corpo informado, com o
+     * limite de gravação de 1KB.
+     *
+     * @param corpo corpo escrito pelo controlador
+     * @return corpo gravado para a chave
+     */
+    private byte[] executar(byte[] corpo) throws Exception {
+        IdempotencyStore store = mock(IdempotencyStore.class);
+        when(store.getCorpoMaximoGravado()).thenReturn(1024L);
+        RequestMappingHandlerMapping handlerMapping = mock(RequestMappingHandlerMapping.class);
+        when(handlerMapping.getHandler(any())).thenReturn(new HandlerExecutionChain(new HandlerMethod(
+                mock(ContaController.class), ContaController.class.getMethod("saveAll", List.class))));
+        IdempotencyFilter filter = new IdempotencyFilter();
+        ReflectionTestUtils.setField(filter, "idempotencyStore", store);
+        ReflectionTestUtils.setField(filter, "handlerMapping", handlerMapping);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/contas/batch");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, "lote-1");
+        request.setContent("[]".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            res.getOutputStream().write(corpo, 0, corpo.length / 2);
+            res.getOutputStream().write(corpo, corpo.length / 2, corpo.length - corpo.length / 2);
+        });
+
+        assertThat(response.getContentAsByteArray()).hasSize(corpo.length);
+        ArgumentCaptor<RespostaIdempotente> gravada = ArgumentCaptor.forClass(RespostaIdempotente.class);
+        verify(store).concluir(eq("POST /contas/batch lote-1"), gravada.capture());
+        return gravada.getValue().corpo();
+    }
+}
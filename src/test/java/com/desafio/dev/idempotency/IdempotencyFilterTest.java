@@ -0,0 +1,93 @@
+package com.desafio.dev.idempotency;
+
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class IdempotencyFilterTest {
+
+    private static final String CONTA = "{\"referencia\":\"01-2025\",\"valor\":10.00,\"situacao\":\"PENDENTE\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    private ClienteResponseDTO cliente;
+
+    @BeforeEach
+    public void setUp() {
+        cliente = clienteService.save(new ClienteRequestDTO("Cliente Idempotente", "303.303.303-03", null, null));
+    }
+
+    @Test
+    public void deveRepetirARespostaSemCriarOutraConta() throws Exception {
+        MvcResult original = mockMvc.perform(post("/clientes/{id}/contas", cliente.id())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, "conta-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(CONTA))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.IDEMPOTENT_REPLAYED))
+                .andReturn();
+
+        mockMvc.perform(post("/clientes/{id}/contas", cliente.id())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, "conta-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(CONTA))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAYED, "true"))
+                .andExpect(content().json(original.getResponse().getContentAsString(), JsonCompareMode.STRICT));
+
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadePendente()).isEqualTo(1);
+    }
+
+    @Test
+    public void deveRecusarAMesmaChaveComOutroCorpo() throws Exception {
+        mockMvc.perform(post("/clientes/{id}/contas", cliente.id())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, "conta-2")
+                        .contentType(MediaType.APPLICATION_JSON).content(CONTA))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/clientes/{id}/contas", cliente.id())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, "conta-2")
+                        .contentType(MediaType.APPLICATION_JSON).content(CONTA.replace("01-2025", "02-2025")))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadePendente()).isEqualTo(1);
+    }
+
+    @Test
+    public void deveRepetirARespostaDeErroDeValidacao() throws Exception {
+        String invalida = CONTA.replace("10.00", "0");
+        mockMvc.perform(post("/clientes/{id}/contas", cliente.id())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, "conta-3")
+                        .contentType(MediaType.APPLICATION_JSON).content(invalida))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/clientes/{id}/contas", cliente.id())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY, "conta-3")
+                        .contentType(MediaType.APPLICATION_JSON).content(invalida))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAYED, "true"));
+    }
+}
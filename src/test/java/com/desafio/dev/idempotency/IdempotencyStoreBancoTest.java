@@ -0,0 +1,100 @@
+package com.desafio.dev.idempotency;
+
+import com.desafio.dev.model.Idempotencia;
+import com.desafio.dev.repository.IdempotenciaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.idempotencia.banco=true", "app.idempotencia.corpo-maximo=1KB"})
+@Transactional
+public class IdempotencyStoreBancoTest {
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotenciaRepository idempotenciaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void deveReservarAChaveNoBancoEGravarAResposta() {
+        assertThat(idempotencyStore.reservar("POST /clientes a")).isNull();
+        assertThat(idempotenciaRepository.findById("POST /clientes a")).get()
+                .extracting(Idempotencia::getStatus).isEqualTo(0);
+
+        idempotencyStore.concluir("POST /clientes a", new RespostaIdempotente("impressao", 201,
+                "application/json", null, null, "{}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(idempotenciaRepository.findById("POST /clientes a")).get()
+                .extracting(Idempotencia::getStatus).isEqualTo(201);
+    }
+
+    @Test
+    public void deveRepetirARespostaGravadaPorOutraInstancia() {
+        idempotenciaRepository.saveAndFlush(new Idempotencia("POST /clientes b", "impressao", 201,
+                "application/json", "\"0\"", null, "{}".getBytes(StandardCharsets.UTF_8), Instant.now(), "outra"));
+
+        RespostaIdempotente gravada = idempotencyStore.reservar("POST /clientes b");
+
+        assertThat(gravada.concluida()).isTrue();
+        assertThat(gravada.etag()).isEqualTo("\"0\"");
+    }
+
+    @Test
+    public void deveManterSomenteNoBancoOCorpoAcimaDoLimite() {
+        byte[] corpo = new byte[2048];
+        idempotencyStore.reservar("POST /clientes/batch e");
+        idempotencyStore.concluir("POST /clientes/batch e", new RespostaIdempotente("impressao", 200,
+                "application/json", null, null, corpo));
+
+        // a repetição lê a resposta completa da tabela, pois o corpo não fica em memória
+        assertThat(idempotencyStore.reservar("POST /clientes/batch e").corpo()).hasSize(2048);
+        idempotenciaRepository.deleteById("POST /clientes/batch e");
+        assertThat(idempotencyStore.reservar("POST /clientes/batch e")).isNull();
+    }
+
+    @Test
+    public void deveRemoverAsChavesExpiradas() {
+        idempotenciaRepository.saveAndFlush(new Idempotencia("POST /clientes c", null, 0,
+                null, null, null, null, Instant.now().minus(2, ChronoUnit.DAYS), "outra"));
+        idempotencyStore.reservar("POST /clientes d");
+
+        assertThat(idempotencyStore.removerExpiradas()).isEqualTo(1);
+        assertThat(idempotenciaRepository.existsById("POST /clientes d")).isTrue();
+    }
+
+    @Test
+    public void deveAssumirSomenteAReservaAbandonadaPorOutraInstancia() {
+        idempotenciaRepository.saveAndFlush(new Idempotencia("POST /clientes f", null, 0,
+                null, null, null, null, Instant.now().minus(1, ChronoUnit.HOURS), "encerrada"));
+        idempotenciaRepository.saveAndFlush(new Idempotencia("POST /clientes g", null, 0,
+                null, null, null, null, Instant.now(), "ativa"));
+        entityManager.clear();
+
+        assertThat(idempotencyStore.reservar("POST /clientes f")).isNull();
+        assertThat(idempotencyStore.reservar("POST /clientes g")).isSameAs(RespostaIdempotente.EM_ANDAMENTO);
+
+        // somente a instância que assumiu a reserva grava a resposta
+        idempotencyStore.concluir("POST /clientes f", new RespostaIdempotente("impressao", 201,
+                "application/json", null, null, "{}".getBytes(StandardCharsets.UTF_8)));
+        idempotencyStore.concluir("POST /clientes g", new RespostaIdempotente("impressao", 201,
+                "application/json", null, null, "{}".getBytes(StandardCharsets.UTF_8)));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(idempotenciaRepository.findById("POST /clientes f")).get()
+                .extracting(Idempotencia::getStatus).isEqualTo(201);
+        assertThat(idempotenciaRepository.findById("POST /clientes g")).get()
+                .extracting(Idempotencia::getStatus).isEqualTo(0);
+    }
+}
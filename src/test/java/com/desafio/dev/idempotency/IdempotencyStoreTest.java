@@ -0,0 +1,40 @@
+package com.desafio.dev.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class IdempotencyStoreTest {
+
+    @Test
+    public void reservaEmAndamentoNaoDeveSerRemovidaPeloLimiteDeMemoria() {
+        // Given: memória para poucas respostas gravadas
+        IdempotencyStore store = new IdempotencyStore();
+        ReflectionTestUtils.setField(store, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(store, "memoriaMaxima", DataSize.ofKilobytes(2));
+        ReflectionTestUtils.setField(store, "corpoMaximo", DataSize.ofKilobytes(1));
+        ReflectionTestUtils.setField(store, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "transactionManager", mock(PlatformTransactionManager.class));
+        store.criarCache();
+        assertThat(store.reservar("POST /clientes em-andamento")).isNull();
+
+        // When: muitas outras requisições concluídas
+        for (int i = 0; i < 1000; i++) {
+            assertThat(store.reservar("POST /clientes " + i)).isNull();
+            store.concluir("POST /clientes " + i, new RespostaIdempotente("impressao", 201,
+                    "application/json", null, null, new byte[512]));
+        }
+
+        // Then
+        assertThat(store.reservar("POST /clientes em-andamento")).isSameAs(RespostaIdempotente.EM_ANDAMENTO);
+        store.liberar("POST /clientes em-andamento");
+        assertThat(store.reservar("POST /clientes em-andamento")).isNull();
+    }
+}
@@ -0,0 +1,65 @@
+package com.desafio.dev.index;
+
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.repository.ClienteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ClienteSearchIndexTest {
+
+    @Test
+    public void alteracoesFeitasDuranteARecargaDevemSerAplicadas() throws Exception {
+        // Given
+        ClienteResponseDTO lido = new ClienteResponseDTO(1L, "Maria Lida", "111.111.111-11", null, null, 0L);
+        ClienteResponseDTO removido = new ClienteResponseDTO(2L, "Maria Removida", "222.222.222-22", null, null, 0L);
+        ClienteResponseDTO criado = new ClienteResponseDTO(3L, "Maria Criada", "333.333.333-33", null, null, 0L);
+        CountDownLatch lendo = new CountDownLatch(1);
+        CountDownLatch alterado = new CountDownLatch(1);
+
+        ClienteRepository clienteRepository = mock(ClienteRepository.class);
+        when(clienteRepository.streamAll()).thenAnswer(invocation -> Stream.of(lido, removido).peek(cliente -> {
+            lendo.countDown();
+            await(alterado);
+        }));
+        ClienteSearchIndex index = new ClienteSearchIndex();
+        ReflectionTestUtils.setField(index, "clienteRepository", clienteRepository);
+        ReflectionTestUtils.setField(index, "transactionManager", mock(PlatformTransactionManager.class));
+
+        // When
+        CompletableFuture<Void> recarga = CompletableFuture.runAsync(index::rebuild);
+        await(lendo);
+        CompletableFuture<Void> alteracoes = CompletableFuture.runAsync(() -> {
+            index.add(criado);
+            index.remove(removido.id());
+        });
+        // libera a leitura somente depois que as alterações terminaram ou aguardam a recarga
+        ReentrantReadWriteLock lock = (ReentrantReadWriteLock) ReflectionTestUtils.getField(index, "lock");
+        while (!alteracoes.isDone() && !lock.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+        alterado.countDown();
+        recarga.get(10, TimeUnit.SECONDS);
+        alteracoes.get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(index.search("maria", 0L, 10)).containsExactly(lido, criado);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
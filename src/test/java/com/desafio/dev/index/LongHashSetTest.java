@@ -0,0 +1,33 @@
+package com.desafio.dev.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class LongHashSetTest {
+
+    @Test
+    public void conjuntoDeveSeComportarComoHashSet() {
+        // Given
+        LongHashSet conjunto = new LongHashSet(0);
+        Set<Long> esperado = new HashSet<>();
+        Random random = new Random(42);
+
+        // When & Then
+        for (int i = 0; i < 200_000; i++) {
+            long valor = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(conjunto.remove(valor)).isEqualTo(esperado.remove(valor));
+            } else {
+                assertThat(conjunto.add(valor)).isEqualTo(esperado.add(valor));
+            }
+            long consultado = random.nextInt(5_000);
+            assertThat(conjunto.contains(consultado)).isEqualTo(esperado.contains(consultado));
+        }
+        assertThat(conjunto.size()).isEqualTo(esperado.size());
+    }
+}
@@ -0,0 +1,34 @@
+package com.desafio.dev.model.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CentavosConverterTest {
+
+    private final CentavosConverter converter = new CentavosConverter();
+
+    @Test
+    public void deveConverterValorParaCentavos() {
+        assertThat(converter.convertToDatabaseColumn(new BigDecimal("10.50"))).isEqualTo(1050L);
+        assertThat(converter.convertToDatabaseColumn(new BigDecimal("0.01"))).isEqualTo(1L);
+        assertThat(converter.convertToDatabaseColumn(new BigDecimal("7"))).isEqualTo(700L);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    public void deveArredondarParaOCentavoMaisProximo() {
+        assertThat(converter.convertToDatabaseColumn(new BigDecimal("10.005"))).isEqualTo(1001L);
+        assertThat(converter.convertToDatabaseColumn(new BigDecimal("10.004"))).isEqualTo(1000L);
+        assertThat(converter.convertToDatabaseColumn(new BigDecimal("0.005"))).isEqualTo(1L);
+    }
+
+    @Test
+    public void deveConverterCentavosParaValorComDuasCasas() {
+        assertThat(converter.convertToEntityAttribute(1050L)).isEqualTo(new BigDecimal("10.50"));
+        assertThat(converter.convertToEntityAttribute(1L)).isEqualTo(new BigDecimal("0.01"));
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
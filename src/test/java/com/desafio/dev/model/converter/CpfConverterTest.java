@@ -0,0 +1,32 @@
+package com.desafio.dev.model.converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CpfConverterTest {
+
+    private final CpfConverter converter = new CpfConverter();
+
+    @Test
+    public void deveCompactarCpfFormatado() {
+        assertThat(converter.convertToDatabaseColumn("123.456.789-00")).isEqualTo(12345678900L);
+        assertThat(converter.convertToDatabaseColumn("000.000.000-00")).isEqualTo(0L);
+        assertThat(converter.convertToDatabaseColumn("999.999.999-99")).isEqualTo(99999999999L);
+    }
+
+    @Test
+    public void deveRejeitarCpfForaDoFormato() {
+        assertThat(converter.convertToDatabaseColumn("12345678900")).isNull();
+        assertThat(converter.convertToDatabaseColumn("123.456.789.00")).isNull();
+        assertThat(converter.convertToDatabaseColumn("123.4a6.789-00")).isNull();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    public void deveFormatarCpfComZerosAEsquerda() {
+        assertThat(converter.convertToEntityAttribute(12345678900L)).isEqualTo("123.456.789-00");
+        assertThat(converter.convertToEntityAttribute(1234500L)).isEqualTo("000.012.345-00");
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
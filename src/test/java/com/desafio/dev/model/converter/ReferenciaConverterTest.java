@@ -0,0 +1,33 @@
+package com.desafio.dev.model.converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ReferenciaConverterTest {
+
+    private final ReferenciaConverter converter = new ReferenciaConverter();
+
+    @Test
+    public void deveCompactarReferenciaEmOrdemCronologica() {
+        assertThat(converter.convertToDatabaseColumn("01-2025")).isEqualTo(202501);
+        assertThat(converter.convertToDatabaseColumn("12-2024")).isEqualTo(202412);
+        assertThat(converter.convertToDatabaseColumn("12-2024")).isLessThan(converter.convertToDatabaseColumn("01-2025"));
+    }
+
+    @Test
+    public void deveRejeitarReferenciaForaDoFormato() {
+        assertThat(converter.convertToDatabaseColumn("13-2024")).isNull();
+        assertThat(converter.convertToDatabaseColumn("00-2024")).isNull();
+        assertThat(converter.convertToDatabaseColumn("2024-01")).isNull();
+        assertThat(converter.convertToDatabaseColumn("1-2024")).isNull();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    public void deveFormatarReferencia() {
+        assertThat(converter.convertToEntityAttribute(202501)).isEqualTo("01-2025");
+        assertThat(converter.convertToEntityAttribute(202412)).isEqualTo("12-2024");
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -1,13 +1,17 @@
 package com.desafio.dev.repository_test;
 
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
 import com.desafio.dev.model.Cliente;
 import com.desafio.dev.repository.ClienteRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -183,4 +187,132 @@ public class ClienteRepositoryTest {
         assertThat(clienteSalvo.getTelefone()).isNull();
         assertThat(clienteSalvo.getEmail()).isNull();
     }
+
+    @Test
+    public void deveListarClientesPorCursorDeId() {
+        // Given
+        Cliente cliente1 = entityManager.persistAndFlush(criarCliente("Cliente A", "101.101.101-01"));
+        Cliente cliente2 = entityManager.persistAndFlush(criarCliente("Cliente B", "202.202.202-02"));
+        Cliente cliente3 = entityManager.persistAndFlush(criarCliente("Cliente C", "303.303.303-03"));
+
+        // When
+        List<ClienteResponseDTO> primeiraPagina = clienteRepository.findPageOrderById(0L, Limit.of(2));
+        List<ClienteResponseDTO> segundaPagina = clienteRepository.findPageOrderById(cliente2.getId(), Limit.of(2));
+
+        // Then
+        assertThat(primeiraPagina).extracting(ClienteResponseDTO::id).containsExactly(cliente1.getId(), cliente2.getId());
+        assertThat(segundaPagina).extracting(ClienteResponseDTO::id).containsExactly(cliente3.getId());
+    }
+
+    @Test
+    public void deveListarClientesPorCursorDeNome() {
+        // Given
+        entityManager.persistAndFlush(criarCliente("Carla", "404.404.404-04"));
+        Cliente ana = entityManager.persistAndFlush(criarCliente("Ana", "505.505.505-05"));
+        entityManager.persistAndFlush(criarCliente("Bruno", "606.606.606-06"));
+        entityManager.persistAndFlush(criarCliente("Ana", "707.707.707-07"));
+
+        // When
+        List<ClienteResponseDTO> primeiraPagina = clienteRepository.findFirstPageOrderByNome(Limit.of(1));
+        List<ClienteResponseDTO> restante = clienteRepository.findPageOrderByNome("Ana", ana.getId(), Limit.of(10));
+
+        // Then
+        assertThat(primeiraPagina).extracting(ClienteResponseDTO::cpf).containsExactly("505.505.505-05");
+        assertThat(restante).extracting(ClienteResponseDTO::nome).containsExactly("Ana", "Bruno", "Carla");
+    }
+
+    @Test
+    public void devePercorrerTodosOsClientesPorStream() {
+        // Given
+        entityManager.persistAndFlush(criarCliente("Cliente Stream 1", "121.121.121-21"));
+        entityManager.persistAndFlush(criarCliente("Cliente Stream 2", "131.131.131-31"));
+
+        // When
+        List<String> cpfs;
+        try (Stream<ClienteResponseDTO> clientes = clienteRepository.streamAll()) {
+            cpfs = clientes.map(ClienteResponseDTO::cpf).toList();
+        }
+
+        // Then
+        assertThat(cpfs).containsExactlyInAnyOrder("121.121.121-21", "131.131.131-31");
+    }
+
+    @Test
+    public void deveRetornarApenasCpfsJaCadastrados() {
+        // Given
+        entityManager.persistAndFlush(criarCliente("Cliente Lote 1", "141.141.141-41"));
+        entityManager.persistAndFlush(criarCliente("Cliente Lote 2", "151.151.151-51"));
+
+        // When
+        List<String> existentes = clienteRepository.findExistingCpfs(
+                List.of("141.141.141-41", "151.151.151-51", "161.161.161-61"));
+
+        // Then
+        assertThat(existentes).containsExactlyInAnyOrder("141.141.141-41", "151.151.151-51");
+    }
+
+    @Test
+    public void deveBuscarIdDoClientePorCpf() {
+        // Given
+        Cliente cliente = entityManager.persistAndFlush(criarCliente("Cliente Cache", "171.171.171-71"));
+
+        // When / Then
+        assertThat(clienteRepository.findIdByCpf("171.171.171-71")).contains(cliente.getId());
+        assertThat(clienteRepository.findIdByCpf("181.181.181-81")).isEmpty();
+    }
+
+    @Test
+    public void deveBuscarClientesPorParteDoNomeEmailOuTelefone() {
+        // Given
+        Cliente silva = criarCliente("Maria Silva", "191.191.191-91");
+        Cliente email = criarCliente("João", "212.212.212-12");
+        email.setEmail("joao.silva@email.com");
+        Cliente outro = criarCliente("Pedro", "232.232.232-32");
+        outro.setTelefone("(11)98765-4321");
+        entityManager.persistAndFlush(silva);
+        entityManager.persistAndFlush(email);
+        entityManager.persistAndFlush(outro);
+
+        // When
+        List<ClienteResponseDTO> porNome = clienteRepository.search("%SILVA%", 0L, Limit.of(10));
+        List<ClienteResponseDTO> segundaPagina = clienteRepository.search("%silva%", silva.getId(), Limit.of(10));
+        List<ClienteResponseDTO> porTelefone = clienteRepository.search("%98765%", 0L, Limit.of(10));
+        List<ClienteResponseDTO> curinga = clienteRepository.search("%!%%", 0L, Limit.of(10));
+
+        // Then
+        assertThat(porNome).extracting(ClienteResponseDTO::id).containsExactly(silva.getId(), email.getId());
+        assertThat(segundaPagina).extracting(ClienteResponseDTO::id).containsExactly(email.getId());
+        assertThat(porTelefone).extracting(ClienteResponseDTO::id).containsExactly(outro.getId());
+        assertThat(curinga).isEmpty();
+    }
+
+    @Test
+    public void deveAtualizarClienteSomenteNaVersaoEsperada() {
+        // Given
+        Cliente cliente = entityManager.persistAndFlush(criarCliente("Cliente Versão", "242.242.242-42"));
+        Long versao = cliente.getVersao();
+
+        // When
+        int primeira = clienteRepository.updateIfVersion(cliente.getId(), versao, "Cliente Atualizado",
+                "252.252.252-52", null, null);
+        int segunda = clienteRepository.updateIfVersion(cliente.getId(), versao, "Cliente Perdido",
+                "262.262.262-62", null, null);
+        entityManager.clear();
+
+        // Then
+        Cliente atualizado = entityManager.find(Cliente.class, cliente.getId());
+        assertThat(primeira).isEqualTo(1);
+        assertThat(segunda).isZero();
+        assertThat(atualizado.getNome()).isEqualTo("Cliente Atualizado");
+        assertThat(atualizado.getCpf()).isEqualTo("252.252.252-52");
+        assertThat(atualizado.getVersao()).isEqualTo(versao + 1);
+    }
+
+    // Métodos auxiliares
+    private Cliente criarCliente(String nome, String cpf) {
+        Cliente cliente = new Cliente();
+        cliente.setNome(nome);
+        cliente.setCpf(cpf);
+        return cliente;
+    }
 }
@@ -1,21 +1,32 @@
 package com.desafio.dev.repository_test;
 
 import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.conta.ContaAgrupadaDTO;
+import com.desafio.dev.dtos.conta.ContaExportDTO;
+import com.desafio.dev.dtos.conta.ContaFiltroDTO;
+import com.desafio.dev.dtos.conta.ContaPendenteRelatorioDTO;
+import com.desafio.dev.dtos.conta.ContaResponseDTO;
 import com.desafio.dev.model.Cliente;
 import com.desafio.dev.model.Conta;
 import com.desafio.dev.repository.ContaRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"})
 public class ContaRepositoryTest {
 
     @Autowired
@@ -164,6 +175,34 @@ public class ContaRepositoryTest {
         assertThat(contasReferencia12_2024).allMatch(conta -> conta.getReferencia().equals("12-2024"));
     }
 
+    @Test
+    public void deveBuscarContasPorSituacaoEReferenciaSemCarregarOsClientes() {
+        // Given
+        Cliente cliente1 = criarClienteBasico();
+        cliente1.setCpf("111.111.111-11");
+        Cliente cliente1Salvo = entityManager.persistAndFlush(cliente1);
+
+        Cliente cliente2 = criarClienteBasico();
+        cliente2.setCpf("222.222.222-22");
+        Cliente cliente2Salvo = entityManager.persistAndFlush(cliente2);
+
+        entityManager.persistAndFlush(criarConta("01-2025", "100.00", Situacao.PENDENTE, cliente1Salvo));
+        entityManager.persistAndFlush(criarConta("01-2025", "200.00", Situacao.PENDENTE, cliente2Salvo));
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<Conta> contasPendentes = contaRepository.findBySituacao(Situacao.PENDENTE);
+        List<Conta> contasReferencia = contaRepository.findByReferencia("01-2025");
+
+        // Then: um comando por consulta, sem carregar os clientes das contas
+        assertThat(contasPendentes).hasSize(2);
+        assertThat(contasReferencia).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
     @Test
     public void deveAtualizarSituacaoDaConta() {
         // Given
@@ -238,6 +277,152 @@ public class ContaRepositoryTest {
         assertThat(total).isEqualTo(3);
     }
 
+    @Test
+    public void devePercorrerTodasAsContasPorStream() {
+        // Given
+        Cliente cliente = criarClienteBasico();
+        Cliente clienteSalvo = entityManager.persistAndFlush(cliente);
+
+        entityManager.persistAndFlush(criarConta("08-2025", "100.00", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("09-2025", "200.00", Situacao.PAGA, clienteSalvo));
+
+        // When
+        List<ContaExportDTO> contas;
+        try (Stream<ContaExportDTO> stream = contaRepository.streamAll()) {
+            contas = stream.toList();
+        }
+
+        // Then
+        assertThat(contas).hasSize(2);
+        assertThat(contas).allMatch(conta -> conta.idCliente().equals(clienteSalvo.getId()));
+    }
+
+    @Test
+    public void devePercorrerContasPendentesComOsDadosDoClientePorStream() {
+        // Given
+        Cliente clienteSalvo = entityManager.persistAndFlush(criarClienteBasico());
+        entityManager.persistAndFlush(criarConta("09-2025", "200.00", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("08-2025", "100.50", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("07-2025", "300.00", Situacao.PAGA, clienteSalvo));
+        entityManager.clear();
+
+        // When
+        List<ContaPendenteRelatorioDTO> contas;
+        try (Stream<ContaPendenteRelatorioDTO> stream = contaRepository.streamRelatorioBySituacao(Situacao.PENDENTE)) {
+            contas = stream.toList();
+        }
+
+        // Then
+        assertThat(contas).containsExactlyInAnyOrder(
+                new ContaPendenteRelatorioDTO("Cliente Teste", "123.456.789-00", "08-2025", 10050),
+                new ContaPendenteRelatorioDTO("Cliente Teste", "123.456.789-00", "09-2025", 20000));
+    }
+
+    @Test
+    public void deveRemoverContasDoClienteEmBloco() {
+        // Given
+        Cliente clienteSalvo = entityManager.persistAndFlush(criarClienteBasico());
+        entityManager.persistAndFlush(criarConta("01-2025", "10.00", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("02-2025", "20.00", Situacao.PAGA, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("03-2025", "30.00", Situacao.CANCELADA, clienteSalvo));
+
+        // When
+        List<Long> primeiroBloco = contaRepository.findIdsByClienteId(clienteSalvo.getId(), Limit.of(2));
+        int removidasNoBloco = contaRepository.deleteAllByIdIn(primeiroBloco);
+        int removidasRestantes = contaRepository.deleteAllByClienteId(clienteSalvo.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(removidasNoBloco).isEqualTo(2);
+        assertThat(removidasRestantes).isEqualTo(1);
+        assertThat(contaRepository.count()).isZero();
+    }
+
+    @Test
+    public void deveAgruparContasDoClientePorSituacaoEReferencia() {
+        // Given
+        Cliente clienteSalvo = entityManager.persistAndFlush(criarClienteBasico());
+        entityManager.persistAndFlush(criarConta("01-2025", "10.00", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("01-2025", "15.50", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("01-2025", "20.00", Situacao.PAGA, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("02-2025", "30.00", Situacao.PENDENTE, clienteSalvo));
+
+        // When
+        List<ContaAgrupadaDTO> grupos = contaRepository.sumByClienteIdGroupBySituacaoAndReferencia(clienteSalvo.getId());
+
+        // Then
+        assertThat(grupos).hasSize(3);
+        ContaAgrupadaDTO pendentesJaneiro = grupos.stream()
+                .filter(grupo -> grupo.situacao() == Situacao.PENDENTE && grupo.referencia().equals("01-2025"))
+                .findFirst().orElseThrow();
+        assertThat(pendentesJaneiro.quantidade()).isEqualTo(2);
+        assertThat(pendentesJaneiro.valorCentavos()).isEqualTo(2550);
+    }
+
+    @Test
+    public void deveBuscarContasDoClienteEntreReferenciasEmOrdemCronologica() {
+        // Given
+        Cliente clienteSalvo = entityManager.persistAndFlush(criarClienteBasico());
+        entityManager.persistAndFlush(criarConta("02-2025", "10.00", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("11-2024", "20.00", Situacao.PAGA, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("01-2025", "30.00", Situacao.CANCELADA, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("10-2024", "40.00", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("03-2025", "50.00", Situacao.PENDENTE, clienteSalvo));
+
+        // When
+        List<ContaResponseDTO> contas = contaRepository.findPageByClienteId(clienteSalvo.getId(),
+                new ContaFiltroDTO(List.of(Situacao.PENDENTE, Situacao.PAGA), "11-2024", "02-2025", null, null),
+                null, null, 10);
+
+        // Then
+        assertThat(contas).extracting(ContaResponseDTO::referencia).containsExactly("11-2024", "02-2025");
+        assertThat(contas).extracting(ContaResponseDTO::valor).containsExactly(new BigDecimal("20.00"), new BigDecimal("10.00"));
+    }
+
+    @Test
+    public void deveAlterarSituacaoSomenteSeAContaNaoFoiAlteradaAposALeitura() {
+        // Given
+        Cliente clienteSalvo = entityManager.persistAndFlush(criarClienteBasico());
+        Conta conta = entityManager.persistAndFlush(criarConta("01-2025", "10.00", Situacao.PENDENTE, clienteSalvo));
+        List<Situacao> origens = Situacao.PAGA.origensPermitidas();
+
+        // When
+        int comValorDesatualizado = contaRepository.updateSituacaoIfUnchanged(conta.getId(), "01-2025", Situacao.PENDENTE,
+                new BigDecimal("99.00"), Situacao.PAGA, origens);
+        int alteradas = contaRepository.updateSituacaoIfUnchanged(conta.getId(), "01-2025", Situacao.PENDENTE,
+                new BigDecimal("10.00"), Situacao.PAGA, origens);
+        int repetidas = contaRepository.updateSituacaoIfUnchanged(conta.getId(), "01-2025", Situacao.PENDENTE,
+                new BigDecimal("10.00"), Situacao.PAGA, origens);
+
+        // Then
+        assertThat(comValorDesatualizado).isZero();
+        assertThat(alteradas).isEqualTo(1);
+        assertThat(repetidas).isZero();
+        entityManager.clear();
+        assertThat(contaRepository.findById(conta.getId())).get().extracting(Conta::getSituacao).isEqualTo(Situacao.PAGA);
+    }
+
+    @Test
+    public void deveBuscarPaginasDeContasPorReferenciaEIdAPartirDoCursor() {
+        // Given
+        Cliente clienteSalvo = entityManager.persistAndFlush(criarClienteBasico());
+        Conta dezembro = entityManager.persistAndFlush(criarConta("12-2024", "50.00", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("01-2025", "10.00", Situacao.PENDENTE, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("01-2025", "200.00", Situacao.PAGA, clienteSalvo));
+        Conta janeiro3 = entityManager.persistAndFlush(criarConta("01-2025", "30.00", Situacao.PAGA, clienteSalvo));
+        entityManager.persistAndFlush(criarConta("02-2025", "40.00", Situacao.PENDENTE, clienteSalvo));
+        ContaFiltroDTO filtro = new ContaFiltroDTO(null, null, null, new BigDecimal("20.00"), new BigDecimal("100.00"));
+
+        // When
+        List<ContaResponseDTO> primeira = contaRepository.findPageByClienteId(clienteSalvo.getId(), filtro, null, null, 2);
+        List<ContaResponseDTO> segunda = contaRepository.findPageByClienteId(clienteSalvo.getId(), filtro,
+                primeira.get(1).referencia(), primeira.get(1).id(), 2);
+
+        // Then
+        assertThat(primeira).extracting(ContaResponseDTO::id).containsExactly(dezembro.getId(), janeiro3.getId());
+        assertThat(segunda).extracting(ContaResponseDTO::referencia).containsExactly("02-2025");
+    }
+
     // Métodos auxiliares
     private Cliente criarClienteBasico() {
         Cliente cliente = new Cliente();
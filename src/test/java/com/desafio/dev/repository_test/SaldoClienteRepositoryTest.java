@@ -0,0 +1,113 @@
+package com.desafio.dev.repository_test;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.model.Cliente;
+import com.desafio.dev.model.Conta;
+import com.desafio.dev.model.SaldoCliente;
+import com.desafio.dev.repository.SaldoClienteRepository;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(SaldoClienteServiceImpl.class)
+public class SaldoClienteRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SaldoClienteRepository saldoClienteRepository;
+
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    @Test
+    public void deveCriarSaldoZeradoParaClientesNovos() {
+        // Given
+        Cliente cliente = entityManager.persistAndFlush(criarCliente("272.272.272-72"));
+
+        // When
+        int criados = saldoClienteRepository.criarSaldos(List.of(cliente.getId()));
+
+        // Then
+        SaldoCliente saldo = saldoClienteRepository.findById(cliente.getId()).orElseThrow();
+        assertThat(criados).isEqualTo(1);
+        assertThat(saldo.getQuantidadePendente()).isZero();
+        assertThat(saldo.getValorPendente()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    public void deveAplicarDiferencaAoSaldo() {
+        // Given
+        Cliente cliente = entityManager.persistAndFlush(criarCliente("282.282.282-82"));
+        saldoClienteRepository.criarSaldos(List.of(cliente.getId()));
+
+        // When
+        saldoClienteRepository.aplicarDiferenca(cliente.getId(), 2, 0, 0, new BigDecimal("30.00"), BigDecimal.ZERO);
+        saldoClienteRepository.aplicarDiferenca(cliente.getId(), -1, 1, 0, new BigDecimal("-10.00"), new BigDecimal("10.00"));
+        entityManager.clear();
+
+        // Then
+        SaldoCliente saldo = saldoClienteRepository.findById(cliente.getId()).orElseThrow();
+        assertThat(saldo.getQuantidadePendente()).isEqualTo(1);
+        assertThat(saldo.getQuantidadePaga()).isEqualTo(1);
+        assertThat(saldo.getValorPendente()).isEqualByComparingTo("20.00");
+        assertThat(saldo.getValorPago()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    public void deveReconciliarSaldosComAsContas() {
+        // Given
+        Cliente semSaldo = entityManager.persistAndFlush(criarCliente("292.292.292-92"));
+        Cliente divergente = entityManager.persistAndFlush(criarCliente("303.303.303-30"));
+        saldoClienteRepository.criarSaldos(List.of(divergente.getId()));
+        entityManager.persistAndFlush(criarConta("15.00", Situacao.PENDENTE, semSaldo));
+        entityManager.persistAndFlush(criarConta("25.00", Situacao.PAGA, divergente));
+        entityManager.persistAndFlush(criarConta("5.00", Situacao.CANCELADA, divergente));
+
+        // When
+        Long inicio = Math.min(semSaldo.getId(), divergente.getId());
+        Long fim = Math.max(semSaldo.getId(), divergente.getId());
+        int corrigidos = saldoClienteService.reconciliar(inicio, fim);
+        int corrigidosNovamente = saldoClienteService.reconciliar(inicio, fim);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        SaldoCliente saldoCriado = saldoClienteRepository.findById(semSaldo.getId()).orElseThrow();
+        SaldoCliente saldoCorrigido = saldoClienteRepository.findById(divergente.getId()).orElseThrow();
+        assertThat(corrigidos).isEqualTo(3);
+        assertThat(corrigidosNovamente).isZero();
+        assertThat(saldoCriado.getQuantidadePendente()).isEqualTo(1);
+        assertThat(saldoCriado.getValorPendente()).isEqualByComparingTo("15.00");
+        assertThat(saldoCorrigido.getQuantidadePaga()).isEqualTo(1);
+        assertThat(saldoCorrigido.getQuantidadeCancelada()).isEqualTo(1);
+        assertThat(saldoCorrigido.getValorPago()).isEqualByComparingTo("25.00");
+    }
+
+    // Métodos auxiliares
+    private Cliente criarCliente(String cpf) {
+        Cliente cliente = new Cliente();
+        cliente.setNome("Cliente Saldo");
+        cliente.setCpf(cpf);
+        return cliente;
+    }
+
+    private Conta criarConta(String valor, Situacao situacao, Cliente cliente) {
+        Conta conta = new Conta();
+        conta.setReferencia("01-2025");
+        conta.setValor(new BigDecimal(valor));
+        conta.setSituacao(situacao);
+        conta.setCliente(cliente);
+        return conta;
+    }
+}
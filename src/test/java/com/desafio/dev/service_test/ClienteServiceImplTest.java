@@ -0,0 +1,88 @@
+package com.desafio.dev.service_test;
+
+import com.desafio.dev.ENUMS.StatusItemLote;
+import com.desafio.dev.dtos.batch.BatchItemResultDTO;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.exceptions.ClienteVersionMismatchException;
+import com.desafio.dev.repository.ClienteRepository;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica os caminhos de concorrência do serviço de clientes. Os testes não são transacionais,
+ * pois dependem de transações desfeitas no meio da operação, e utilizam um banco próprio.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:clienteservice;DB_CLOSE_DELAY=-1")
+public class ClienteServiceImplTest {
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @MockitoSpyBean
+    private ClienteRepository clienteRepository;
+
+    @Test
+    public void updateSemIfMatchDeveDesistirAposAlgumasTentativas() {
+        // Given
+        ClienteResponseDTO cliente = clienteService.save(new ClienteRequestDTO("Cliente Disputado", "505.505.505-01", null, null));
+        // Simula outra requisição alterando o cliente entre a leitura e cada UPDATE
+        doReturn(0).when(clienteRepository).updateIfVersion(eq(cliente.id()), any(), any(), any(), any(), any());
+
+        // When & Then
+        assertThatThrownBy(() -> clienteService.update(cliente.id(), null,
+                new ClienteRequestDTO("Cliente Alterado", "505.505.505-01", null, null)))
+                .isInstanceOf(ClienteVersionMismatchException.class);
+        verify(clienteRepository, times(3)).updateIfVersion(eq(cliente.id()), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void saveAllDeveGravarOsDemaisItensQuandoOBlocoFalhar() {
+        // Given
+        clienteService.save(new ClienteRequestDTO("Cliente Concorrente", "505.505.505-02", null, null));
+        // Simula o CPF cadastrado concorrentemente, depois da verificação do bloco
+        doReturn(List.of()).when(clienteRepository).findExistingCpfs(anyCollection());
+
+        // When
+        List<BatchItemResultDTO> resultados = new ArrayList<>();
+        clienteService.saveAll(List.of(
+                new ClienteRequestDTO("Cliente Repetido", "505.505.505-02", null, null),
+                new ClienteRequestDTO("Cliente Novo Um", "505.505.505-03", null, null),
+                new ClienteRequestDTO("Cliente Novo Dois", "505.505.505-04", null, null)).iterator(), resultados::add);
+
+        // Then
+        assertThat(resultados).extracting(BatchItemResultDTO::status)
+                .containsExactly(StatusItemLote.DUPLICADO, StatusItemLote.CRIADO, StatusItemLote.CRIADO);
+        assertThat(clienteRepository.existsByCpf("505.505.505-03")).isTrue();
+        assertThat(clienteRepository.existsByCpf("505.505.505-04")).isTrue();
+        assertThat(clienteService.findById(resultados.get(1).id()).versao()).isZero();
+    }
+
+    @Test
+    public void saveAllDeveRejeitarComoInvalidoOItemQueViolaOutraRestricao() {
+        // Given: um nome maior que a coluna passa pelas validações da entidade, mas não pelo banco
+        String nomeLongo = "Cliente " + "x".repeat(300);
+
+        // When
+        List<BatchItemResultDTO> resultados = new ArrayList<>();
+        clienteService.saveAll(List.of(
+                new ClienteRequestDTO(nomeLongo, "505.505.505-05", null, null),
+                new ClienteRequestDTO("Cliente Novo Três", "505.505.505-06", null, null)).iterator(), resultados::add);
+
+        // Then
+        assertThat(resultados).extracting(BatchItemResultDTO::status)
+                .containsExactly(StatusItemLote.INVALIDO, StatusItemLote.CRIADO);
+        assertThat(clienteRepository.existsByCpf("505.505.505-05")).isFalse();
+        assertThat(clienteRepository.existsByCpf("505.505.505-06")).isTrue();
+    }
+}
@@ -0,0 +1,148 @@
+package com.desafio.dev.service_test;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.dtos.conta.ContaRequestDTO;
+import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.exceptions.ClienteNotFoundException;
+import com.desafio.dev.repository.OutboxEventoRepository;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import com.desafio.dev.service.implentacion.ContaServiceImpl;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica a gravação agrupada das contas criadas ao mesmo tempo. Os testes não são
+ * transacionais, pois a gravação agrupada só é utilizada fora de uma transação, e utilizam
+ * um banco próprio.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:groupcommit;DB_CLOSE_DELAY=-1",
+        "app.conta.group-commit.habilitado=true",
+        "app.conta.group-commit.tamanho-lote=16",
+        "app.conta.group-commit.espera-maxima=50ms"})
+public class ContaGroupCommitTest {
+
+    private static final int CONTAS = 40;
+
+    @Autowired
+    private ContaServiceImpl contaService;
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void deveGravarAsContasCriadasAoMesmoTempoEmPoucasTransacoes() throws Exception {
+        ClienteResponseDTO cliente = clienteService.save(new ClienteRequestDTO("Cliente Agrupado", "404.404.404-04", null, null));
+        DistributionSummary lotes = meterRegistry.get("conta.group-commit.lote.tamanho").summary();
+        long lotesAntes = lotes.count();
+        long eventosAntes = outboxEventoRepository.count();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONTAS);
+        List<Future<ContaResponseDTO>> criadas = new ArrayList<>();
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < CONTAS; i++) {
+                String referencia = String.format("%02d-%d", i % 12 + 1, 2000 + i);
+                criadas.add(executor.submit(() -> {
+                    largada.await();
+                    return contaService.save(cliente.id(),
+                            new ContaRequestDTO(referencia, new BigDecimal("10.00"), Situacao.PENDENTE));
+                }));
+            }
+            largada.countDown();
+            List<Long> ids = new ArrayList<>();
+            for (Future<ContaResponseDTO> criada : criadas) {
+                ids.add(criada.get().id());
+            }
+
+            assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(lotes.count() - lotesAntes).isBetween(3L, CONTAS / 2L);
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadePendente()).isEqualTo(CONTAS);
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).valorPendente()).isEqualByComparingTo("400.00");
+        assertThat(outboxEventoRepository.count() - eventosAntes).isEqualTo(CONTAS);
+    }
+
+    @Test
+    public void deveRecusarSomenteAContaDoClienteRemovidoQuandoOGrupoFalhar() throws Exception {
+        ClienteResponseDTO cliente = clienteService.save(new ClienteRequestDTO("Cliente Mantido", "505.505.505-05", null, null));
+        ClienteResponseDTO removido = clienteService.save(new ClienteRequestDTO("Cliente Removido", "606.606.606-06", null, null));
+        clienteService.findById(removido.id());
+        // removido diretamente no banco: o cache ainda indica que o cliente existe
+        jdbcTemplate.update("delete from saldo_cliente where cliente_id = ?", removido.id());
+        jdbcTemplate.update("delete from cliente where id = ?", removido.id());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<ContaResponseDTO>> criadas = new ArrayList<>();
+            for (int i = 1; i <= 7; i++) {
+                String referencia = String.format("%02d-2025", i);
+                criadas.add(executor.submit(() -> {
+                    largada.await();
+                    return contaService.save(cliente.id(),
+                            new ContaRequestDTO(referencia, new BigDecimal("10.00"), Situacao.PAGA));
+                }));
+            }
+            Future<ContaResponseDTO> recusada = executor.submit(() -> {
+                largada.await();
+                return contaService.save(removido.id(),
+                        new ContaRequestDTO("01-2025", new BigDecimal("10.00"), Situacao.PAGA));
+            });
+            largada.countDown();
+
+            for (Future<ContaResponseDTO> criada : criadas) {
+                assertThat(criada.get().id()).isNotNull();
+            }
+            assertThatThrownBy(recusada::get).hasCauseInstanceOf(ClienteNotFoundException.class);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadePaga()).isEqualTo(7);
+    }
+
+    @Test
+    public void naoDeveTratarOutrasViolacoesDeIntegridadeComoClienteRemovido() {
+        ClienteResponseDTO cliente = clienteService.save(new ClienteRequestDTO("Cliente Existente", "707.707.707-07", null, null));
+        jdbcTemplate.execute("alter table conta add constraint conta_valor_teste check (valor <> 99999)");
+        try {
+            assertThatThrownBy(() -> contaService.save(cliente.id(),
+                    new ContaRequestDTO("01-2025", new BigDecimal("999.99"), Situacao.PENDENTE)))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        } finally {
+            jdbcTemplate.execute("alter table conta drop constraint conta_valor_teste");
+        }
+    }
+}
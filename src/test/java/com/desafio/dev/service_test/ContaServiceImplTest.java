@@ -0,0 +1,289 @@
+package com.desafio.dev.service_test;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.ENUMS.StatusItemLote;
+import com.desafio.dev.dtos.batch.BatchItemResultDTO;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.dtos.conta.ContaFiltroDTO;
+import com.desafio.dev.dtos.conta.ContaLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaPageResponseDTO;
+import com.desafio.dev.dtos.conta.ContaRequestDTO;
+import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteResponseDTO;
+import com.desafio.dev.dtos.saldo.SaldoClienteDTO;
+import com.desafio.dev.exceptions.ContaLoteTooLargeException;
+import com.desafio.dev.exceptions.InvalidReferenciaException;
+import com.desafio.dev.exceptions.SituacaoConflictException;
+import com.desafio.dev.exceptions.SituacaoTransicaoNotAvailableException;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import com.desafio.dev.service.implentacion.ContaServiceImpl;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica o serviço de contas. Além do resultado de cada operação, os testes verificam a
+ * quantidade de comandos SQL executados, para que consultas N+1 ou carregamentos
+ * desnecessários do cliente sejam detectados.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"})
+@Transactional
+public class ContaServiceImplTest {
+
+    private static final ContaFiltroDTO SEM_FILTRO = new ContaFiltroDTO(null, null, null, null, null);
+
+    @Autowired
+    private ContaServiceImpl contaService;
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private ClienteResponseDTO cliente;
+
+    private ClienteResponseDTO outroCliente;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        cliente = clienteService.save(new ClienteRequestDTO("Cliente Um", "101.101.101-01", null, null));
+        outroCliente = clienteService.save(new ClienteRequestDTO("Cliente Dois", "202.202.202-02", null, null));
+        for (int i = 1; i <= 3; i++) {
+            contaService.save(cliente.id(), new ContaRequestDTO("0" + i + "-2025", new BigDecimal("10.00"), Situacao.PENDENTE));
+            contaService.save(outroCliente.id(), new ContaRequestDTO("0" + i + "-2025", new BigDecimal("20.00"), Situacao.PENDENTE));
+        }
+    }
+
+    @Test
+    public void deveListarContasDoClienteComUmComando() {
+        assertThat(contarComandos(() -> contasDe(cliente.id()))).isEqualTo(1);
+    }
+
+    @Test
+    public void deveResumirContasDoClienteComUmComando() {
+        assertThat(contarComandos(() -> contaService.resumoByClienteId(cliente.id()))).isEqualTo(1);
+    }
+
+    @Test
+    public void deveCriarContaSemCarregarOCliente() {
+        clienteService.findById(cliente.id());
+
+        long comandos = contarComandos(() -> contaService.save(cliente.id(),
+                new ContaRequestDTO("04-2025", new BigDecimal("10.00"), Situacao.PENDENTE)));
+
+        // insert da conta, atualização do saldo e insert do evento na outbox
+        assertThat(comandos).isEqualTo(3);
+    }
+
+    @Test
+    public void deveCriarContasEmLoteComUmaConsultaDeClientesEUmaInsercaoEmLote() {
+        List<ContaLoteRequestDTO> lote = new ArrayList<>();
+        for (int i = 4; i <= 9; i++) {
+            lote.add(new ContaLoteRequestDTO(i % 2 == 0 ? cliente.id() : outroCliente.id(), "0" + i + "-2025",
+                    new BigDecimal("10.00"), Situacao.PENDENTE));
+        }
+        lote.add(new ContaLoteRequestDTO(cliente.id(), "10-2025", new BigDecimal("10.00"), Situacao.CANCELADA));
+        lote.add(new ContaLoteRequestDTO(-1L, "10-2025", new BigDecimal("10.00"), Situacao.PAGA));
+        lote.add(null);
+
+        List<BatchItemResultDTO> resultados = new ArrayList<>();
+        long comandos = contarComandos(() -> resultados.addAll(contaService.saveAll(lote)));
+
+        assertThat(resultados).extracting(BatchItemResultDTO::status).containsExactly(
+                StatusItemLote.CRIADO, StatusItemLote.CRIADO, StatusItemLote.CRIADO,
+                StatusItemLote.CRIADO, StatusItemLote.CRIADO, StatusItemLote.CRIADO,
+                StatusItemLote.INVALIDO, StatusItemLote.NAO_ENCONTRADO, StatusItemLote.INVALIDO);
+        // consulta dos clientes, insert em lote das contas, atualização do saldo de cada cliente
+        // e um único insert dos eventos na outbox
+        assertThat(comandos).isEqualTo(5);
+
+        SaldoClienteDTO saldo = saldoClienteService.findByClienteId(cliente.id());
+        assertThat(saldo.quantidadePendente()).isEqualTo(6);
+        assertThat(saldo.valorPendente()).isEqualByComparingTo("60.00");
+        SaldoClienteDTO outroSaldo = saldoClienteService.findByClienteId(outroCliente.id());
+        assertThat(outroSaldo.quantidadePendente()).isEqualTo(6);
+        assertThat(outroSaldo.valorPendente()).isEqualByComparingTo("90.00");
+    }
+
+    @Test
+    public void deveRecusarLoteAcimaDoTamanhoMaximo() {
+        List<ContaLoteRequestDTO> lote = new ArrayList<>();
+        // uma conta a mais que o limite (ContaServiceImpl.MAX_BATCH_SIZE)
+        for (int i = 0; i < 1001; i++) {
+            lote.add(new ContaLoteRequestDTO(cliente.id(), "11-2025", new BigDecimal("10.00"), Situacao.PENDENTE));
+        }
+
+        assertThatThrownBy(() -> contaService.saveAll(lote)).isInstanceOf(ContaLoteTooLargeException.class);
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadePendente()).isEqualTo(3);
+    }
+
+    @Test
+    public void deveAtualizarContaSemCarregarOCliente() {
+        ContaResponseDTO conta = contasDe(cliente.id()).get(0);
+
+        long comandos = contarComandos(() -> contaService.update(conta.id(),
+                new ContaRequestDTO(conta.referencia(), new BigDecimal("15.00"), Situacao.PAGA)));
+
+        // select da conta, atualização do saldo, insert do evento na outbox e update da conta
+        assertThat(comandos).isEqualTo(4);
+    }
+
+    @Test
+    public void deveCancelarContaSemCarregarOCliente() {
+        ContaResponseDTO conta = contasDe(cliente.id()).get(0);
+
+        // leitura da situação, update condicional da conta, atualização do saldo e insert do evento na outbox
+        assertThat(contarComandos(() -> contaService.delete(conta.id()))).isEqualTo(4);
+    }
+
+    @Test
+    public void deveAlterarSituacaoDaContaSemCarregarAEntidade() {
+        ContaResponseDTO conta = contasDe(cliente.id()).get(0);
+
+        List<ContaResponseDTO> resultado = new ArrayList<>();
+        long comandos = contarComandos(() -> resultado.add(contaService.updateSituacao(conta.id(), Situacao.PAGA)));
+
+        assertThat(resultado.get(0).situacao()).isEqualTo(Situacao.PAGA);
+        // leitura da situação, update condicional da conta, atualização do saldo e insert do evento na outbox
+        assertThat(comandos).isEqualTo(4);
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadePaga()).isEqualTo(1);
+    }
+
+    @Test
+    public void deveAlterarSituacaoBuscandoAContaNaReferenciaInformada() {
+        ContaResponseDTO conta = contasDe(cliente.id()).get(0);
+
+        long comandos = contarComandos(() -> contaService.updateSituacao(conta.id(), conta.referencia(), Situacao.PAGA));
+
+        // a referência correta não acrescenta consultas
+        assertThat(comandos).isEqualTo(4);
+    }
+
+    @Test
+    public void deveBuscarAContaPeloIdQuandoAReferenciaInformadaNaoForADaConta() {
+        ContaResponseDTO conta = contasDe(cliente.id()).get(0);
+
+        List<ContaResponseDTO> resultado = new ArrayList<>();
+        long comandos = contarComandos(() -> resultado.add(
+                contaService.updateSituacao(conta.id(), "12-1999", Situacao.PAGA)));
+
+        assertThat(resultado.get(0).referencia()).isEqualTo(conta.referencia());
+        // busca na referência informada, busca pelo ID e os 4 comandos da alteração
+        assertThat(comandos).isEqualTo(5);
+        assertThatThrownBy(() -> contaService.delete(conta.id(), "13-2025"))
+                .isInstanceOf(InvalidReferenciaException.class);
+    }
+
+    @Test
+    public void deveRecusarTransicaoNaoPermitidaPelaSituacaoAtual() {
+        ContaResponseDTO conta = contasDe(cliente.id()).get(0);
+        contaService.delete(conta.id());
+
+        assertThatThrownBy(() -> contaService.updateSituacao(conta.id(), Situacao.PAGA))
+                .isInstanceOf(SituacaoConflictException.class);
+        contaService.delete(conta.id());
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadeCancelada()).isEqualTo(1);
+    }
+
+    @Test
+    public void deveAlterarSituacaoDeContasEmLoteComUmUpdatePorBloco() {
+        List<Long> ids = new ArrayList<>(contasDe(cliente.id()).stream()
+                .map(ContaResponseDTO::id).toList());
+        ids.addAll(contasDe(outroCliente.id()).stream().map(ContaResponseDTO::id).toList());
+        contaService.delete(ids.get(0));
+        ids.add(-1L);
+
+        List<ContaTransicaoLoteResponseDTO> resultado = new ArrayList<>();
+        long comandos = contarComandos(() -> resultado.add(contaService.updateSituacaoAll(
+                new ContaTransicaoLoteRequestDTO(Situacao.PAGA, ids, null, null, null))));
+
+        assertThat(resultado.get(0).transicionadas()).isEqualTo(5);
+        // bloqueio das contas, agrupamento por cliente, atualização do saldo de cada cliente,
+        // um único insert dos eventos na outbox e update das contas
+        assertThat(comandos).isEqualTo(6);
+        SaldoClienteDTO saldo = saldoClienteService.findByClienteId(cliente.id());
+        assertThat(saldo.quantidadePendente()).isZero();
+        assertThat(saldo.quantidadePaga()).isEqualTo(2);
+        assertThat(saldo.quantidadeCancelada()).isEqualTo(1);
+        assertThat(saldo.valorPago()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    public void deveAlterarSituacaoDasContasDoClienteNoPeriodo() {
+        ContaTransicaoLoteResponseDTO resultado = contaService.updateSituacaoAll(
+                new ContaTransicaoLoteRequestDTO(Situacao.CANCELADA, null, outroCliente.id(), "02-2025", null));
+
+        assertThat(resultado.transicionadas()).isEqualTo(2);
+        assertThat(contasDe(outroCliente.id()))
+                .extracting(ContaResponseDTO::referencia).containsExactly("01-2025");
+        assertThat(saldoClienteService.findByClienteId(outroCliente.id()).valorPendente()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    public void deveRejeitarTransicaoParaPendente() {
+        assertThatThrownBy(() -> contaService.updateSituacaoAll(
+                new ContaTransicaoLoteRequestDTO(Situacao.PENDENTE, List.of(1L), null, null, null)))
+                .isInstanceOf(SituacaoTransicaoNotAvailableException.class);
+    }
+
+    @Test
+    public void deveListarPaginaFiltradaDeContasComUmComando() {
+        ContaFiltroDTO filtro = new ContaFiltroDTO(List.of(Situacao.PENDENTE), "02-2025", null, new BigDecimal("20.00"), null);
+
+        List<ContaPageResponseDTO> paginas = new ArrayList<>();
+        long comandos = contarComandos(() -> paginas.add(contaService.findAllByClienteId(outroCliente.id(), filtro, null, 1)));
+        paginas.add(contaService.findAllByClienteId(outroCliente.id(), filtro, paginas.get(0).next(), 1));
+
+        assertThat(comandos).isEqualTo(1);
+        assertThat(paginas.get(0).contas()).extracting(ContaResponseDTO::referencia).containsExactly("02-2025");
+        assertThat(paginas.get(1).contas()).extracting(ContaResponseDTO::referencia).containsExactly("03-2025");
+        assertThat(paginas.get(1).next()).isNull();
+    }
+
+    /**
+     * @param idCliente ID do cliente
+     * @return contas não canceladas do cliente, ordenadas por referência
+     */
+    private List<ContaResponseDTO> contasDe(Long idCliente) {
+        return contaService.findAllByClienteId(idCliente, SEM_FILTRO, null, null).contas();
+    }
+
+    /**
+     * Executa a ação com o contexto de persistência vazio e conta os comandos SQL preparados,
+     * incluindo os executados no flush ao final.
+     *
+     * @param acao ação executada
+     * @return quantidade de comandos SQL executados
+     */
+    private long contarComandos(Runnable acao) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        acao.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
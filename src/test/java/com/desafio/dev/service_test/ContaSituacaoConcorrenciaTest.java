@@ -0,0 +1,74 @@
+package com.desafio.dev.service_test;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.dtos.conta.ContaRequestDTO;
+import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.exceptions.SituacaoConcorrenteException;
+import com.desafio.dev.repository.ContaRepository;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import com.desafio.dev.service.implentacion.ContaServiceImpl;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica as alterações de situação que concorrem continuamente com outras requisições.
+ * Utiliza o mesmo banco e a mesma configuração de {@link ContaTransicaoLoteTest}.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:transicaolote;DB_CLOSE_DELAY=-1")
+public class ContaSituacaoConcorrenciaTest {
+
+    @Autowired
+    private ContaServiceImpl contaService;
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    @MockitoSpyBean
+    private ContaRepository contaRepository;
+
+    private static int sequencia;
+
+    private ClienteResponseDTO cliente;
+
+    private ContaResponseDTO conta;
+
+    @BeforeEach
+    public void setUp() {
+        cliente = clienteService.save(new ClienteRequestDTO("Cliente Disputado", String.format("707.707.707-%02d", ++sequencia), null, null));
+        conta = contaService.save(cliente.id(), new ContaRequestDTO("01-2025", new BigDecimal("10.00"), Situacao.PENDENTE));
+        // Simula outra requisição alterando a conta entre a leitura e cada UPDATE
+        doReturn(0).when(contaRepository).updateSituacaoIfUnchanged(eq(conta.id()), any(), any(), any(), any(), anyCollection());
+    }
+
+    @Test
+    public void updateSituacaoDeveDesistirAposAlgumasTentativas() {
+        assertThatThrownBy(() -> contaService.updateSituacao(conta.id(), Situacao.PAGA))
+                .isInstanceOf(SituacaoConcorrenteException.class);
+
+        verify(contaRepository, times(3)).updateSituacaoIfUnchanged(eq(conta.id()), any(), any(), any(), any(), anyCollection());
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadePaga()).isZero();
+    }
+
+    @Test
+    public void deleteNaoDeveTratarAConcorrenciaComoContaJaCancelada() {
+        assertThatThrownBy(() -> contaService.delete(conta.id()))
+                .isInstanceOf(SituacaoConcorrenteException.class);
+
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadeCancelada()).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package com.desafio.dev.service_test;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.dtos.conta.ContaLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaRequestDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteResponseDTO;
+import com.desafio.dev.dtos.saldo.SaldoClienteDTO;
+import com.desafio.dev.exceptions.TransicaoLoteInterrompidaException;
+import com.desafio.dev.repository.ContaRepository;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import com.desafio.dev.service.implentacion.ContaServiceImpl;
+import com.desafio.dev.service.implentacion.SaldoClienteServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica a alteração de situação em lote interrompida no meio. O teste não é transacional,
+ * pois cada bloco deve ser confirmado em sua própria transação, e utiliza um banco próprio.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:transicaolote;DB_CLOSE_DELAY=-1")
+public class ContaTransicaoLoteTest {
+
+    /**
+     * Uma conta além de um bloco completo (ContaServiceImpl.TRANSICAO_CHUNK_SIZE).
+     */
+    private static final int CONTAS = 1001;
+
+    @Autowired
+    private ContaServiceImpl contaService;
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private SaldoClienteServiceImpl saldoClienteService;
+
+    @MockitoSpyBean
+    private ContaRepository contaRepository;
+
+    @Test
+    public void deveInformarAsContasJaAlteradasQuandoUmBlocoFalhar() {
+        // Given
+        ClienteResponseDTO cliente = clienteService.save(new ClienteRequestDTO("Cliente Lote", "606.606.606-06", null, null));
+        List<ContaLoteRequestDTO> lote = new ArrayList<>();
+        for (int i = 0; i < CONTAS - 1; i++) {
+            lote.add(new ContaLoteRequestDTO(cliente.id(), String.format("%02d-%d", i % 12 + 1, 1000 + i / 12),
+                    new BigDecimal("1.00"), Situacao.PENDENTE));
+        }
+        contaService.saveAll(lote);
+        contaService.save(cliente.id(), new ContaRequestDTO("01-2999", new BigDecimal("1.00"), Situacao.PENDENTE));
+        // o primeiro bloco é gravado e o segundo falha (o espião de um repositório delega ao proxy original)
+        Answer<?> original = mockingDetails(contaRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(original).doThrow(new QueryTimeoutException("Tempo esgotado"))
+                .when(contaRepository).updateSituacaoByIdIn(anyCollection(), any(), anyCollection());
+        ContaTransicaoLoteRequestDTO transicao = new ContaTransicaoLoteRequestDTO(Situacao.PAGA, null, cliente.id(), null, null);
+
+        // When & Then
+        assertThatThrownBy(() -> contaService.updateSituacaoAll(transicao))
+                .isInstanceOfSatisfying(TransicaoLoteInterrompidaException.class, e -> {
+                    assertThat(e.getParcial().transicionadas()).isEqualTo(CONTAS - 1);
+                    assertThat(e.getParcial().concluida()).isFalse();
+                });
+        SaldoClienteDTO saldo = saldoClienteService.findByClienteId(cliente.id());
+        assertThat(saldo.quantidadePaga()).isEqualTo(CONTAS - 1);
+        assertThat(saldo.quantidadePendente()).isEqualTo(1);
+
+        // Repetir a requisição conclui a alteração
+        reset(contaRepository);
+        ContaTransicaoLoteResponseDTO repetida = contaService.updateSituacaoAll(transicao);
+        assertThat(repetida.transicionadas()).isEqualTo(1);
+        assertThat(repetida.concluida()).isTrue();
+        assertThat(saldoClienteService.findByClienteId(cliente.id()).quantidadePendente()).isZero();
+    }
+}
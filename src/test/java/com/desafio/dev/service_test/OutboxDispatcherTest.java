@@ -0,0 +1,191 @@
+package com.desafio.dev.service_test;
+
+import com.desafio.dev.ENUMS.Situacao;
+import com.desafio.dev.ENUMS.TipoEventoConta;
+import com.desafio.dev.dtos.cliente.ClienteRequestDTO;
+import com.desafio.dev.dtos.cliente.ClienteResponseDTO;
+import com.desafio.dev.dtos.conta.ContaLoteRequestDTO;
+import com.desafio.dev.dtos.conta.ContaRequestDTO;
+import com.desafio.dev.dtos.conta.ContaResponseDTO;
+import com.desafio.dev.dtos.conta.ContaTransicaoLoteRequestDTO;
+import com.desafio.dev.dtos.outbox.ContaEventoDTO;
+import com.desafio.dev.jobs.OutboxDispatcherJob;
+import com.desafio.dev.outbox.MemoriaContaEventoSink;
+import com.desafio.dev.repository.OutboxEventoRepository;
+import com.desafio.dev.service.implentacion.ClienteServiceImpl;
+import com.desafio.dev.service.implentacion.ContaServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Verifica o registro dos eventos de conta na outbox e o envio em lotes ao destino em memória.
+ * O teste não é transacional, pois cada lote é enviado e removido em sua própria transação,
+ * e utiliza um banco próprio.
+ */
+@SpringBootTest(properties = {"app.outbox.tamanho-lote=2", "app.outbox.particoes=2",
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1"})
+public class OutboxDispatcherTest {
+
+    @Autowired
+    private ContaServiceImpl contaService;
+
+    @Autowired
+    private ClienteServiceImpl clienteService;
+
+    @Autowired
+    private OutboxDispatcherJob outboxDispatcherJob;
+
+    @MockitoSpyBean
+    private MemoriaContaEventoSink sink;
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ClienteResponseDTO cliente;
+
+    @BeforeEach
+    public void setUp() {
+        cliente = clienteService.save(new ClienteRequestDTO("Cliente Outbox", "303.303.303-03", null, null));
+        outboxEventoRepository.deleteAll();
+        sink.limpar();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        clienteService.delete(cliente.id());
+        outboxEventoRepository.deleteAll();
+    }
+
+    @Test
+    public void deveEnviarOsEventosDeCadaContaEmLotesNaOrdemDeGravacao() {
+        ContaResponseDTO conta = contaService.save(cliente.id(),
+                new ContaRequestDTO("01-2025", new BigDecimal("10.50"), Situacao.PENDENTE));
+        contaService.saveAll(List.of(
+                new ContaLoteRequestDTO(cliente.id(), "02-2025", new BigDecimal("20.00"), Situacao.PENDENTE),
+                new ContaLoteRequestDTO(cliente.id(), "03-2025", new BigDecimal("30.00"), Situacao.PAGA)));
+        contaService.update(conta.id(), new ContaRequestDTO("01-2025", new BigDecimal("11.00"), Situacao.PENDENTE));
+        contaService.updateSituacao(conta.id(), Situacao.PAGA);
+        contaService.updateSituacaoAll(new ContaTransicaoLoteRequestDTO(Situacao.CANCELADA, null, cliente.id(), null, null));
+        double enviadosAntes = meterRegistry.counter("outbox.eventos.enviados").count();
+
+        int enviados = outboxDispatcherJob.enviar();
+
+        List<ContaEventoDTO> eventos = sink.getEventos();
+        assertThat(enviados).isEqualTo(8);
+        assertThat(porConta(eventos).values()).allSatisfy(daConta ->
+                assertThat(daConta).extracting(ContaEventoDTO::id).isSorted());
+        List<ContaEventoDTO> daConta = porConta(eventos).get(conta.id());
+        assertThat(daConta).extracting(ContaEventoDTO::tipo).containsExactly(
+                TipoEventoConta.CRIADA, TipoEventoConta.ATUALIZADA,
+                TipoEventoConta.SITUACAO_ALTERADA, TipoEventoConta.SITUACAO_ALTERADA);
+        assertThat(daConta.get(1).valor()).isEqualByComparingTo("11.00");
+        assertThat(daConta.get(1).situacaoAnterior()).isEqualTo(Situacao.PENDENTE);
+        assertThat(daConta.get(2).situacao()).isEqualTo(Situacao.PAGA);
+        assertThat(daConta.get(3).situacaoAnterior()).isEqualTo(Situacao.PAGA);
+        List<ContaEventoDTO> cancelamentos = eventos.stream()
+                .filter(evento -> evento.situacao() == Situacao.CANCELADA).toList();
+        assertThat(cancelamentos).allSatisfy(evento -> {
+            assertThat(evento.idCliente()).isEqualTo(cliente.id());
+            assertThat(evento.tipo()).isEqualTo(TipoEventoConta.SITUACAO_ALTERADA);
+        });
+        assertThat(cancelamentos).extracting(ContaEventoDTO::situacaoAnterior)
+                .containsExactlyInAnyOrder(Situacao.PAGA, Situacao.PENDENTE, Situacao.PAGA);
+        assertThat(outboxEventoRepository.count()).isZero();
+        assertThat(meterRegistry.counter("outbox.eventos.enviados").count() - enviadosAntes).isEqualTo(8);
+        assertThat(outboxDispatcherJob.enviar()).isZero();
+    }
+
+    @Test
+    public void deveManterOLoteNaOutboxQuandoODestinoFalhar() throws Exception {
+        contaService.save(cliente.id(), new ContaRequestDTO("01-2025", new BigDecimal("10.00"), Situacao.PENDENTE));
+        double falhasAntes = meterRegistry.counter("outbox.falhas").count();
+        doThrow(new IOException("destino indisponível")).doCallRealMethod().when(sink).enviar(anyList());
+
+        assertThat(outboxDispatcherJob.enviar()).isZero();
+        assertThat(outboxEventoRepository.count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("outbox.falhas").count() - falhasAntes).isEqualTo(1);
+
+        assertThat(outboxDispatcherJob.enviar()).isEqualTo(1);
+        assertThat(sink.getEventos()).extracting(ContaEventoDTO::tipo).containsExactly(TipoEventoConta.CRIADA);
+    }
+
+    @Test
+    public void deveManterAOrdemDosEventosDaContaQuandoUmLoteDaSuaParticaoFalhar() throws Exception {
+        // Given: duas contas em partições diferentes (ID da conta módulo 2), cada uma com três eventos
+        ContaResponseDTO primeira = contaService.save(cliente.id(),
+                new ContaRequestDTO("01-2025", new BigDecimal("10.00"), Situacao.PENDENTE));
+        ContaResponseDTO segunda = contaService.save(cliente.id(),
+                new ContaRequestDTO("02-2025", new BigDecimal("20.00"), Situacao.PENDENTE));
+        assertThat(primeira.id() % 2).isNotEqualTo(segunda.id() % 2);
+        for (ContaResponseDTO conta : List.of(primeira, segunda)) {
+            contaService.update(conta.id(), new ContaRequestDTO(conta.referencia(), new BigDecimal("30.00"), Situacao.PENDENTE));
+            contaService.updateSituacao(conta.id(), Situacao.PAGA);
+        }
+        // o destino recusa uma vez o primeiro lote da primeira conta
+        AtomicBoolean recusar = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            List<ContaEventoDTO> lote = invocation.getArgument(0);
+            if (lote.get(0).idConta().equals(primeira.id()) && recusar.getAndSet(false)) {
+                throw new IOException("destino indisponível");
+            }
+            return invocation.callRealMethod();
+        }).when(sink).enviar(anyList());
+
+        // When & Then: a outra partição é enviada e nenhum evento da primeira conta passa à frente do lote recusado
+        assertThat(outboxDispatcherJob.enviar()).isEqualTo(3);
+        assertThat(porConta(sink.getEventos())).containsOnlyKeys(segunda.id());
+
+        assertThat(outboxDispatcherJob.enviar()).isEqualTo(3);
+        List<ContaEventoDTO> daPrimeira = porConta(sink.getEventos()).get(primeira.id());
+        assertThat(daPrimeira).extracting(ContaEventoDTO::tipo).containsExactly(
+                TipoEventoConta.CRIADA, TipoEventoConta.ATUALIZADA, TipoEventoConta.SITUACAO_ALTERADA);
+        assertThat(daPrimeira).extracting(ContaEventoDTO::id).isSorted();
+    }
+
+    @Test
+    public void deveRegistrarARemocaoDasContasJuntoComOCliente() {
+        contaService.saveAll(List.of(
+                new ContaLoteRequestDTO(cliente.id(), "01-2025", new BigDecimal("10.00"), Situacao.PENDENTE),
+                new ContaLoteRequestDTO(cliente.id(), "02-2025", new BigDecimal("20.00"), Situacao.PAGA)));
+        outboxDispatcherJob.enviar();
+        sink.limpar();
+
+        clienteService.delete(cliente.id());
+
+        assertThat(outboxDispatcherJob.enviar()).isEqualTo(2);
+        assertThat(sink.getEventos()).allSatisfy(evento -> {
+            assertThat(evento.tipo()).isEqualTo(TipoEventoConta.REMOVIDA);
+            assertThat(evento.idCliente()).isEqualTo(cliente.id());
+        });
+        assertThat(sink.getEventos()).extracting(ContaEventoDTO::situacao)
+                .containsExactlyInAnyOrder(Situacao.PENDENTE, Situacao.PAGA);
+    }
+
+    /**
+     * @param eventos eventos recebidos pelo destino
+     * @return eventos agrupados pelo ID da conta, na ordem em que foram recebidos
+     */
+    private static Map<Long, List<ContaEventoDTO>> porConta(List<ContaEventoDTO> eventos) {
+        return eventos.stream().collect(Collectors.groupingBy(ContaEventoDTO::idConta));
+    }
+}